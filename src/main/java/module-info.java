@@ -2,6 +2,12 @@ module se233.astroboy {
     requires javafx.controls;
     requires javafx.fxml;
     requires org.apache.logging.log4j;
+    // BatchRunner quiets the game loggers while a batch runs
+    requires org.apache.logging.log4j.core;
+    // ImageIO decodes collision masks without the JavaFX toolkit
+    requires java.desktop;
+    // Optional: only used when started with --add-modules jdk.incubator.vector
+    requires static jdk.incubator.vector;
 
     opens se233.astroboy to javafx.fxml;
     exports se233.astroboy;
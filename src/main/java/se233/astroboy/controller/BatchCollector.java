@@ -0,0 +1,101 @@
+package se233.astroboy.controller;
+
+import se233.astroboy.model.CollisionLayer;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+// Aggregates the results of batch games as they finish. Games report from many threads at once, so every figure
+// is a striped adder rather than a field behind a lock; no per-game result is kept, so a million games cost the
+// same memory as ten.
+public class BatchCollector {
+    private static final CollisionLayer[] LAYERS = CollisionLayer.values();
+
+    private final LongAdder games = new LongAdder();
+    private final LongAdder totalScore = new LongAdder();
+    private final LongAccumulator bestScore = new LongAccumulator(Math::max, Long.MIN_VALUE);
+    private final LongAdder totalSurvivalTicks = new LongAdder();
+    private final LongAccumulator longestSurvival = new LongAccumulator(Math::max, 0);
+    private final LongAdder survivors = new LongAdder();
+    private final LongAdder[] deathsByCause = new LongAdder[LAYERS.length];
+    private final LongAdder unknownDeaths = new LongAdder();
+
+    public BatchCollector() {
+        for (int i = 0; i < deathsByCause.length; i++) {
+            deathsByCause[i] = new LongAdder();
+        }
+    }
+
+    // Thread-safe
+    public void add(GameResult result) {
+        games.increment();
+        totalScore.add(result.getScore());
+        bestScore.accumulate(result.getScore());
+        totalSurvivalTicks.add(result.getSurvivalTicks());
+        longestSurvival.accumulate(result.getSurvivalTicks());
+        if (result.isSurvived()) {
+            survivors.increment();
+        } else if (result.getDeathCause() != null) {
+            deathsByCause[result.getDeathCause().ordinal()].increment();
+        } else {
+            unknownDeaths.increment();
+        }
+    }
+
+    public long getGames() {
+        return games.sum();
+    }
+
+    public double getMeanScore() {
+        long count = games.sum();
+        return count == 0 ? 0 : (double) totalScore.sum() / count;
+    }
+
+    public long getBestScore() {
+        return games.sum() == 0 ? 0 : bestScore.get();
+    }
+
+    public double getMeanSurvivalTicks() {
+        long count = games.sum();
+        return count == 0 ? 0 : (double) totalSurvivalTicks.sum() / count;
+    }
+
+    public long getLongestSurvivalTicks() {
+        return longestSurvival.get();
+    }
+
+    public long getSurvivors() {
+        return survivors.sum();
+    }
+
+    public long getDeaths(CollisionLayer cause) {
+        return deathsByCause[cause.ordinal()].sum();
+    }
+
+    public long getUnknownDeaths() {
+        return unknownDeaths.sum();
+    }
+
+    // e.g. "games=1000 score mean=42.5 best=310 survival mean=1830.2 longest=7200 survivors=12
+    //       deaths ASTEROID=700 ENEMY_SHOT=288"
+    public String report() {
+        StringBuilder report = new StringBuilder();
+        report.append("games=").append(getGames())
+                .append(String.format(" score mean=%.1f", getMeanScore()))
+                .append(" best=").append(getBestScore())
+                .append(String.format(" survival mean=%.1f", getMeanSurvivalTicks()))
+                .append(" longest=").append(getLongestSurvivalTicks())
+                .append(" survivors=").append(getSurvivors())
+                .append(" deaths");
+        for (CollisionLayer layer : LAYERS) {
+            long deaths = getDeaths(layer);
+            if (deaths > 0) {
+                report.append(' ').append(layer).append('=').append(deaths);
+            }
+        }
+        if (getUnknownDeaths() > 0) {
+            report.append(" UNKNOWN=").append(getUnknownDeaths());
+        }
+        return report.toString();
+    }
+}
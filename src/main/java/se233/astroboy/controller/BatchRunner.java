@@ -0,0 +1,164 @@
+package se233.astroboy.controller;
+
+import se233.astroboy.model.Assets;
+import se233.astroboy.model.GameRandom;
+import se233.astroboy.model.GameState;
+import se233.astroboy.model.Player;
+import se233.astroboy.model.ScreenWrap;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.core.config.Configurator;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+// Plays many headless games concurrently, one virtual thread per game, for tuning difficulty and trying out bots.
+// Every game has its own World (with its own score, random streams and pools), its own seed and its own input
+// policy, so games never share state; results go to a BatchCollector as each game ends. Games are CPU bound, so at
+// most `concurrency` of them are in flight at once rather than one thread per game of a million-game batch.
+// Game seeds are derived from the batch seed, so a batch can be repeated exactly.
+public class BatchRunner {
+    private static final Logger logger = LogManager.getLogger(BatchRunner.class);
+
+    public static final long DEFAULT_MAX_TICKS = 5 * 60 * 60; // five minutes at 60 ticks per second
+
+    // While a batch runs the game's own loggers only let warnings through: a hit or a new high score logged in
+    // every one of a million games would turn the batch into console output that all the game threads queue for
+    public static final String GAME_LOGGER = "se233.astroboy";
+    public static final Level BATCH_LOG_LEVEL = Level.WARN;
+
+    private final int games;
+    private final long batchSeed;
+    private final long maxTicks;
+    private final Supplier<InputPolicy> policies;
+    private final int concurrency;
+
+    public BatchRunner(int games, long batchSeed, long maxTicks, Supplier<InputPolicy> policies) {
+        this(games, batchSeed, maxTicks, policies, Runtime.getRuntime().availableProcessors());
+    }
+
+    public BatchRunner(int games, long batchSeed, long maxTicks, Supplier<InputPolicy> policies, int concurrency) {
+        if (games < 0) {
+            throw new IllegalArgumentException("Invalid game count: " + games);
+        }
+        if (maxTicks < 1) {
+            throw new IllegalArgumentException("Invalid tick limit: " + maxTicks);
+        }
+        if (policies == null) {
+            throw new IllegalArgumentException("Input policy factory cannot be null");
+        }
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("Invalid concurrency: " + concurrency);
+        }
+        this.games = games;
+        this.batchSeed = batchSeed;
+        this.maxTicks = maxTicks;
+        this.policies = policies;
+        this.concurrency = concurrency;
+    }
+
+    // Seed of the given game of a batch
+    public static long gameSeed(long batchSeed, int game) {
+        return GameRandom.streamSeed(batchSeed, "game" + game);
+    }
+
+    // Play every game and return the aggregate; fails with the first game that threw, once all games are done.
+    // Turns on headless mode and quiets the game loggers while the batch runs, since no game here is ever drawn
+    // or watched, and restores both afterwards.
+    public BatchCollector run() throws InterruptedException {
+        boolean headless = Assets.isHeadless();
+        Level gameLogLevel = LogManager.getLogger(GAME_LOGGER).getLevel();
+        Assets.setHeadless(true);
+        Configurator.setLevel(GAME_LOGGER, BATCH_LOG_LEVEL);
+        long start = System.nanoTime();
+        BatchCollector collector;
+        try {
+            collector = runGames();
+        } finally {
+            Configurator.setLevel(GAME_LOGGER, gameLogLevel);
+            Assets.setHeadless(headless);
+        }
+        logger.info("Batch of {} games took {} ms: {}", games, (System.nanoTime() - start) / 1_000_000,
+                collector.report());
+        return collector;
+    }
+
+    private BatchCollector runGames() throws InterruptedException {
+        BatchCollector collector = new BatchCollector();
+        Semaphore slots = new Semaphore(concurrency);
+        AtomicReference<RuntimeException> failure = new AtomicReference<>();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int game = 0; game < games; game++) {
+                long seed = gameSeed(batchSeed, game);
+                slots.acquire();
+                executor.execute(() -> {
+                    try {
+                        collector.add(playGame(seed));
+                    } catch (RuntimeException e) {
+                        failure.compareAndSet(null,
+                                new IllegalStateException("Batch game with seed " + seed + " failed", e));
+                    } finally {
+                        slots.release();
+                    }
+                });
+            }
+        }
+
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+        return collector;
+    }
+
+    // Play one game on the calling thread until the player is out of lives or the tick limit is reached
+    public GameResult playGame(long seed) {
+        World world = new World(ScreenWrap.WIDTH, ScreenWrap.HEIGHT, seed, ParallelStage.serial());
+        InputPolicy policy = policies.get();
+        InputFrame input = new InputFrame();
+        world.startNewGame();
+
+        long tick = 0;
+        while (tick < maxTicks && world.getGameState() == GameState.PLAYING && world.getPlayer().isAlive()) {
+            policy.decide(world, tick, input);
+            world.applyInput(input);
+            world.tick();
+            tick++;
+        }
+
+        Player player = world.getPlayer();
+        boolean survived = player.isAlive();
+        return new GameResult(seed, world.getScore().getCurrentScore(), tick, survived,
+                survived ? null : player.getLastHitCause());
+    }
+
+    public int getGames() {
+        return games;
+    }
+
+    public long getBatchSeed() {
+        return batchSeed;
+    }
+
+    public long getMaxTicks() {
+        return maxTicks;
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    // Usage: BatchRunner [games] [seed] [maxTicks]; plays the spin-and-fire bot
+    public static void main(String[] args) throws InterruptedException {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 100;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : System.nanoTime();
+        long maxTicks = args.length > 2 ? Long.parseLong(args[2]) : DEFAULT_MAX_TICKS;
+        BatchRunner runner = new BatchRunner(games, seed, maxTicks, InputPolicy::spinAndFire);
+        logger.info("Running {} games from seed {} on {} threads", games, seed, runner.getConcurrency());
+        runner.run();
+    }
+}
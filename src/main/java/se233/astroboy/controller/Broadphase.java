@@ -0,0 +1,37 @@
+package se233.astroboy.controller;
+
+import se233.astroboy.model.Character;
+
+import java.util.List;
+import java.util.function.BiConsumer;
+
+// Finds candidate collision pairs; the narrow-phase checkCollision is left to the caller
+public interface Broadphase<T extends Character> {
+
+    // Replace the stored objects with the given list (call once per tick, after objects have moved)
+    void rebuild(List<? extends T> objects);
+
+    // Objects that may overlap the probe, in the order they were passed to rebuild.
+    // The returned list is reused by the next query.
+    default List<T> query(Character probe) {
+        return query(probe.getSweptMinX(), probe.getSweptMinY(), probe.getSweptMaxX(), probe.getSweptMaxY());
+    }
+
+    // Same, for a (swept) box given by its corners, such as a row of an EntityStore
+    List<T> query(double minX, double minY, double maxX, double maxY);
+
+    // Union of the CollisionLayer bits of the stored objects, so a probe whose layer meets none of them
+    // can be skipped before any bounds math
+    int getLayerMask();
+
+    // Report every candidate pair between the probes and the stored objects
+    default <P extends Character> void findPairs(List<P> probes, BiConsumer<P, T> pairConsumer) {
+        for (int i = 0; i < probes.size(); i++) {
+            P probe = probes.get(i);
+            List<T> candidates = query(probe);
+            for (int j = 0; j < candidates.size(); j++) {
+                pairConsumer.accept(probe, candidates.get(j));
+            }
+        }
+    }
+}
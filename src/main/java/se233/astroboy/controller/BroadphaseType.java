@@ -0,0 +1,41 @@
+package se233.astroboy.controller;
+
+import se233.astroboy.model.Character;
+
+import java.util.Locale;
+
+// Broadphase strategies selectable at startup with -Dastroboy.broadphase=<name>
+public enum BroadphaseType {
+    BRUTE_FORCE,
+    SWEEP_AND_PRUNE,
+    GRID,
+    // Packed columns scanned by the Vector API kernel; falls back to the scalar kernel without the incubator module
+    VECTOR;
+
+    public static final String PROPERTY = "astroboy.broadphase";
+
+    public <T extends Character> Broadphase<T> create(double worldWidth, double worldHeight) {
+        return switch (this) {
+            case BRUTE_FORCE -> new BruteForceBroadphase<>();
+            case SWEEP_AND_PRUNE -> new SweepAndPruneBroadphase<>(worldWidth);
+            case GRID -> new SpatialHashGrid<>(worldWidth, worldHeight);
+            case VECTOR -> new KernelBroadphase<>(CollisionKernel.preferred(), worldWidth, worldHeight);
+        };
+    }
+
+    // Accepts the constant name in any case, with '-' or '_' (e.g. "sweep-and-prune")
+    public static BroadphaseType fromName(String name) {
+        if (name == null || name.isBlank()) {
+            return GRID;
+        }
+        try {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid broadphase: " + name, e);
+        }
+    }
+
+    public static BroadphaseType fromSystemProperty() {
+        return fromName(System.getProperty(PROPERTY));
+    }
+}
@@ -0,0 +1,30 @@
+package se233.astroboy.controller;
+
+import se233.astroboy.model.Character;
+import se233.astroboy.model.CollisionLayer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Reference implementation: every stored object is a candidate for every probe
+public class BruteForceBroadphase<T extends Character> implements Broadphase<T> {
+    private final List<T> entries = new ArrayList<>();
+    private int layerMask;
+
+    @Override
+    public void rebuild(List<? extends T> objects) {
+        entries.clear();
+        entries.addAll(objects);
+        layerMask = CollisionLayer.maskOf(objects);
+    }
+
+    @Override
+    public List<T> query(double minX, double minY, double maxX, double maxY) {
+        return entries;
+    }
+
+    @Override
+    public int getLayerMask() {
+        return layerMask;
+    }
+}
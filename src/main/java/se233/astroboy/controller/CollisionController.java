@@ -1,16 +1,23 @@
 package se233.astroboy.controller;
 
-import javafx.geometry.Bounds;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import se233.astroboy.model.*;
 import se233.astroboy.model.Character;
 
 import java.util.List;
+import java.util.function.Predicate;
 
 public class CollisionController {
     private static final Logger logger = LogManager.getLogger(CollisionController.class);
-    private static final double COLLISION_MARGIN = 1;
+
+    // Optional sprite mask narrow phase after the box test. Off by default, so hits stay the boxes players know;
+    // -Dastroboy.pixelCollision=true turns it on
+    public static final String PIXEL_COLLISION_PROPERTY = "astroboy.pixelCollision";
+    private static volatile boolean pixelCollision = Boolean.getBoolean(PIXEL_COLLISION_PROPERTY);
+
+    // Which layers meet. How many tests each layer pair costs is counted per game, in the World's CollisionCounters
+    private static volatile CollisionMatrix collisionMatrix = CollisionMatrix.defaults();
 
     public static class CollisionHandlingException extends RuntimeException {
         public CollisionHandlingException(String message, Throwable cause) {
@@ -18,65 +25,293 @@ public class CollisionController {
         }
     }
 
+    public static boolean isPixelCollision() {
+        return pixelCollision;
+    }
+
+    public static void setPixelCollision(boolean enabled) {
+        pixelCollision = enabled;
+    }
+
+    public static CollisionMatrix getCollisionMatrix() {
+        return collisionMatrix;
+    }
+
+    public static void setCollisionMatrix(CollisionMatrix matrix) {
+        if (matrix == null) {
+            throw new IllegalArgumentException("Collision matrix cannot be null");
+        }
+        collisionMatrix = matrix;
+    }
+
+    // Layer check first, then the full collision test, without counting
+    public static boolean collides(Character obj1, Character obj2) throws CollisionHandlingException {
+        return collides(obj1, obj2, null);
+    }
+
+    // Layer check first, then the full collision test; counts the pair in counters, when given,
+    // once it gets past the matrix
+    public static boolean collides(Character obj1, Character obj2, CollisionCounters counters)
+            throws CollisionHandlingException {
+        if (obj1 == null || obj2 == null) {
+            throw new CollisionHandlingException("Cannot check collision with a null object", null);
+        }
+        CollisionLayer layer1 = obj1.getCollisionLayer();
+        CollisionLayer layer2 = obj2.getCollisionLayer();
+        if (!collisionMatrix.canCollide(layer1, layer2)) {
+            return false;
+        }
+        boolean hit = checkCollision(obj1, obj2);
+        if (counters != null) {
+            counters.record(layer1, layer2, hit);
+        }
+        return hit;
+    }
+
+    // Compares the cached hit boxes directly, so a check allocates nothing.
+    // Center distances are measured across the screen edges, so a box straddling one edge
+    // can hit a box on the opposite side. Boxes that touch are then checked pixel by pixel when enabled.
     public static boolean checkCollision(Character obj1, Character obj2) throws CollisionHandlingException {
-        try {
-            // Get the bounds of both objects
-            Bounds bounds1 = obj1.getBounds();
-            Bounds bounds2 = obj2.getBounds();
-
-            // Apply collision margin
-            double width1 = bounds1.getWidth() * COLLISION_MARGIN;
-            double height1 = bounds1.getHeight() * COLLISION_MARGIN;
-            double width2 = bounds2.getWidth() * COLLISION_MARGIN;
-            double height2 = bounds2.getHeight() * COLLISION_MARGIN;
-
-            // Calculate centers
-            double centerX1 = bounds1.getMinX() + bounds1.getWidth();
-            double centerY1 = bounds1.getMinY() + bounds1.getHeight();
-            double centerX2 = bounds2.getMinX() + bounds2.getWidth();
-            double centerY2 = bounds2.getMinY() + bounds2.getHeight();
-
-            // Check for collision using center points and adjusted dimensions
-            return Math.abs(centerX1 - centerX2) < (width1 + width2) / 2 &&
-                    Math.abs(centerY1 - centerY2) < (height1 + height2) / 2;
-        } catch (Exception e) {
-            throw new CollisionHandlingException(
-                    String.format("Error checking collision between %s and %s",
-                            obj1.getClass().getSimpleName(),
-                            obj2.getClass().getSimpleName()),
-                    e
-            );
-        }
-    }
-
-    public static void handleCollisions(Player player, List<Asteroid> asteroids, List<Enemy> enemies, List<Boss> boss, List<Projectile> projectiles) {
+        if (!boxesCollide(obj1, obj2)) {
+            return false;
+        }
+        return !pixelCollision || masksOverlap(obj1, obj2);
+    }
+
+    private static boolean boxesCollide(Character obj1, Character obj2) throws CollisionHandlingException {
+        if (obj1 == null || obj2 == null) {
+            throw new CollisionHandlingException("Cannot check collision with a null object", null);
+        }
+        double dx = ScreenWrap.delta(centerX(obj1) - centerX(obj2), ScreenWrap.WIDTH);
+        double dy = ScreenWrap.delta(centerY(obj1) - centerY(obj2), ScreenWrap.HEIGHT);
+        double extentX = halfWidth(obj1) + halfWidth(obj2);
+        double extentY = halfHeight(obj1) + halfHeight(obj2);
+        return boxesCollide(dx, dy, extentX, extentY, obj1.isSwept() || obj2.isSwept(),
+                obj1.getSweepX() - obj2.getSweepX(), obj1.getSweepY() - obj2.getSweepY());
+    }
+
+    // dx/dy is the wrapped center distance, move the motion of the first box relative to the second
+    private static boolean boxesCollide(double dx, double dy, double extentX, double extentY,
+                                        boolean swept, double moveX, double moveY) {
+        if (swept) {
+            return segmentHitsBox(dx - moveX, dy - moveY, moveX, moveY, extentX, extentY);
+        }
+        return Math.abs(dx) < extentX && Math.abs(dy) < extentY;
+    }
+
+    // Layer check and collision test between a shot store row and a body, counted like collides()
+    public static boolean collides(EntityStore bodies, int row, Character other, CollisionCounters counters)
+            throws CollisionHandlingException {
+        if (bodies == null || other == null) {
+            throw new CollisionHandlingException("Cannot check collision with a null object", null);
+        }
+        CollisionLayer layer1 = bodies.getCollisionLayer(row);
+        CollisionLayer layer2 = other.getCollisionLayer();
+        if (!collisionMatrix.canCollide(layer1, layer2)) {
+            return false;
+        }
+        boolean hit = checkCollision(bodies, row, other);
+        if (counters != null) {
+            counters.record(layer1, layer2, hit);
+        }
+        return hit;
+    }
+
+    // Same test as checkCollision(Character, Character), reading the row straight from the store columns.
+    // Rows have no sprite mask, so only the other body's mask can narrow the hit down.
+    public static boolean checkCollision(EntityStore bodies, int row, Character other) throws CollisionHandlingException {
+        if (bodies == null || other == null) {
+            throw new CollisionHandlingException("Cannot check collision with a null object", null);
+        }
+        double minX = bodies.getHitMinX(row);
+        double minY = bodies.getHitMinY(row);
+        double maxX = bodies.getHitMaxX(row);
+        double maxY = bodies.getHitMaxY(row);
+        double dx = ScreenWrap.delta((minX + maxX) * 0.5 - centerX(other), ScreenWrap.WIDTH);
+        double dy = ScreenWrap.delta((minY + maxY) * 0.5 - centerY(other), ScreenWrap.HEIGHT);
+        double extentX = (maxX - minX) * 0.5 + halfWidth(other);
+        double extentY = (maxY - minY) * 0.5 + halfHeight(other);
+        if (!boxesCollide(dx, dy, extentX, extentY, bodies.isSwept(row) || other.isSwept(),
+                bodies.getSweepX(row) - other.getSweepX(), bodies.getSweepY(row) - other.getSweepY())) {
+            return false;
+        }
+        CollisionMask mask = other.getCollisionMask();
+        if (!pixelCollision || mask == null) {
+            return true;
+        }
+        return maskHitsBox(other, mask, bodies.getSweptMinX(row), bodies.getSweptMinY(row),
+                bodies.getSweptMaxX(row), bodies.getSweptMaxY(row));
+    }
+
+    // Slab test of the segment start + t * move (t in [0, 1]) against the box centered on the origin.
+    // The box is the Minkowski sum of both hit boxes, so this catches thin targets a fast projectile jumps over.
+    private static boolean segmentHitsBox(double startX, double startY, double moveX, double moveY,
+                                          double extentX, double extentY) {
+        double tMin = 0;
+        double tMax = 1;
+
+        if (moveX == 0) {
+            if (Math.abs(startX) >= extentX) return false;
+        } else {
+            double t1 = (-extentX - startX) / moveX;
+            double t2 = (extentX - startX) / moveX;
+            tMin = Math.max(tMin, Math.min(t1, t2));
+            tMax = Math.min(tMax, Math.max(t1, t2));
+        }
+
+        if (moveY == 0) {
+            if (Math.abs(startY) >= extentY) return false;
+        } else {
+            double t1 = (-extentY - startY) / moveY;
+            double t2 = (extentY - startY) / moveY;
+            tMin = Math.max(tMin, Math.min(t1, t2));
+            tMax = Math.min(tMax, Math.max(t1, t2));
+        }
+
+        // Only touching the box edge is not a hit, same as the overlap test
+        return tMin < tMax;
+    }
+
+    // Narrow phase on the sprite masks. A body without a mask counts as its whole box,
+    // swept bodies as the box covering their path.
+    private static boolean masksOverlap(Character obj1, Character obj2) {
+        CollisionMask mask1 = obj1.getCollisionMask();
+        CollisionMask mask2 = obj2.getCollisionMask();
+        if (mask1 == null && mask2 == null) {
+            return true;
+        }
+        if (mask1 == null) {
+            return maskHitsBox(obj2, mask2, obj1);
+        }
+        if (mask2 == null) {
+            return maskHitsBox(obj1, mask1, obj2);
+        }
+        int offsetX = (int) Math.round(ScreenWrap.delta(obj2.getHitMinX() - obj1.getHitMinX(), ScreenWrap.WIDTH));
+        int offsetY = (int) Math.round(ScreenWrap.delta(obj2.getHitMinY() - obj1.getHitMinY(), ScreenWrap.HEIGHT));
+        return mask1.overlaps(mask2, offsetX, offsetY);
+    }
+
+    private static boolean maskHitsBox(Character owner, CollisionMask mask, Character box) {
+        return maskHitsBox(owner, mask, box.getSweptMinX(), box.getSweptMinY(), box.getSweptMaxX(), box.getSweptMaxY());
+    }
+
+    private static boolean maskHitsBox(Character owner, CollisionMask mask,
+                                       double minX, double minY, double maxX, double maxY) {
+        double left = ScreenWrap.delta(minX - owner.getHitMinX(), ScreenWrap.WIDTH);
+        double top = ScreenWrap.delta(minY - owner.getHitMinY(), ScreenWrap.HEIGHT);
+        int boxX = (int) Math.floor(left);
+        int boxY = (int) Math.floor(top);
+        int boxWidth = (int) Math.ceil(left + maxX - minX) - boxX;
+        int boxHeight = (int) Math.ceil(top + maxY - minY) - boxY;
+        return mask.overlapsBox(boxX, boxY, boxWidth, boxHeight);
+    }
+
+    private static double centerX(Character obj) {
+        return (obj.getHitMinX() + obj.getHitMaxX()) * 0.5;
+    }
+
+    private static double centerY(Character obj) {
+        return (obj.getHitMinY() + obj.getHitMaxY()) * 0.5;
+    }
+
+    private static double halfWidth(Character obj) {
+        return (obj.getHitMaxX() - obj.getHitMinX()) * 0.5;
+    }
+
+    private static double halfHeight(Character obj) {
+        return (obj.getHitMaxY() - obj.getHitMinY()) * 0.5;
+    }
+
+    // Narrow phase against the broadphase candidates of the probe; returns the first hit in list order
+    public static <T extends Character> T findFirstCollision(Character probe, Broadphase<T> broadphase) throws CollisionHandlingException {
+        return findFirstCollision(probe, broadphase, null);
+    }
+
+    // Same, counting the tests in counters when given
+    public static <T extends Character> T findFirstCollision(Character probe, Broadphase<T> broadphase,
+                                                             CollisionCounters counters) throws CollisionHandlingException {
+        if (!collisionMatrix.canCollideWithAny(probe.getCollisionLayer(), broadphase.getLayerMask())) {
+            return null;
+        }
+        List<T> candidates = broadphase.query(probe);
+        for (int i = 0; i < candidates.size(); i++) {
+            T candidate = candidates.get(i);
+            if (collides(probe, candidate, counters)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    // Single collision pass for the player's shots, the rows of a shot store. Each live row reports at most one
+    // hit: the first live asteroid, else enemy, else boss, so hits come out in row order and resolve
+    // deterministically. Targets already marked for destruction are skipped. Tests are counted in counters when given.
+    public static void findProjectileHits(EntityStore shots, Broadphase<Asteroid> asteroids,
+                                          Broadphase<Enemy> enemies, Broadphase<Boss> bosses,
+                                          List<ProjectileHit> hits, CollisionCounters counters)
+            throws CollisionHandlingException {
+        if (shots == null) {
+            throw new CollisionHandlingException("Cannot check collisions of a null shot store", null);
+        }
+        for (int row = 0; row < shots.size(); row++) {
+            if (shots.isRemoved(row)) {
+                continue;
+            }
+            Character target = findFirstLiveCollision(shots, row, asteroids, Asteroid::isMarkedForDestruction, counters);
+            if (target != null) {
+                hits.add(new ProjectileHit(row, target, ProjectileHit.Kind.ASTEROID));
+                continue;
+            }
+            target = findFirstLiveCollision(shots, row, enemies, Enemy::isMarkedForDestructionEnemy, counters);
+            if (target != null) {
+                hits.add(new ProjectileHit(row, target, ProjectileHit.Kind.ENEMY));
+                continue;
+            }
+            target = findFirstLiveCollision(shots, row, bosses, Boss::isMarkedForDestructionBoss, counters);
+            if (target != null) {
+                hits.add(new ProjectileHit(row, target, ProjectileHit.Kind.BOSS));
+            }
+        }
+    }
+
+    // Broadphase query with the row's swept box, then the narrow phase in list order
+    private static <T extends Character> T findFirstLiveCollision(EntityStore shots, int row, Broadphase<T> broadphase,
+                                                                  Predicate<T> destroyed,
+                                                                  CollisionCounters counters) {
+        if (!collisionMatrix.canCollideWithAny(shots.getCollisionLayer(row), broadphase.getLayerMask())) {
+            return null;
+        }
+        List<T> candidates = broadphase.query(shots.getSweptMinX(row), shots.getSweptMinY(row),
+                shots.getSweptMaxX(row), shots.getSweptMaxY(row));
+        for (int i = 0; i < candidates.size(); i++) {
+            T candidate = candidates.get(i);
+            if (!destroyed.test(candidate) && collides(shots, row, candidate, counters)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    public static void handleCollisions(Player player, Broadphase<Asteroid> asteroids, Broadphase<Enemy> enemies,
+                                        Broadphase<Boss> boss, CollisionCounters counters) {
         try {
             if (!player.isInvulnerable()) {
                 // Check player collision with asteroids
-                for (Asteroid asteroid : asteroids) {
-                    if (checkCollision(player, asteroid)) {
-                        player.hit();
-                        logger.info("Player hit by asteroid. Lives remaining: {}", player.getLives());
-                        break;
-                    }
+                if (findFirstCollision(player, asteroids, counters) != null) {
+                    player.hit(CollisionLayer.ASTEROID);
+                    logger.info("Player hit by asteroid. Lives remaining: {}", player.getLives());
                 }
 
                 // Check player collision with enemies
-                for (Enemy enemy : enemies) {
-                    if (checkCollision(player, enemy)) {
-                        player.hit();
-                        logger.info("Player hit by enemy. Lives remaining: {}", player.getLives());
-                        break;
-                    }
+                if (findFirstCollision(player, enemies, counters) != null) {
+                    player.hit(CollisionLayer.ENEMY);
+                    logger.info("Player hit by enemy. Lives remaining: {}", player.getLives());
                 }
 
                 // Check player collision with bosses
-                for (Boss boss1 : boss) {
-                    if (checkCollision(player, boss1)) {
-                        player.hit();
-                        logger.info("Player hit by boss. Lives remaining: {}", player.getLives());
-                        break;
-                    }
+                if (findFirstCollision(player, boss, counters) != null) {
+                    player.hit(CollisionLayer.BOSS);
+                    logger.info("Player hit by boss. Lives remaining: {}", player.getLives());
                 }
             }
         } catch (CollisionHandlingException e) {
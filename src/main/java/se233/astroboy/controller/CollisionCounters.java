@@ -0,0 +1,60 @@
+package se233.astroboy.controller;
+
+import se233.astroboy.model.CollisionLayer;
+
+import java.util.Arrays;
+
+// Narrow-phase tests run and hits found per unordered layer pair, for profiling the collision matrix.
+// Counts are plain longs; each World owns a set and passes it to CollisionController, so games never share one.
+public class CollisionCounters {
+    private static final int LAYERS = CollisionLayer.values().length;
+
+    private final long[] tests = new long[LAYERS * LAYERS];
+    private final long[] hits = new long[LAYERS * LAYERS];
+
+    public void record(CollisionLayer a, CollisionLayer b, boolean hit) {
+        int index = index(a, b);
+        tests[index]++;
+        if (hit) {
+            hits[index]++;
+        }
+    }
+
+    public long getTests(CollisionLayer a, CollisionLayer b) {
+        return tests[index(a, b)];
+    }
+
+    public long getHits(CollisionLayer a, CollisionLayer b) {
+        return hits[index(a, b)];
+    }
+
+    public void reset() {
+        Arrays.fill(tests, 0);
+        Arrays.fill(hits, 0);
+    }
+
+    // One line per layer pair that was tested, e.g. "PLAYER_SHOT/ASTEROID tests=120 hits=3"
+    public String report() {
+        StringBuilder report = new StringBuilder();
+        CollisionLayer[] layers = CollisionLayer.values();
+        for (int a = 0; a < LAYERS; a++) {
+            for (int b = a; b < LAYERS; b++) {
+                int index = a * LAYERS + b;
+                if (tests[index] > 0) {
+                    report.append(layers[a]).append('/').append(layers[b])
+                            .append(" tests=").append(tests[index])
+                            .append(" hits=").append(hits[index])
+                            .append(System.lineSeparator());
+                }
+            }
+        }
+        return report.toString();
+    }
+
+    // Pairs are unordered, so (a, b) and (b, a) share a slot
+    private static int index(CollisionLayer a, CollisionLayer b) {
+        int low = Math.min(a.ordinal(), b.ordinal());
+        int high = Math.max(a.ordinal(), b.ordinal());
+        return low * LAYERS + high;
+    }
+}
@@ -0,0 +1,25 @@
+package se233.astroboy.controller;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+// Tests one probe box against every packed target box, with the same wrapped overlap rule as checkCollision
+public interface CollisionKernel {
+
+    // Writes the indices of the overlapping targets into hits in ascending order, returns how many were written.
+    // hits must be at least targets.size() long.
+    int overlaps(double minX, double minY, double maxX, double maxY, TargetColumns targets, int[] hits);
+
+    String VECTOR_MODULE = "jdk.incubator.vector";
+
+    // The Vector API kernel when the incubator module is resolved (--add-modules jdk.incubator.vector),
+    // the scalar kernel otherwise
+    static CollisionKernel preferred() {
+        if (ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent()) {
+            return new VectorCollisionKernel();
+        }
+        Logger logger = LogManager.getLogger(CollisionKernel.class);
+        logger.warn("Module {} is not available, falling back to the scalar collision kernel", VECTOR_MODULE);
+        return new ScalarCollisionKernel();
+    }
+}
@@ -0,0 +1,50 @@
+package se233.astroboy.controller;
+
+import se233.astroboy.model.CollisionLayer;
+
+// Which collision layers can hit each other, one bitmask of partner layers per layer.
+// Kept symmetric: enabling PLAYER with ASTEROID also enables ASTEROID with PLAYER.
+public class CollisionMatrix {
+    private final int[] masks = new int[CollisionLayer.values().length];
+
+    // The pairs the game resolves: the player against every hostile layer and pickups,
+    // player shots against asteroids, enemies and the boss
+    public static CollisionMatrix defaults() {
+        CollisionMatrix matrix = new CollisionMatrix();
+        matrix.enable(CollisionLayer.PLAYER, CollisionLayer.ASTEROID);
+        matrix.enable(CollisionLayer.PLAYER, CollisionLayer.ENEMY);
+        matrix.enable(CollisionLayer.PLAYER, CollisionLayer.BOSS);
+        matrix.enable(CollisionLayer.PLAYER, CollisionLayer.ENEMY_SHOT);
+        matrix.enable(CollisionLayer.PLAYER, CollisionLayer.BOSS_SHOT);
+        matrix.enable(CollisionLayer.PLAYER, CollisionLayer.PICKUP);
+        matrix.enable(CollisionLayer.PLAYER_SHOT, CollisionLayer.ASTEROID);
+        matrix.enable(CollisionLayer.PLAYER_SHOT, CollisionLayer.ENEMY);
+        matrix.enable(CollisionLayer.PLAYER_SHOT, CollisionLayer.BOSS);
+        return matrix;
+    }
+
+    public CollisionMatrix enable(CollisionLayer a, CollisionLayer b) {
+        masks[a.ordinal()] |= b.bit();
+        masks[b.ordinal()] |= a.bit();
+        return this;
+    }
+
+    public CollisionMatrix disable(CollisionLayer a, CollisionLayer b) {
+        masks[a.ordinal()] &= ~b.bit();
+        masks[b.ordinal()] &= ~a.bit();
+        return this;
+    }
+
+    public boolean canCollide(CollisionLayer a, CollisionLayer b) {
+        return (masks[a.ordinal()] & b.bit()) != 0;
+    }
+
+    // True when the layer meets any layer in layerBits (a union of CollisionLayer.bit() values)
+    public boolean canCollideWithAny(CollisionLayer layer, int layerBits) {
+        return (masks[layer.ordinal()] & layerBits) != 0;
+    }
+
+    public int getMask(CollisionLayer layer) {
+        return masks[layer.ordinal()];
+    }
+}
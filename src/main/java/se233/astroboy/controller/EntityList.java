@@ -0,0 +1,184 @@
+package se233.astroboy.controller;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
+
+// Dense entity list with O(1) removal. removeLater() only marks an entity during a pass; compact() then fills each
+// hole with the last entity, so a tick where many bullets die costs one move per removal instead of an array shift.
+// Order is not kept across compact(), but stays deterministic: the same adds and removals give the same order.
+// Code that holds on to an entity across ticks can keep a handle, which resolves to null once the entity is gone.
+public class EntityList<T> extends AbstractList<T> implements RandomAccess {
+    private Object[] items = new Object[16];
+    private int size;
+
+    // Handles are (generation << 32 | slot); a slot's generation changes every time its entity leaves the list
+    private int[] slotOf = new int[16];     // dense index -> slot
+    private int[] indexOf = new int[0];     // slot -> dense index
+    private int[] generation = new int[0];  // slot -> current generation
+    private int[] freeSlots = new int[0];
+    private int freeSlotCount;
+
+    private boolean[] pending = new boolean[16];
+    private int[] pendingIndices = new int[16];
+    private int pendingCount;
+
+    @Override
+    public boolean add(T entity) {
+        if (entity == null) {
+            throw new IllegalArgumentException("Cannot add null to an entity list");
+        }
+        if (size == items.length) {
+            int capacity = size * 2;
+            items = Arrays.copyOf(items, capacity);
+            slotOf = Arrays.copyOf(slotOf, capacity);
+            pending = Arrays.copyOf(pending, capacity);
+        }
+        int slot = allocateSlot();
+        items[size] = entity;
+        slotOf[size] = slot;
+        pending[size] = false;
+        indexOf[slot] = size;
+        size++;
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        checkIndex(index);
+        return (T) items[index];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    // Mark an entity for removal at the next compact(); it stays visible at its index until then
+    public void removeLater(int index) {
+        checkIndex(index);
+        if (pending[index]) {
+            return;
+        }
+        pending[index] = true;
+        if (pendingCount == pendingIndices.length) {
+            pendingIndices = Arrays.copyOf(pendingIndices, pendingCount * 2);
+        }
+        pendingIndices[pendingCount++] = index;
+    }
+
+    public boolean isRemovalPending(int index) {
+        checkIndex(index);
+        return pending[index];
+    }
+
+    public int getPendingRemovals() {
+        return pendingCount;
+    }
+
+    public int compact() {
+        return compact(null);
+    }
+
+    // Remove the marked entities, handing each to onRemoved (a pool release, say) once it has left the list
+    @SuppressWarnings("unchecked")
+    public int compact(Consumer<? super T> onRemoved) {
+        int removed = pendingCount;
+        // Highest index first: everything after the current hole is then live, so the last entity can fill it
+        Arrays.sort(pendingIndices, 0, pendingCount);
+        for (int p = pendingCount - 1; p >= 0; p--) {
+            int index = pendingIndices[p];
+            T entity = (T) items[index];
+            releaseSlot(slotOf[index]);
+
+            int last = size - 1;
+            if (index != last) {
+                items[index] = items[last];
+                slotOf[index] = slotOf[last];
+                indexOf[slotOf[index]] = index;
+            }
+            items[last] = null;
+            pending[index] = false;
+            pending[last] = false;
+            size--;
+
+            if (onRemoved != null) {
+                onRemoved.accept(entity);
+            }
+        }
+        pendingCount = 0;
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+        clear(null);
+    }
+
+    // Drop every entity, pending or not, handing each to onRemoved
+    @SuppressWarnings("unchecked")
+    public void clear(Consumer<? super T> onRemoved) {
+        for (int i = 0; i < size; i++) {
+            T entity = (T) items[i];
+            releaseSlot(slotOf[i]);
+            items[i] = null;
+            pending[i] = false;
+            if (onRemoved != null) {
+                onRemoved.accept(entity);
+            }
+        }
+        size = 0;
+        pendingCount = 0;
+    }
+
+    // Handle of the entity at an index; valid until the entity is compacted away or cleared
+    public long handleOf(int index) {
+        checkIndex(index);
+        int slot = slotOf[index];
+        return ((long) generation[slot] << 32) | slot;
+    }
+
+    // The entity behind a handle, or null once it has left the list
+    @SuppressWarnings("unchecked")
+    public T resolve(long handle) {
+        int slot = (int) handle;
+        if (slot < 0 || slot >= generation.length || generation[slot] != (int) (handle >>> 32)) {
+            return null;
+        }
+        int index = indexOf[slot];
+        return index < 0 ? null : (T) items[index];
+    }
+
+    private int allocateSlot() {
+        if (freeSlotCount > 0) {
+            return freeSlots[--freeSlotCount];
+        }
+        int slot = indexOf.length;
+        int capacity = Math.max(16, slot * 2);
+        indexOf = Arrays.copyOf(indexOf, capacity);
+        generation = Arrays.copyOf(generation, capacity);
+        if (freeSlots.length < capacity) {
+            freeSlots = Arrays.copyOf(freeSlots, capacity);
+        }
+        // Hand out the new slots lowest first
+        for (int s = capacity - 1; s > slot; s--) {
+            indexOf[s] = -1;
+            freeSlots[freeSlotCount++] = s;
+        }
+        return slot;
+    }
+
+    private void releaseSlot(int slot) {
+        indexOf[slot] = -1;
+        generation[slot]++;
+        freeSlots[freeSlotCount++] = slot;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package se233.astroboy.controller;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+// Turns a stream of frame timestamps into a whole number of fixed-length simulation steps.
+// Leftover time is carried in an accumulator, so the simulation runs at the tick rate whatever the display rate.
+// At most maxCatchUpSteps run per frame; beyond that the backlog is dropped and the game slows down
+// instead of spiralling.
+public class FixedTimestep {
+    private static final Logger logger = LogManager.getLogger(FixedTimestep.class);
+
+    public static final String TICK_RATE_PROPERTY = "astroboy.tickRate";
+    public static final String MAX_CATCH_UP_PROPERTY = "astroboy.maxCatchUpSteps";
+    public static final int DEFAULT_TICK_RATE = 60;
+    public static final int DEFAULT_MAX_CATCH_UP_STEPS = 5;
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final int tickRate;
+    private final long stepNanos;
+    private final int maxCatchUpSteps;
+
+    private long lastTime = -1;
+    private long accumulator;
+    private long droppedSteps;
+
+    public FixedTimestep(int tickRate, int maxCatchUpSteps) {
+        if (tickRate <= 0) {
+            throw new IllegalArgumentException("Invalid tick rate: " + tickRate);
+        }
+        if (maxCatchUpSteps <= 0) {
+            throw new IllegalArgumentException("Invalid max catch-up steps: " + maxCatchUpSteps);
+        }
+        this.tickRate = tickRate;
+        this.stepNanos = NANOS_PER_SECOND / tickRate;
+        this.maxCatchUpSteps = maxCatchUpSteps;
+    }
+
+    // Reads -Dastroboy.tickRate and -Dastroboy.maxCatchUpSteps
+    public static FixedTimestep fromSystemProperties() {
+        return new FixedTimestep(Integer.getInteger(TICK_RATE_PROPERTY, DEFAULT_TICK_RATE),
+                Integer.getInteger(MAX_CATCH_UP_PROPERTY, DEFAULT_MAX_CATCH_UP_STEPS));
+    }
+
+    // Adds the time since the previous call and returns how many steps to run now.
+    // The first call only starts the clock.
+    public int advance(long nowNanos) {
+        if (lastTime < 0) {
+            lastTime = nowNanos;
+            return 0;
+        }
+        accumulator += Math.max(0, nowNanos - lastTime);
+        lastTime = nowNanos;
+
+        long due = accumulator / stepNanos;
+        int steps = (int) Math.min(due, maxCatchUpSteps);
+        accumulator -= steps * stepNanos;
+        if (due > steps) {
+            // Too far behind: keep the fraction of a step, drop the rest
+            droppedSteps += due - steps;
+            accumulator %= stepNanos;
+            logger.debug("Simulation fell behind, dropped {} steps", due - steps);
+        }
+        return steps;
+    }
+
+    // How far the clock is into the next step, from 0 to 1; renderers interpolate with it
+    public double getAlpha() {
+        return (double) accumulator / stepNanos;
+    }
+
+    public double getStepSeconds() {
+        return (double) stepNanos / NANOS_PER_SECOND;
+    }
+
+    public long getStepNanos() {
+        return stepNanos;
+    }
+
+    // Time left until another step is due, for a loop that sleeps between steps
+    public long getNanosUntilNextStep() {
+        return stepNanos - accumulator;
+    }
+
+    public int getTickRate() {
+        return tickRate;
+    }
+
+    public int getMaxCatchUpSteps() {
+        return maxCatchUpSteps;
+    }
+
+    public long getDroppedSteps() {
+        return droppedSteps;
+    }
+
+    public void reset() {
+        lastTime = -1;
+        accumulator = 0;
+    }
+}
@@ -0,0 +1,249 @@
+package se233.astroboy.controller;
+
+import se233.astroboy.model.*;
+
+import java.util.Arrays;
+
+// Everything the renderer needs from one simulation tick: the game state, the HUD values, the player, and one row
+// per drawn body in draw order. The simulation thread fills it with capture(); the FX thread only reads it, so the
+// renderer never touches a live entity. Instances are recycled through a TripleBuffer, so capture() reuses the
+// arrays instead of allocating a frame's worth of objects every tick.
+public class FrameSnapshot {
+    public enum Kind {
+        ASTEROID,
+        ENEMY,
+        BOSS,
+        PLAYER_SHOT,
+        ENEMY_SHOT,
+        BOSS_SHOT,
+        EXPLOSION,
+        BOMB_EXPLOSION
+    }
+
+    // Tick timing, for interpolating between the previous and current positions
+    private long tick;
+    private long capturedNanos;
+    private long stepNanos = 1;
+
+    private GameState gameState = GameState.MENU;
+    private double textAlpha = 1.0;
+
+    // HUD
+    private int score;
+    private int highScore;
+    private boolean newHighScore;
+    private int combo;
+    private int lives;
+    private double bombCooldown;
+
+    // Player; not drawn once it is out of lives
+    private boolean playerVisible;
+    private double playerX;
+    private double playerY;
+    private double playerPreviousX;
+    private double playerPreviousY;
+    private double playerRotation;
+    private int playerFrameWidth;
+    private int playerFrameHeight;
+    private AtlasSprite playerBody;
+    private int playerBodyFrame;
+    private boolean playerBlinking;
+    private AtlasSprite playerHitImage;
+    private int playerHitFrame;
+    private AtlasSprite playerShootEffectImage;
+    private int playerShootEffectFrame;
+
+    // Body rows. Explosions keep their centre in x/y and their frame size in width/height
+    private int size;
+    private Kind[] kinds = new Kind[64];
+    private AtlasSprite[] images = new AtlasSprite[64];
+    private double[] x = new double[64];
+    private double[] y = new double[64];
+    private double[] previousX = new double[64];
+    private double[] previousY = new double[64];
+    private double[] rotation = new double[64];
+    private double[] width = new double[64];
+    private double[] height = new double[64];
+    private int[] frame = new int[64];
+    private int[] hp = new int[64];
+    private int[] maxHp = new int[64];
+
+    // Copy the render state of the world; called on the simulation thread after a tick
+    public void capture(World world, double textAlpha, long tick, long capturedNanos, long stepNanos) {
+        this.tick = tick;
+        this.capturedNanos = capturedNanos;
+        this.stepNanos = stepNanos;
+        this.gameState = world.getGameState();
+        this.textAlpha = textAlpha;
+
+        Score worldScore = world.getScore();
+        score = worldScore.getCurrentScore();
+        highScore = worldScore.getHighScore();
+        newHighScore = worldScore.isHighScore();
+        combo = worldScore.getCombo();
+
+        Player player = world.getPlayer();
+        lives = player.getLives();
+        bombCooldown = player.getBombCooldown();
+        capturePlayer(player);
+
+        // Rows go in the order the renderer draws them
+        clearRows();
+        EntityList<Asteroid> asteroids = world.getAsteroids();
+        for (int i = 0; i < asteroids.size(); i++) {
+            Asteroid a = asteroids.get(i);
+            addRow(Kind.ASTEROID, a.getImage(), a.getX(), a.getY(), a.getPreviousX(), a.getPreviousY(),
+                    a.getRotation(), a.getWidth(), a.getHeight(), 0, a.getCurrentHp(), a.getMaxHp());
+        }
+        EntityList<Enemy> enemies = world.getEnemies();
+        for (int i = 0; i < enemies.size(); i++) {
+            Enemy e = enemies.get(i);
+            addRow(Kind.ENEMY, e.getImage(), e.getX(), e.getY(), e.getPreviousX(), e.getPreviousY(),
+                    e.getRotation(), e.getWidth(), e.getHeight(), 0, e.getCurrentHp(), e.getMaxHp());
+        }
+        EntityList<Boss> bosses = world.getBoss();
+        for (int i = 0; i < bosses.size(); i++) {
+            Boss b = bosses.get(i);
+            addRow(Kind.BOSS, b.getImage(), b.getX(), b.getY(), b.getPreviousX(), b.getPreviousY(),
+                    b.getRotation(), b.getWidth(), b.getHeight(), b.getCurrentFrame(), b.getCurrentHp(), b.getMaxHp());
+        }
+        addShotRows(Kind.PLAYER_SHOT, world.getProjectiles());
+        addShotRows(Kind.ENEMY_SHOT, world.getEnemyShots());
+        addShotRows(Kind.BOSS_SHOT, world.getBossShots());
+        EntityList<Explosion> explosions = world.getExplosions();
+        for (int i = 0; i < explosions.size(); i++) {
+            Explosion e = explosions.get(i);
+            if (!e.isFinished()) {
+                addRow(Kind.EXPLOSION, e.getSpriteSheet(), e.getX(), e.getY(), e.getX(), e.getY(), 0,
+                        e.getFrameWidth(), e.getFrameHeight(), e.getCurrentFrame(), 0, 0);
+            }
+        }
+        EntityList<BombExplosion> bombExplosions = world.getBombExplosions();
+        for (int i = 0; i < bombExplosions.size(); i++) {
+            BombExplosion e = bombExplosions.get(i);
+            if (!e.isFinished()) {
+                addRow(Kind.BOMB_EXPLOSION, e.getSpriteSheet(), e.getX(), e.getY(), e.getX(), e.getY(), 0,
+                        e.getFrameWidth(), e.getFrameHeight(), e.getCurrentFrame(), 0, 0);
+            }
+        }
+    }
+
+    private void capturePlayer(Player player) {
+        playerVisible = player.isAlive();
+        playerX = player.getX();
+        playerY = player.getY();
+        playerPreviousX = player.getPreviousX();
+        playerPreviousY = player.getPreviousY();
+        playerRotation = player.getRotation();
+        playerFrameWidth = player.getFrameWidth();
+        playerFrameHeight = player.getFrameHeight();
+        playerBody = player.getBodyImage();
+        playerBodyFrame = player.getBodyFrame();
+        playerBlinking = player.isBlinking();
+        playerHitImage = player.getHitImage();
+        playerHitFrame = player.getHitFrame();
+        playerShootEffectImage = player.getShootEffectImage();
+        playerShootEffectFrame = player.getShootEffectFrame();
+    }
+
+    private void addShotRows(Kind kind, EntityStore shots) {
+        for (int row = 0; row < shots.size(); row++) {
+            addRow(kind, null, shots.getX(row), shots.getY(row), shots.getPreviousX(row), shots.getPreviousY(row),
+                    shots.getRotation(row), shots.getWidth(row), shots.getHeight(row), 0, 0, 0);
+        }
+    }
+
+    public void clearRows() {
+        // Drop the image references so a recycled snapshot doesn't keep old sprites reachable
+        Arrays.fill(images, 0, size, null);
+        size = 0;
+    }
+
+    public int addRow(Kind kind, AtlasSprite image, double x, double y, double previousX, double previousY,
+                      double rotation, double width, double height, int frame, int hp, int maxHp) {
+        if (kind == null) {
+            throw new IllegalArgumentException("Row kind cannot be null");
+        }
+        if (size == kinds.length) {
+            grow();
+        }
+        int row = size++;
+        kinds[row] = kind;
+        images[row] = image;
+        this.x[row] = x;
+        this.y[row] = y;
+        this.previousX[row] = previousX;
+        this.previousY[row] = previousY;
+        this.rotation[row] = rotation;
+        this.width[row] = width;
+        this.height[row] = height;
+        this.frame[row] = frame;
+        this.hp[row] = hp;
+        this.maxHp[row] = maxHp;
+        return row;
+    }
+
+    private void grow() {
+        int capacity = kinds.length * 2;
+        kinds = Arrays.copyOf(kinds, capacity);
+        images = Arrays.copyOf(images, capacity);
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        previousX = Arrays.copyOf(previousX, capacity);
+        previousY = Arrays.copyOf(previousY, capacity);
+        rotation = Arrays.copyOf(rotation, capacity);
+        width = Arrays.copyOf(width, capacity);
+        height = Arrays.copyOf(height, capacity);
+        frame = Arrays.copyOf(frame, capacity);
+        hp = Arrays.copyOf(hp, capacity);
+        maxHp = Arrays.copyOf(maxHp, capacity);
+    }
+
+    // How far the clock at nowNanos is past this tick, in steps from 0 to 1; the renderer interpolates with it
+    public double alphaAt(long nowNanos) {
+        double alpha = (double) (nowNanos - capturedNanos) / stepNanos;
+        return Math.max(0, Math.min(1, alpha));
+    }
+
+    public long getTick() { return tick; }
+    public long getCapturedNanos() { return capturedNanos; }
+    public GameState getGameState() { return gameState; }
+    public double getTextAlpha() { return textAlpha; }
+
+    public int getScore() { return score; }
+    public int getHighScore() { return highScore; }
+    public boolean isNewHighScore() { return newHighScore; }
+    public int getCombo() { return combo; }
+    public int getLives() { return lives; }
+    public double getBombCooldown() { return bombCooldown; }
+
+    public boolean isPlayerVisible() { return playerVisible; }
+    public double getPlayerX() { return playerX; }
+    public double getPlayerY() { return playerY; }
+    public double getPlayerPreviousX() { return playerPreviousX; }
+    public double getPlayerPreviousY() { return playerPreviousY; }
+    public double getPlayerRotation() { return playerRotation; }
+    public int getPlayerFrameWidth() { return playerFrameWidth; }
+    public int getPlayerFrameHeight() { return playerFrameHeight; }
+    public AtlasSprite getPlayerBody() { return playerBody; }
+    public int getPlayerBodyFrame() { return playerBodyFrame; }
+    public boolean isPlayerBlinking() { return playerBlinking; }
+    public AtlasSprite getPlayerHitImage() { return playerHitImage; }
+    public int getPlayerHitFrame() { return playerHitFrame; }
+    public AtlasSprite getPlayerShootEffectImage() { return playerShootEffectImage; }
+    public int getPlayerShootEffectFrame() { return playerShootEffectFrame; }
+
+    public int size() { return size; }
+    public Kind getKind(int row) { return kinds[row]; }
+    public AtlasSprite getImage(int row) { return images[row]; }
+    public double getX(int row) { return x[row]; }
+    public double getY(int row) { return y[row]; }
+    public double getPreviousX(int row) { return previousX[row]; }
+    public double getPreviousY(int row) { return previousY[row]; }
+    public double getRotation(int row) { return rotation[row]; }
+    public double getWidth(int row) { return width[row]; }
+    public double getHeight(int row) { return height[row]; }
+    public int getFrame(int row) { return frame[row]; }
+    public int getHp(int row) { return hp[row]; }
+    public int getMaxHp(int row) { return maxHp[row]; }
+}
@@ -0,0 +1,42 @@
+package se233.astroboy.controller;
+
+import se233.astroboy.model.CollisionLayer;
+
+// Outcome of one batch game. The death cause is what took the last life, or null when the game ran out of ticks
+// (or the last hit came from something that doesn't report a cause).
+public class GameResult {
+    private final long seed;
+    private final int score;
+    private final long survivalTicks;
+    private final boolean survived;
+    private final CollisionLayer deathCause;
+
+    public GameResult(long seed, int score, long survivalTicks, boolean survived, CollisionLayer deathCause) {
+        this.seed = seed;
+        this.score = score;
+        this.survivalTicks = survivalTicks;
+        this.survived = survived;
+        this.deathCause = deathCause;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public long getSurvivalTicks() {
+        return survivalTicks;
+    }
+
+    // Still alive when the tick limit was reached
+    public boolean isSurvived() {
+        return survived;
+    }
+
+    public CollisionLayer getDeathCause() {
+        return deathCause;
+    }
+}
@@ -0,0 +1,47 @@
+package se233.astroboy.controller;
+
+import javafx.scene.input.KeyCode;
+
+// What a key does in the game; an InputFrame holds one bit per action
+public enum InputAction {
+    THRUST,        // W
+    REVERSE,       // S
+    STRAFE_LEFT,   // A
+    STRAFE_RIGHT,  // D
+    ROTATE_LEFT,   // LEFT
+    ROTATE_RIGHT,  // RIGHT
+    FIRE,          // SPACE, also starts a game from the menu and game over screens
+    BOMB;          // B
+
+    private static final InputAction[] ACTIONS = values();
+
+    // Actions the player holds down, as opposed to the ones that trigger on a press
+    public static final int MOVEMENT_MASK = THRUST.bit() | REVERSE.bit() | STRAFE_LEFT.bit() | STRAFE_RIGHT.bit()
+            | ROTATE_LEFT.bit() | ROTATE_RIGHT.bit();
+
+    public int bit() {
+        return 1 << ordinal();
+    }
+
+    public static InputAction fromOrdinal(int ordinal) {
+        return ACTIONS[ordinal];
+    }
+
+    // The action bound to a key, or null for keys the game doesn't use
+    public static InputAction forKey(KeyCode code) {
+        if (code == null) {
+            return null;
+        }
+        return switch (code) {
+            case W -> THRUST;
+            case S -> REVERSE;
+            case A -> STRAFE_LEFT;
+            case D -> STRAFE_RIGHT;
+            case LEFT -> ROTATE_LEFT;
+            case RIGHT -> ROTATE_RIGHT;
+            case SPACE -> FIRE;
+            case B -> BOMB;
+            default -> null;
+        };
+    }
+}
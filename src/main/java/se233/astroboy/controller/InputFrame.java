@@ -0,0 +1,65 @@
+package se233.astroboy.controller;
+
+// The input of one simulation tick as two bitsets over InputAction: the actions held down at the end of the tick,
+// and the actions pressed during it. A press and release between two ticks still shows up as pressed, so a short
+// tap is never lost. The whole frame packs into one int, which is what an InputRecording stores.
+public final class InputFrame {
+    private static final int PRESSED_SHIFT = 16;
+    private static final int BITS_MASK = (1 << PRESSED_SHIFT) - 1;
+
+    private long tick;
+    private int held;
+    private int pressed;
+
+    public InputFrame() {
+    }
+
+    public InputFrame(long tick, int held, int pressed) {
+        set(tick, held, pressed);
+    }
+
+    public void set(long tick, int held, int pressed) {
+        if ((held & ~BITS_MASK) != 0 || (pressed & ~BITS_MASK) != 0) {
+            throw new IllegalArgumentException("Input bits out of range: " + held + ", " + pressed);
+        }
+        this.tick = tick;
+        this.held = held;
+        this.pressed = pressed;
+    }
+
+    // Held now, or pressed at some point during the tick
+    public boolean isDown(InputAction action) {
+        return ((held | pressed) & action.bit()) != 0;
+    }
+
+    public boolean isHeld(InputAction action) {
+        return (held & action.bit()) != 0;
+    }
+
+    public boolean wasPressed(InputAction action) {
+        return (pressed & action.bit()) != 0;
+    }
+
+    public boolean isEmpty() {
+        return held == 0 && pressed == 0;
+    }
+
+    public long getTick() { return tick; }
+    public int getHeld() { return held; }
+    public int getPressed() { return pressed; }
+
+    // held in the low 16 bits, pressed in the high 16
+    public int encode() {
+        return pressed << PRESSED_SHIFT | held;
+    }
+
+    public void decode(long tick, int encoded) {
+        set(tick, encoded & BITS_MASK, encoded >>> PRESSED_SHIFT);
+    }
+
+    @Override
+    public String toString() {
+        return "InputFrame{tick=" + tick + ", held=" + Integer.toBinaryString(held)
+                + ", pressed=" + Integer.toBinaryString(pressed) + "}";
+    }
+}
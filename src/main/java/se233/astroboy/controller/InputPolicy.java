@@ -0,0 +1,28 @@
+package se233.astroboy.controller;
+
+import se233.astroboy.model.Player;
+
+// Decides the input of every tick for a game without a keyboard, such as the games of a BatchRunner.
+// A policy may keep state between ticks; each game gets its own instance, so it never sees another game.
+public interface InputPolicy {
+    // Fill out with the input for the coming tick; the world is read-only here
+    void decide(World world, long tick, InputFrame out);
+
+    // Never touches a key
+    static InputPolicy idle() {
+        return (world, tick, out) -> out.set(tick, 0, 0);
+    }
+
+    // Spins on the spot, fires whenever the gun is ready and thrusts in bursts: a cheap baseline bot
+    static InputPolicy spinAndFire() {
+        return (world, tick, out) -> {
+            Player player = world.getPlayer();
+            int held = InputAction.ROTATE_LEFT.bit();
+            if (tick % 240 < 60) {
+                held |= InputAction.THRUST.bit();
+            }
+            int pressed = player.canShoot() ? InputAction.FIRE.bit() : 0;
+            out.set(tick, held, pressed);
+        };
+    }
+}
@@ -0,0 +1,77 @@
+package se233.astroboy.controller;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// Timestamped input events on their way from the FX thread to the simulation thread.
+// A single-producer/single-consumer ring: the producer only writes the tail and the consumer only writes the head,
+// so offer() and drain() are each a bounded number of steps with no locks and no retries. When the ring is full an
+// event is dropped and counted rather than blocking the FX thread.
+// An event is an int chosen by the caller (InputSystem packs an action and press/release into it) plus the
+// System.nanoTime() at which it happened.
+public class InputQueue {
+    public static final int DEFAULT_CAPACITY = 256;
+
+    private final int[] events;
+    private final long[] timestamps;
+    private final int mask;
+    private final AtomicLong head = new AtomicLong();  // next event to read, written by the consumer
+    private final AtomicLong tail = new AtomicLong();  // next free slot, written by the producer
+    // Written only by the producer, read by whoever reports it, such as the simulation thread
+    private volatile long dropped;
+
+    public InputQueue() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public InputQueue(int capacity) {
+        if (capacity < 1 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two: " + capacity);
+        }
+        this.events = new int[capacity];
+        this.timestamps = new long[capacity];
+        this.mask = capacity - 1;
+    }
+
+    // Producer side; false if the ring was full and the event was dropped
+    public boolean offer(int event, long nanos) {
+        long t = tail.get();
+        if (t - head.get() == events.length) {
+            dropped++;
+            return false;
+        }
+        int slot = (int) t & mask;
+        events[slot] = event;
+        timestamps[slot] = nanos;
+        // Release store: the slot is written before the consumer can see the new tail
+        tail.lazySet(t + 1);
+        return true;
+    }
+
+    // Consumer side: hand every queued event to the handler, oldest first; returns how many there were
+    public int drain(EventHandler handler) {
+        long h = head.get();
+        long t = tail.get();
+        for (long i = h; i < t; i++) {
+            int slot = (int) i & mask;
+            handler.onEvent(events[slot], timestamps[slot]);
+        }
+        head.lazySet(t);
+        return (int) (t - h);
+    }
+
+    public int size() {
+        return (int) (tail.get() - head.get());
+    }
+
+    public int capacity() {
+        return events.length;
+    }
+
+    public long getDropped() {
+        return dropped;
+    }
+
+    public interface EventHandler {
+        void onEvent(int event, long nanos);
+    }
+}
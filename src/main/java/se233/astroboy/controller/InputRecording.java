@@ -0,0 +1,71 @@
+package se233.astroboy.controller;
+
+import java.util.Arrays;
+
+// The input of a run of ticks, stored as (tick, encoded frame) pairs for the ticks where the input changed.
+// Holding a key for a minute costs two entries, so a whole game fits in a few kilobytes. Played back into a
+// seeded World, it reproduces the game.
+public class InputRecording {
+    private long[] ticks = new long[64];
+    private int[] frames = new int[64];
+    private int size;
+    private long firstTick = -1;
+    private long lastTick = -1;
+
+    // Frames must come in tick order, one per tick
+    public void record(InputFrame frame) {
+        long tick = frame.getTick();
+        if (lastTick >= 0 && tick <= lastTick) {
+            throw new IllegalArgumentException("Tick " + tick + " recorded after tick " + lastTick);
+        }
+        int encoded = frame.encode();
+        if (firstTick < 0) {
+            firstTick = tick;
+        }
+        // A gap in the ticks means no input for them, which needs its own entry unless nothing was held
+        if (size > 0 && tick > lastTick + 1 && frames[size - 1] != 0) {
+            append(lastTick + 1, 0);
+        }
+        if (size == 0 || frames[size - 1] != encoded) {
+            append(tick, encoded);
+        }
+        lastTick = tick;
+    }
+
+    private void append(long tick, int encoded) {
+        if (size == ticks.length) {
+            ticks = Arrays.copyOf(ticks, size * 2);
+            frames = Arrays.copyOf(frames, size * 2);
+        }
+        ticks[size] = tick;
+        frames[size] = encoded;
+        size++;
+    }
+
+    // Fill out with the recorded input of a tick; ticks outside the recording have no input
+    public InputFrame frameAt(long tick, InputFrame out) {
+        if (size == 0 || tick < firstTick || tick > lastTick) {
+            out.set(tick, 0, 0);
+            return out;
+        }
+        int index = Arrays.binarySearch(ticks, 0, size, tick);
+        if (index < 0) {
+            index = -index - 2;  // last change before the tick
+        }
+        out.decode(tick, frames[index]);
+        return out;
+    }
+
+    // Number of stored changes, the size of the recording
+    public int getChangeCount() {
+        return size;
+    }
+
+    public long getFirstTick() {
+        return firstTick;
+    }
+
+    public long getLastTick() {
+        return lastTick;
+    }
+}
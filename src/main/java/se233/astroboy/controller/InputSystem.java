@@ -0,0 +1,118 @@
+package se233.astroboy.controller;
+
+import javafx.scene.input.KeyCode;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+// Input from the keyboard to the simulation. The FX thread turns key events into timestamped action transitions
+// on an InputQueue; at the start of every tick the simulation thread folds the transitions that arrived into an
+// InputFrame and applies that to the world. Nothing but the queue is shared between the two threads.
+// Folding also measures how long each transition waited for its tick, and can record the frames for replay.
+public class InputSystem {
+    private static final Logger logger = LogManager.getLogger(InputSystem.class);
+
+    private final InputQueue queue;
+    private final InputFrame frame = new InputFrame();
+    private InputRecording recording;
+
+    // Simulation thread only
+    private int held;
+    private int pressed;
+    private long foldNanos;
+
+    // Input-to-tick latency, simulation thread only
+    private long latencyCount;
+    private long latencyTotal;
+    private long latencyMin = Long.MAX_VALUE;
+    private long latencyMax;
+    private long lastLatency;
+
+    public InputSystem() {
+        this(new InputQueue());
+    }
+
+    public InputSystem(InputQueue queue) {
+        if (queue == null) {
+            throw new IllegalArgumentException("Input queue cannot be null");
+        }
+        this.queue = queue;
+    }
+
+    // FX thread: queue a key transition; keys the game doesn't use are ignored
+    public boolean keyEvent(KeyCode code, boolean isPressed, long nanos) {
+        InputAction action = InputAction.forKey(code);
+        if (action == null) {
+            return false;
+        }
+        boolean queued = queue.offer(action.ordinal() << 1 | (isPressed ? 1 : 0), nanos);
+        if (!queued) {
+            logger.warn("Input queue full, dropped {} {}", code, isPressed ? "press" : "release");
+        }
+        return queued;
+    }
+
+    // Simulation thread: the input of the given tick, from every transition queued before nowNanos.
+    // The frame is reused, so it is only valid until the next poll.
+    public InputFrame poll(long tick, long nowNanos) {
+        pressed = 0;
+        foldNanos = nowNanos;
+        queue.drain(this::fold);
+        frame.set(tick, held, pressed);
+        if (recording != null) {
+            recording.record(frame);
+        }
+        return frame;
+    }
+
+    private void fold(int event, long nanos) {
+        int bit = InputAction.fromOrdinal(event >>> 1).bit();
+        if ((event & 1) != 0) {
+            // Key repeat sends more presses while a key is held; each one counts, as it always has for firing
+            held |= bit;
+            pressed |= bit;
+        } else {
+            held &= ~bit;
+        }
+
+        long latency = Math.max(0, foldNanos - nanos);
+        latencyCount++;
+        latencyTotal += latency;
+        latencyMin = Math.min(latencyMin, latency);
+        latencyMax = Math.max(latencyMax, latency);
+        lastLatency = latency;
+    }
+
+    // Record every polled frame from now on into the given recording; null stops recording
+    public void setRecording(InputRecording recording) {
+        this.recording = recording;
+    }
+
+    public InputRecording getRecording() {
+        return recording;
+    }
+
+    public long getEventCount() { return latencyCount; }
+    public long getMinLatencyNanos() { return latencyCount == 0 ? 0 : latencyMin; }
+    public long getMaxLatencyNanos() { return latencyMax; }
+    public long getLastLatencyNanos() { return lastLatency; }
+    public long getDroppedEvents() { return queue.getDropped(); }
+
+    public double getMeanLatencyNanos() {
+        return latencyCount == 0 ? 0 : (double) latencyTotal / latencyCount;
+    }
+
+    public void resetStatistics() {
+        latencyCount = 0;
+        latencyTotal = 0;
+        latencyMin = Long.MAX_VALUE;
+        latencyMax = 0;
+        lastLatency = 0;
+    }
+
+    // e.g. "input events=42 latency mean=3.1ms min=0.2ms max=16.4ms dropped=0"
+    public String report() {
+        return String.format("input events=%d latency mean=%.1fms min=%.1fms max=%.1fms dropped=%d",
+                latencyCount, getMeanLatencyNanos() / 1e6, getMinLatencyNanos() / 1e6, latencyMax / 1e6,
+                queue.getDropped());
+    }
+}
@@ -0,0 +1,53 @@
+package se233.astroboy.controller;
+
+import se233.astroboy.model.Character;
+import se233.astroboy.model.CollisionLayer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Brute-force scan over packed target columns. With the vector kernel the scan runs several targets per instruction,
+// which keeps it competitive with the grid for moderate entity counts.
+public class KernelBroadphase<T extends Character> implements Broadphase<T> {
+    private final CollisionKernel kernel;
+    private final TargetColumns columns;
+    private final List<T> entries = new ArrayList<>();
+    private int layerMask;
+    private final List<T> results = new ArrayList<>();
+    private int[] hits = new int[16];
+
+    public KernelBroadphase(CollisionKernel kernel, double worldWidth, double worldHeight) {
+        this.kernel = kernel;
+        this.columns = new TargetColumns(worldWidth, worldHeight);
+    }
+
+    @Override
+    public void rebuild(List<? extends T> objects) {
+        entries.clear();
+        entries.addAll(objects);
+        layerMask = CollisionLayer.maskOf(objects);
+        columns.fill(entries);
+        if (hits.length < entries.size()) {
+            hits = new int[Math.max(entries.size(), hits.length * 2)];
+        }
+    }
+
+    @Override
+    public List<T> query(double minX, double minY, double maxX, double maxY) {
+        results.clear();
+        int found = kernel.overlaps(minX, minY, maxX, maxY, columns, hits);
+        for (int i = 0; i < found; i++) {
+            results.add(entries.get(hits[i]));
+        }
+        return results;
+    }
+
+    public CollisionKernel getKernel() {
+        return kernel;
+    }
+
+    @Override
+    public int getLayerMask() {
+        return layerMask;
+    }
+}
@@ -0,0 +1,192 @@
+package se233.astroboy.controller;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+// Runs a per-entity update over a list in chunks on a ForkJoinPool. The task may only touch its own entity
+// (reading shared state such as the player is fine); anything with side effects on the world, like spawning a shot
+// or removing a dead entity, is flagged instead. Each chunk collects its flags in its own buffer, and the buffers
+// are merged in chunk order, so the caller applies the side effects serially in list order and the result is the
+// same as a serial loop. Lists below the threshold just run serially on the calling thread.
+// -Dastroboy.parallelism=<threads> sizes the pool (1 keeps everything serial),
+// -Dastroboy.parallelThreshold=<entities> sets the list size where splitting starts to pay off.
+public class ParallelStage {
+    public static final String PARALLELISM_PROPERTY = "astroboy.parallelism";
+    public static final String THRESHOLD_PROPERTY = "astroboy.parallelThreshold";
+    public static final int DEFAULT_THRESHOLD = 4096;
+    public static final int DEFAULT_CHUNK_SIZE = 1024;
+
+    // Worlds built from the properties share one pool rather than starting threads each
+    private static ForkJoinPool sharedPool;
+
+    // Update one entity; return true to have its index handed back for the serial follow-up
+    public interface Task<T> {
+        boolean update(T entity);
+    }
+
+    private final ForkJoinPool pool;
+    private final int threshold;
+    private final int chunkSize;
+
+    // One flag buffer per chunk, reused from tick to tick
+    private int[][] chunkFlags = new int[0][];
+    private int[] chunkFlagCounts = new int[0];
+    private int[] flagged = new int[16];
+    private int flaggedCount;
+
+    public ParallelStage(ForkJoinPool pool, int threshold, int chunkSize) {
+        if (threshold < 0) {
+            throw new IllegalArgumentException("Invalid parallel threshold: " + threshold);
+        }
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Invalid chunk size: " + chunkSize);
+        }
+        this.pool = pool;
+        this.threshold = threshold;
+        this.chunkSize = chunkSize;
+    }
+
+    // Serial everywhere: what a pool-less stage does
+    public static ParallelStage serial() {
+        return new ParallelStage(null, Integer.MAX_VALUE, DEFAULT_CHUNK_SIZE);
+    }
+
+    public static ParallelStage fromSystemProperties() {
+        int parallelism = readInt(PARALLELISM_PROPERTY, ForkJoinPool.getCommonPoolParallelism());
+        int threshold = readInt(THRESHOLD_PROPERTY, DEFAULT_THRESHOLD);
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Invalid " + PARALLELISM_PROPERTY + ": " + parallelism);
+        }
+        if (parallelism == 1) {
+            return serial();
+        }
+        ForkJoinPool pool = parallelism == ForkJoinPool.getCommonPoolParallelism()
+                ? ForkJoinPool.commonPool() : sharedPool(parallelism);
+        return new ParallelStage(pool, threshold, DEFAULT_CHUNK_SIZE);
+    }
+
+    private static synchronized ForkJoinPool sharedPool(int parallelism) {
+        if (sharedPool == null || sharedPool.getParallelism() != parallelism) {
+            sharedPool = new ForkJoinPool(parallelism);
+        }
+        return sharedPool;
+    }
+
+    private static int readInt(String property, int defaultValue) {
+        String value = System.getProperty(property);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + property + ": " + value, e);
+        }
+    }
+
+    // Update every entity and return how many were flagged; their indices are in getFlagged(), ascending
+    public <T> int run(List<T> entities, Task<T> task) {
+        int size = entities.size();
+        flaggedCount = 0;
+        if (pool == null || size < threshold || size <= chunkSize) {
+            for (int i = 0; i < size; i++) {
+                if (task.update(entities.get(i))) {
+                    addFlagged(i);
+                }
+            }
+            return flaggedCount;
+        }
+
+        int chunks = (size + chunkSize - 1) / chunkSize;
+        ensureChunkBuffers(chunks);
+        pool.invoke(new ChunkAction<>(entities, task, 0, chunks));
+
+        // Merge in chunk order, so flags come back in list order
+        for (int c = 0; c < chunks; c++) {
+            int[] buffer = chunkFlags[c];
+            for (int k = 0; k < chunkFlagCounts[c]; k++) {
+                addFlagged(buffer[k]);
+            }
+        }
+        return flaggedCount;
+    }
+
+    public int[] getFlagged() {
+        return flagged;
+    }
+
+    public boolean isParallel() {
+        return pool != null;
+    }
+
+    public int getParallelism() {
+        return pool == null ? 1 : pool.getParallelism();
+    }
+
+    public int getThreshold() {
+        return threshold;
+    }
+
+    private void addFlagged(int index) {
+        if (flaggedCount == flagged.length) {
+            flagged = Arrays.copyOf(flagged, flaggedCount * 2);
+        }
+        flagged[flaggedCount++] = index;
+    }
+
+    private void ensureChunkBuffers(int chunks) {
+        if (chunkFlags.length < chunks) {
+            int oldLength = chunkFlags.length;
+            chunkFlags = Arrays.copyOf(chunkFlags, chunks);
+            chunkFlagCounts = Arrays.copyOf(chunkFlagCounts, chunks);
+            for (int c = oldLength; c < chunks; c++) {
+                chunkFlags[c] = new int[16];
+            }
+        }
+    }
+
+    // Splits the chunk range in halves until a single chunk is left, then updates that chunk.
+    // Serializable only because ForkJoinTask is; an action never leaves the pool
+    @SuppressWarnings("serial")
+    private class ChunkAction<T> extends RecursiveAction {
+        private final List<T> entities;
+        private final Task<T> task;
+        private final int firstChunk;
+        private final int endChunk;
+
+        ChunkAction(List<T> entities, Task<T> task, int firstChunk, int endChunk) {
+            this.entities = entities;
+            this.task = task;
+            this.firstChunk = firstChunk;
+            this.endChunk = endChunk;
+        }
+
+        @Override
+        protected void compute() {
+            if (endChunk - firstChunk > 1) {
+                int middle = (firstChunk + endChunk) >>> 1;
+                invokeAll(new ChunkAction<>(entities, task, firstChunk, middle),
+                        new ChunkAction<>(entities, task, middle, endChunk));
+                return;
+            }
+            int chunk = firstChunk;
+            int from = chunk * chunkSize;
+            int to = Math.min(from + chunkSize, entities.size());
+            int[] buffer = chunkFlags[chunk];
+            int count = 0;
+            for (int i = from; i < to; i++) {
+                if (task.update(entities.get(i))) {
+                    if (count == buffer.length) {
+                        buffer = Arrays.copyOf(buffer, count * 2);
+                    }
+                    buffer[count++] = i;
+                }
+            }
+            // Written by this chunk only; invoke() publishes them to the merging thread
+            chunkFlags[chunk] = buffer;
+            chunkFlagCounts[chunk] = count;
+        }
+    }
+}
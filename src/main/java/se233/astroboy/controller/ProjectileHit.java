@@ -0,0 +1,33 @@
+package se233.astroboy.controller;
+
+import se233.astroboy.model.Character;
+
+// One player projectile, a row of the shot store, hitting one target; found by the collision pass and resolved
+// afterwards, before the store is compacted, so the row still points at the same shot
+public class ProjectileHit {
+    public enum Kind {
+        ASTEROID, ENEMY, BOSS
+    }
+
+    private final int row;
+    private final Character target;
+    private final Kind kind;
+
+    public ProjectileHit(int row, Character target, Kind kind) {
+        this.row = row;
+        this.target = target;
+        this.kind = kind;
+    }
+
+    public int getRow() {
+        return row;
+    }
+
+    public Character getTarget() {
+        return target;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+}
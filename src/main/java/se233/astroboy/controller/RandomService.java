@@ -0,0 +1,75 @@
+package se233.astroboy.controller;
+
+import se233.astroboy.model.GameRandom;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+// The random streams of one world, all derived from a single seed. Each subsystem draws from its own named stream,
+// so extra draws in one (an enemy firing more often, say) don't shift what the others see.
+// -Dastroboy.seed=<long> fixes the seed of worlds created without one, for reproducible runs and benchmarks.
+public class RandomService {
+    public static final String SEED_PROPERTY = "astroboy.seed";
+
+    // Stream names used by World
+    public static final String SPAWN = "spawn";
+    public static final String ASTEROIDS = "asteroids";
+    public static final String ENEMIES = "enemies";
+    public static final String BOSS = "boss";
+
+    private final long seed;
+    private final Map<String, GameRandom> streams = new LinkedHashMap<>();
+
+    public RandomService(long seed) {
+        this.seed = seed;
+    }
+
+    // The configured seed, or a fresh one when the property is unset
+    public static long seedFromSystemProperty() {
+        String value = System.getProperty(SEED_PROPERTY);
+        if (value == null) {
+            return ThreadLocalRandom.current().nextLong();
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + SEED_PROPERTY + ": " + value, e);
+        }
+    }
+
+    // The stream with this name, created on first use; it only depends on the seed and the name
+    public GameRandom stream(String name) {
+        return streams.computeIfAbsent(name, key -> new GameRandom(GameRandom.streamSeed(seed, key)));
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    // Copy of every stream's state, keyed by name
+    public Map<String, long[]> saveState() {
+        Map<String, long[]> state = new LinkedHashMap<>();
+        for (Map.Entry<String, GameRandom> entry : streams.entrySet()) {
+            state.put(entry.getKey(), entry.getValue().saveState());
+        }
+        return state;
+    }
+
+    // Put the streams back to a saved state; streams created since the save restart from their seed.
+    // Generators are restored in place, since entities keep references to them
+    public void restoreState(Map<String, long[]> state) {
+        if (state == null) {
+            throw new IllegalArgumentException("Random state cannot be null");
+        }
+        for (Map.Entry<String, GameRandom> entry : streams.entrySet()) {
+            if (!state.containsKey(entry.getKey())) {
+                GameRandom fresh = new GameRandom(GameRandom.streamSeed(seed, entry.getKey()));
+                entry.getValue().restoreState(fresh.saveState());
+            }
+        }
+        for (Map.Entry<String, long[]> entry : state.entrySet()) {
+            stream(entry.getKey()).restoreState(entry.getValue());
+        }
+    }
+}
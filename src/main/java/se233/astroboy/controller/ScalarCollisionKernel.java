@@ -0,0 +1,41 @@
+package se233.astroboy.controller;
+
+import se233.astroboy.model.ScreenWrap;
+
+public class ScalarCollisionKernel implements CollisionKernel {
+
+    @Override
+    public int overlaps(double minX, double minY, double maxX, double maxY, TargetColumns targets, int[] hits) {
+        double width = targets.getWorldWidth();
+        double height = targets.getWorldHeight();
+        double probeX = ScreenWrap.wrap((minX + maxX) * 0.5, width);
+        double probeY = ScreenWrap.wrap((minY + maxY) * 0.5, height);
+        double probeHalfWidth = (maxX - minX) * 0.5;
+        double probeHalfHeight = (maxY - minY) * 0.5;
+
+        double[] centerX = targets.centerX();
+        double[] centerY = targets.centerY();
+        double[] halfWidth = targets.halfWidth();
+        double[] halfHeight = targets.halfHeight();
+        int found = 0;
+        for (int i = 0; i < targets.size(); i++) {
+            double dx = fold(centerX[i] - probeX, width);
+            double dy = fold(centerY[i] - probeY, height);
+            if (dx < halfWidth[i] + probeHalfWidth && dy < halfHeight[i] + probeHalfHeight) {
+                hits[found++] = i;
+            }
+        }
+        return found;
+    }
+
+    // Both centers are inside the stage, so the difference is within one stage size and one compare folds it
+    // across the edge; the scalar twin of VectorCollisionKernel.fold, without ScreenWrap.delta's floating-point %
+    static double fold(double d, double size) {
+        if (d > size / 2) {
+            d -= size;
+        } else if (d < -size / 2) {
+            d += size;
+        }
+        return Math.abs(d);
+    }
+}
@@ -0,0 +1,147 @@
+package se233.astroboy.controller;
+
+import javafx.scene.input.KeyCode;
+import se233.astroboy.model.Character;
+import se233.astroboy.model.GameState;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.concurrent.locks.LockSupport;
+
+// Runs the World on its own thread, so a slow tick never holds up a JavaFX pulse and ticking and drawing can
+// overlap on separate cores. The world is touched by the simulation thread only. Key transitions come in through
+// an InputSystem, and after every batch of ticks a FrameSnapshot goes out through a TripleBuffer; neither side
+// takes a lock or waits for the other.
+public class SimulationLoop implements Runnable {
+    private static final Logger logger = LogManager.getLogger(SimulationLoop.class);
+
+    private final World world;
+    private final FixedTimestep timestep;
+    private final InputSystem input;
+    private final TripleBuffer<FrameSnapshot> snapshots;
+
+    private volatile boolean running;
+    // Why the simulation thread died, for the FX thread to notice; null while it is healthy
+    private volatile Throwable failure;
+    private Thread thread;
+    private long tick;
+
+    // Menu animation
+    private double textAlpha = 1.0;
+    private double textAlphaChange = -0.02;
+
+    public SimulationLoop(World world, FixedTimestep timestep) {
+        this(world, timestep, new InputSystem());
+    }
+
+    public SimulationLoop(World world, FixedTimestep timestep, InputSystem input) {
+        if (world == null || timestep == null || input == null) {
+            throw new IllegalArgumentException("Simulation needs a world, a timestep and an input system");
+        }
+        this.world = world;
+        this.timestep = timestep;
+        this.input = input;
+        this.snapshots = new TripleBuffer<>(FrameSnapshot::new);
+    }
+
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        failure = null;
+        thread = new Thread(this, "simulation");
+        // Don't keep the JVM alive once the window is closed
+        thread.setDaemon(true);
+        thread.start();
+        logger.info("Simulation thread started at {} ticks per second, catching up at most {} per wakeup",
+                timestep.getTickRate(), timestep.getMaxCatchUpSteps());
+    }
+
+    public synchronized void stop() throws InterruptedException {
+        if (!running) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(thread);
+        thread.join();
+        logger.info("Simulation thread stopped after {} ticks, {}", tick, input.report());
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (running) {
+                int steps = timestep.advance(System.nanoTime());
+                for (int i = 0; i < steps; i++) {
+                    step();
+                }
+                if (steps > 0) {
+                    publish(System.nanoTime());
+                }
+                // Sleep until the next step is due; parkNanos may wake early, advance() then just returns 0
+                LockSupport.parkNanos(timestep.getNanosUntilNextStep());
+            }
+        } catch (Throwable e) {
+            // Errors too: the thread ends either way, and the renderer must not keep drawing a frozen world
+            failure = e;
+            running = false;
+            logger.error("Simulation thread failed at tick " + tick, e);
+        }
+    }
+
+    // One tick: apply the input that came in since the last one, then advance the world. Simulation thread only
+    public void step() {
+        world.applyInput(input.poll(tick, System.nanoTime()));
+        double dt = timestep.getStepSeconds();
+        world.tick(dt);
+        if (world.getGameState() != GameState.PLAYING) {
+            updateTextFade(dt);
+        }
+        tick++;
+    }
+
+    // Capture the world into the free snapshot and hand it to the renderer. Simulation thread only
+    public void publish(long nowNanos) {
+        snapshots.getWriteBuffer().capture(world, textAlpha, tick, nowNanos, timestep.getStepNanos());
+        snapshots.publish();
+    }
+
+    // FX thread: the newest snapshot, valid until the next call
+    public FrameSnapshot acquireSnapshot() {
+        return snapshots.acquire();
+    }
+
+    // FX thread: queue a key transition for the next tick, stamped with the time it happened
+    public boolean submitKey(KeyCode code, boolean pressed) {
+        return input.keyEvent(code, pressed, System.nanoTime());
+    }
+
+    private void updateTextFade(double dt) {
+        textAlpha += textAlphaChange * dt / Character.REFERENCE_DT;
+        if (textAlpha <= 0 || textAlpha >= 1) {
+            textAlphaChange *= -1;
+        }
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    // What stopped the simulation thread, or null if it hasn't failed
+    public Throwable getFailure() {
+        return failure;
+    }
+
+    public long getTick() {
+        return tick;
+    }
+
+    public World getWorld() {
+        return world;
+    }
+
+    public InputSystem getInput() {
+        return input;
+    }
+}
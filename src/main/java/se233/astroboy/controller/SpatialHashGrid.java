@@ -0,0 +1,168 @@
+package se233.astroboy.controller;
+
+import se233.astroboy.model.Character;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// Uniform grid over the stage used as collision broadphase.
+// Suits many small bodies such as projectile storms.
+// Objects are bucketed by their cached hit box, grown to cover the path of swept bodies. Cell indices wrap
+// around like the stage does, so a box straddling an edge is stored in the cells on both sides.
+public class SpatialHashGrid<T extends Character> implements Broadphase<T> {
+    public static final double DEFAULT_CELL_SIZE = 64;
+
+    private final double cellWidth;
+    private final double cellHeight;
+    private final int columns;
+    private final int rows;
+
+    // Each cell holds indices into entries, so a query never allocates
+    private final int[][] cellItems;
+    private final int[] cellCounts;
+
+    private final List<T> entries = new ArrayList<>();
+    private int layerMask;
+    private final List<T> results = new ArrayList<>();
+    private int[] lastQueried = new int[16];
+    private int[] candidates = new int[16];
+    private int queryStamp = 0;
+
+    public SpatialHashGrid(double worldWidth, double worldHeight) {
+        this(worldWidth, worldHeight, DEFAULT_CELL_SIZE);
+    }
+
+    public SpatialHashGrid(double worldWidth, double worldHeight, double cellSize) {
+        if (cellSize <= 0) {
+            throw new IllegalArgumentException("Invalid cell size: " + cellSize);
+        }
+        this.columns = (int) Math.ceil(worldWidth / cellSize);
+        this.rows = (int) Math.ceil(worldHeight / cellSize);
+        // Cells are stretched slightly so they tile the stage exactly, which keeps wrapping consistent
+        this.cellWidth = worldWidth / columns;
+        this.cellHeight = worldHeight / rows;
+        this.cellItems = new int[columns * rows][4];
+        this.cellCounts = new int[columns * rows];
+    }
+
+    // Clear the grid and insert every object of the list (call once per tick)
+    @Override
+    public void rebuild(List<? extends T> objects) {
+        Arrays.fill(cellCounts, 0);
+        entries.clear();
+        layerMask = 0;
+        for (T object : objects) {
+            insert(object);
+        }
+    }
+
+    public void insert(T object) {
+        int index = entries.size();
+        entries.add(object);
+        layerMask |= object.getCollisionLayer().bit();
+        if (index >= lastQueried.length) {
+            lastQueried = Arrays.copyOf(lastQueried, lastQueried.length * 2);
+        }
+        lastQueried[index] = 0;
+
+        int minCol = column(object.getSweptMinX());
+        int maxCol = lastColumn(minCol, object.getSweptMaxX());
+        int minRow = row(object.getSweptMinY());
+        int maxRow = lastRow(minRow, object.getSweptMaxY());
+        for (int r = minRow; r <= maxRow; r++) {
+            for (int c = minCol; c <= maxCol; c++) {
+                addToCell(cell(c, r), index);
+            }
+        }
+    }
+
+    // Returns the objects sharing at least one cell with the probe, in the order they were inserted.
+    // The returned list is reused by the next query.
+    @Override
+    public List<T> query(double minX, double minY, double maxX, double maxY) {
+        results.clear();
+        if (entries.isEmpty()) {
+            return results;
+        }
+        queryStamp++;
+        int count = 0;
+
+        int minCol = column(minX);
+        int maxCol = lastColumn(minCol, maxX);
+        int minRow = row(minY);
+        int maxRow = lastRow(minRow, maxY);
+        for (int r = minRow; r <= maxRow; r++) {
+            for (int c = minCol; c <= maxCol; c++) {
+                int cell = cell(c, r);
+                int[] items = cellItems[cell];
+                for (int i = 0; i < cellCounts[cell]; i++) {
+                    int index = items[i];
+                    // An object spanning several cells is only reported once
+                    if (lastQueried[index] != queryStamp) {
+                        lastQueried[index] = queryStamp;
+                        if (count == candidates.length) {
+                            candidates = Arrays.copyOf(candidates, count * 2);
+                        }
+                        candidates[count++] = index;
+                    }
+                }
+            }
+        }
+
+        // Keep the same order as a plain loop over the list
+        Arrays.sort(candidates, 0, count);
+        for (int i = 0; i < count; i++) {
+            results.add(entries.get(candidates[i]));
+        }
+        return results;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    @Override
+    public int getLayerMask() {
+        return layerMask;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    private void addToCell(int cell, int index) {
+        int count = cellCounts[cell];
+        if (count == cellItems[cell].length) {
+            cellItems[cell] = Arrays.copyOf(cellItems[cell], count * 2);
+        }
+        cellItems[cell][count] = index;
+        cellCounts[cell] = count + 1;
+    }
+
+    // Column and row numbers are unbounded here; cell() folds them back onto the stage
+    private int column(double x) {
+        return (int) Math.floor(x / cellWidth);
+    }
+
+    private int row(double y) {
+        return (int) Math.floor(y / cellHeight);
+    }
+
+    // A box wider than the stage would otherwise visit the same cells twice
+    private int lastColumn(int firstColumn, double maxX) {
+        return Math.min(column(maxX), firstColumn + columns - 1);
+    }
+
+    private int lastRow(int firstRow, double maxY) {
+        return Math.min(row(maxY), firstRow + rows - 1);
+    }
+
+    private int cell(int column, int row) {
+        return Math.floorMod(row, rows) * columns + Math.floorMod(column, columns);
+    }
+}
@@ -0,0 +1,177 @@
+package se233.astroboy.controller;
+
+import se233.astroboy.model.Character;
+import se233.astroboy.model.CollisionLayer;
+import se233.astroboy.model.ScreenWrap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// Objects sorted by the left edge of their (swept) hit box; a query only scans the slice that can overlap on X.
+// Works best with few, large bodies where a grid would insert each one into many cells.
+// A box straddling the right edge is also stored shifted one stage width to the left.
+public class SweepAndPruneBroadphase<T extends Character> implements Broadphase<T> {
+    private final double worldWidth;
+    private final List<T> entries = new ArrayList<>();
+    private int layerMask;
+    private final List<T> results = new ArrayList<>();
+
+    // Images (an entry, or its wrapped copy) ordered by minX, copied out so the sweep walks primitive arrays
+    private int imageCount;
+    private int[] imageEntry = new int[16];
+    private double[] imageMinX = new double[16];
+    private double[] imageMaxX = new double[16];
+    private int[] order = new int[16];
+    private int[] scratch = new int[16];
+    private double[] sortedMinX = new double[16];
+    private double maxWidth;
+
+    private int[] lastQueried = new int[16];
+    private int[] candidates = new int[16];
+    private int queryStamp = 0;
+    private int found;
+
+    public SweepAndPruneBroadphase(double worldWidth) {
+        this.worldWidth = worldWidth;
+    }
+
+    @Override
+    public void rebuild(List<? extends T> objects) {
+        entries.clear();
+        entries.addAll(objects);
+        layerMask = CollisionLayer.maskOf(objects);
+        int count = entries.size();
+        ensureCapacity(count);
+
+        imageCount = 0;
+        maxWidth = 0;
+        for (int i = 0; i < count; i++) {
+            T object = entries.get(i);
+            double width = object.getSweptMaxX() - object.getSweptMinX();
+            double minX = ScreenWrap.wrap(object.getSweptMinX(), worldWidth);
+            addImage(i, minX, minX + width);
+            if (minX + width > worldWidth) {
+                addImage(i, minX - worldWidth, minX + width - worldWidth);
+            }
+            maxWidth = Math.max(maxWidth, width);
+            lastQueried[i] = 0;
+        }
+        for (int i = 0; i < imageCount; i++) {
+            order[i] = i;
+        }
+        sortByMinX(imageCount);
+        for (int i = 0; i < imageCount; i++) {
+            sortedMinX[i] = imageMinX[order[i]];
+        }
+    }
+
+    @Override
+    public List<T> query(double probeMinX, double probeMinY, double probeMaxX, double probeMaxY) {
+        results.clear();
+        if (entries.isEmpty()) {
+            return results;
+        }
+        queryStamp++;
+        found = 0;
+
+        double width = probeMaxX - probeMinX;
+        double minX = ScreenWrap.wrap(probeMinX, worldWidth);
+        sweep(minX, minX + width);
+        if (minX + width > worldWidth) {
+            sweep(minX - worldWidth, minX + width - worldWidth);
+        }
+
+        Arrays.sort(candidates, 0, found);
+        for (int i = 0; i < found; i++) {
+            results.add(entries.get(candidates[i]));
+        }
+        return results;
+    }
+
+    private void sweep(double probeMinX, double probeMaxX) {
+        // Nothing starting before this can reach the probe, since no object is wider than maxWidth
+        int start = lowerBound(probeMinX - maxWidth);
+        for (int i = start; i < imageCount && sortedMinX[i] <= probeMaxX; i++) {
+            int image = order[i];
+            int index = imageEntry[image];
+            // Both copies of a wrapped object may match, report it once
+            if (imageMaxX[image] >= probeMinX && lastQueried[index] != queryStamp) {
+                lastQueried[index] = queryStamp;
+                candidates[found++] = index;
+            }
+        }
+    }
+
+    private void addImage(int entry, double minX, double maxX) {
+        imageEntry[imageCount] = entry;
+        imageMinX[imageCount] = minX;
+        imageMaxX[imageCount] = maxX;
+        imageCount++;
+    }
+
+    private void ensureCapacity(int count) {
+        // Every entry has at most two images
+        int images = count * 2;
+        if (images > order.length) {
+            int capacity = Math.max(images, order.length * 2);
+            imageEntry = new int[capacity];
+            imageMinX = new double[capacity];
+            imageMaxX = new double[capacity];
+            order = new int[capacity];
+            scratch = new int[capacity];
+            sortedMinX = new double[capacity];
+        }
+        if (count > lastQueried.length) {
+            int capacity = Math.max(count, lastQueried.length * 2);
+            lastQueried = new int[capacity];
+            candidates = new int[capacity];
+        }
+    }
+
+    private int lowerBound(double key) {
+        int low = 0;
+        int high = imageCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sortedMinX[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // Bottom-up merge sort of order[] by minX, reusing scratch so rebuilding does not allocate
+    private void sortByMinX(int count) {
+        int[] from = order;
+        int[] to = scratch;
+        for (int width = 1; width < count; width *= 2) {
+            for (int left = 0; left < count; left += 2 * width) {
+                int mid = Math.min(left + width, count);
+                int right = Math.min(left + 2 * width, count);
+                int i = left;
+                int j = mid;
+                for (int k = left; k < right; k++) {
+                    if (i < mid && (j >= right || imageMinX[from[i]] <= imageMinX[from[j]])) {
+                        to[k] = from[i++];
+                    } else {
+                        to[k] = from[j++];
+                    }
+                }
+            }
+            int[] swap = from;
+            from = to;
+            to = swap;
+        }
+        if (from != order) {
+            System.arraycopy(from, 0, order, 0, count);
+        }
+    }
+
+    @Override
+    public int getLayerMask() {
+        return layerMask;
+    }
+}
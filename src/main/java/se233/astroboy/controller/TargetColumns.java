@@ -0,0 +1,66 @@
+package se233.astroboy.controller;
+
+import se233.astroboy.model.Character;
+import se233.astroboy.model.ScreenWrap;
+
+import java.util.Arrays;
+import java.util.List;
+
+// Collision boxes of a target list packed into flat arrays, one array per field, for the collision kernels.
+// Centers are wrapped into the stage so kernels can fold distances with a single compare.
+public class TargetColumns {
+    private final double worldWidth;
+    private final double worldHeight;
+
+    private double[] centerX = new double[16];
+    private double[] centerY = new double[16];
+    private double[] halfWidth = new double[16];
+    private double[] halfHeight = new double[16];
+    private int count;
+
+    public TargetColumns(double worldWidth, double worldHeight) {
+        this.worldWidth = worldWidth;
+        this.worldHeight = worldHeight;
+    }
+
+    // Pack the swept hit boxes of the targets
+    public void fill(List<? extends Character> targets) {
+        count = 0;
+        ensureCapacity(targets.size());
+        for (int i = 0; i < targets.size(); i++) {
+            Character target = targets.get(i);
+            add(target.getSweptMinX(), target.getSweptMinY(), target.getSweptMaxX(), target.getSweptMaxY());
+        }
+    }
+
+    public void add(double minX, double minY, double maxX, double maxY) {
+        ensureCapacity(count + 1);
+        centerX[count] = ScreenWrap.wrap((minX + maxX) * 0.5, worldWidth);
+        centerY[count] = ScreenWrap.wrap((minY + maxY) * 0.5, worldHeight);
+        halfWidth[count] = (maxX - minX) * 0.5;
+        halfHeight[count] = (maxY - minY) * 0.5;
+        count++;
+    }
+
+    public void clear() {
+        count = 0;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > centerX.length) {
+            int size = Math.max(capacity, centerX.length * 2);
+            centerX = Arrays.copyOf(centerX, size);
+            centerY = Arrays.copyOf(centerY, size);
+            halfWidth = Arrays.copyOf(halfWidth, size);
+            halfHeight = Arrays.copyOf(halfHeight, size);
+        }
+    }
+
+    public int size() { return count; }
+    public double getWorldWidth() { return worldWidth; }
+    public double getWorldHeight() { return worldHeight; }
+    double[] centerX() { return centerX; }
+    double[] centerY() { return centerY; }
+    double[] halfWidth() { return halfWidth; }
+    double[] halfHeight() { return halfHeight; }
+}
@@ -0,0 +1,148 @@
+package se233.astroboy.controller;
+
+import se233.astroboy.model.Character;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+// Grid of entity positions for nearest-target and radius queries (bomb, homing, auto-aim).
+// Rebuilt once per tick; distances are compared squared, so no query needs Math.sqrt.
+public class TargetIndex<T extends Character> {
+    public static final double DEFAULT_CELL_SIZE = 100;
+
+    private final double cellSize;
+    private final int columns;
+    private final int rows;
+
+    private final int[][] cellItems;
+    private final int[] cellCounts;
+    private final List<T> entries = new ArrayList<>();
+    private int[] matches = new int[16];
+
+    public TargetIndex(double worldWidth, double worldHeight) {
+        this(worldWidth, worldHeight, DEFAULT_CELL_SIZE);
+    }
+
+    public TargetIndex(double worldWidth, double worldHeight, double cellSize) {
+        if (cellSize <= 0) {
+            throw new IllegalArgumentException("Invalid cell size: " + cellSize);
+        }
+        this.cellSize = cellSize;
+        this.columns = (int) Math.ceil(worldWidth / cellSize);
+        this.rows = (int) Math.ceil(worldHeight / cellSize);
+        this.cellItems = new int[columns * rows][4];
+        this.cellCounts = new int[columns * rows];
+    }
+
+    public void rebuild(List<? extends T> targets) {
+        Arrays.fill(cellCounts, 0);
+        entries.clear();
+        for (T target : targets) {
+            int index = entries.size();
+            entries.add(target);
+            int cell = row(target.getY()) * columns + column(target.getX());
+            int count = cellCounts[cell];
+            if (count == cellItems[cell].length) {
+                cellItems[cell] = Arrays.copyOf(cellItems[cell], count * 2);
+            }
+            cellItems[cell][count] = index;
+            cellCounts[cell] = count + 1;
+        }
+    }
+
+    // Closest target accepted by the filter, or null. Searches rings of cells outwards from (x, y)
+    // and stops once no unvisited ring can hold anything closer.
+    public T nearest(double x, double y, Predicate<? super T> filter) {
+        if (entries.isEmpty()) {
+            return null;
+        }
+        int centerCol = column(x);
+        int centerRow = row(y);
+        int maxRing = Math.max(columns, rows);
+
+        int nearest = -1;
+        double bestDistanceSq = Double.MAX_VALUE;
+        for (int ring = 0; ring <= maxRing; ring++) {
+            for (int r = centerRow - ring; r <= centerRow + ring; r++) {
+                if (r < 0 || r >= rows) continue;
+                // Inner rows of the ring only have their two end cells
+                int step = (r == centerRow - ring || r == centerRow + ring) ? 1 : Math.max(1, 2 * ring);
+                for (int c = centerCol - ring; c <= centerCol + ring; c += step) {
+                    if (c < 0 || c >= columns) continue;
+                    int cell = r * columns + c;
+                    int[] items = cellItems[cell];
+                    for (int i = 0; i < cellCounts[cell]; i++) {
+                        int index = items[i];
+                        T target = entries.get(index);
+                        double distanceSq = distanceSq(target, x, y);
+                        // Ties go to the earlier entry, like a plain loop over the list
+                        boolean closer = distanceSq < bestDistanceSq
+                                || (distanceSq == bestDistanceSq && index < nearest);
+                        if (closer && filter.test(target)) {
+                            bestDistanceSq = distanceSq;
+                            nearest = index;
+                        }
+                    }
+                }
+            }
+            // Every cell of the next ring is at least ring * cellSize away
+            double reach = ring * cellSize;
+            if (nearest >= 0 && bestDistanceSq < reach * reach) {
+                break;
+            }
+        }
+        return nearest >= 0 ? entries.get(nearest) : null;
+    }
+
+    // Adds every target within radius of (x, y) to out, in the order they were indexed
+    public void withinRadius(double x, double y, double radius, List<T> out) {
+        double radiusSq = radius * radius;
+        int minCol = column(x - radius);
+        int maxCol = column(x + radius);
+        int minRow = row(y - radius);
+        int maxRow = row(y + radius);
+        int count = 0;
+        for (int r = minRow; r <= maxRow; r++) {
+            for (int c = minCol; c <= maxCol; c++) {
+                int cell = r * columns + c;
+                int[] items = cellItems[cell];
+                for (int i = 0; i < cellCounts[cell]; i++) {
+                    int index = items[i];
+                    if (distanceSq(entries.get(index), x, y) <= radiusSq) {
+                        if (count == matches.length) {
+                            matches = Arrays.copyOf(matches, count * 2);
+                        }
+                        matches[count++] = index;
+                    }
+                }
+            }
+        }
+        Arrays.sort(matches, 0, count);
+        for (int i = 0; i < count; i++) {
+            out.add(entries.get(matches[i]));
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private static double distanceSq(Character target, double x, double y) {
+        double dx = target.getX() - x;
+        double dy = target.getY() - y;
+        return dx * dx + dy * dy;
+    }
+
+    // Targets outside the stage go to the border cells; they are still farther than the cell edge nearest the query
+    private int column(double x) {
+        int c = (int) Math.floor(x / cellSize);
+        return Math.max(0, Math.min(columns - 1, c));
+    }
+
+    private int row(double y) {
+        int r = (int) Math.floor(y / cellSize);
+        return Math.max(0, Math.min(rows - 1, r));
+    }
+}
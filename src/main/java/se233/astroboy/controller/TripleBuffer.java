@@ -0,0 +1,53 @@
+package se233.astroboy.controller;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+// Hands frames from one writer thread to one reader thread without locks or copying.
+// Of the three buffers the writer owns one, the reader owns one, and the third sits in the middle holding the newest
+// finished frame. publish() swaps the written buffer into the middle, acquire() swaps the middle out if it is newer
+// than what the reader has. Both are a single atomic swap, so neither side ever waits for the other; a writer that
+// is faster than the reader simply replaces frames the reader never saw.
+public class TripleBuffer<T> {
+    private static final int INDEX_MASK = 3;
+    private static final int FRESH = 4;
+
+    private final Object[] buffers;
+    // Index of the middle buffer, plus FRESH while it holds a frame the reader has not taken yet
+    private final AtomicInteger middle = new AtomicInteger(2);
+    private int writeIndex = 0;  // writer thread only
+    private int readIndex = 1;   // reader thread only
+
+    public TripleBuffer(Supplier<T> factory) {
+        if (factory == null) {
+            throw new IllegalArgumentException("Buffer factory cannot be null");
+        }
+        this.buffers = new Object[]{factory.get(), factory.get(), factory.get()};
+    }
+
+    // Writer side: the buffer to fill for the next frame
+    @SuppressWarnings("unchecked")
+    public T getWriteBuffer() {
+        return (T) buffers[writeIndex];
+    }
+
+    // Writer side: make the filled buffer the newest frame and take another one to write
+    public void publish() {
+        writeIndex = middle.getAndSet(writeIndex | FRESH) & INDEX_MASK;
+    }
+
+    // Reader side: the newest published frame, or the one read last time when nothing new came in.
+    // The buffer stays the reader's until the next acquire().
+    @SuppressWarnings("unchecked")
+    public T acquire() {
+        if ((middle.get() & FRESH) != 0) {
+            readIndex = middle.getAndSet(readIndex) & INDEX_MASK;
+        }
+        return (T) buffers[readIndex];
+    }
+
+    // Reader side: whether a frame was published since the last acquire()
+    public boolean hasFresh() {
+        return (middle.get() & FRESH) != 0;
+    }
+}
@@ -0,0 +1,67 @@
+package se233.astroboy.controller;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+import se233.astroboy.model.ScreenWrap;
+
+// Same test as ScalarCollisionKernel, one lane-width batch of targets at a time.
+// Only load this class after checking the incubator module is present (see CollisionKernel.preferred).
+public class VectorCollisionKernel implements CollisionKernel {
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    @Override
+    public int overlaps(double minX, double minY, double maxX, double maxY, TargetColumns targets, int[] hits) {
+        double width = targets.getWorldWidth();
+        double height = targets.getWorldHeight();
+        double probeX = ScreenWrap.wrap((minX + maxX) * 0.5, width);
+        double probeY = ScreenWrap.wrap((minY + maxY) * 0.5, height);
+        double probeHalfWidth = (maxX - minX) * 0.5;
+        double probeHalfHeight = (maxY - minY) * 0.5;
+
+        double[] centerX = targets.centerX();
+        double[] centerY = targets.centerY();
+        double[] halfWidth = targets.halfWidth();
+        double[] halfHeight = targets.halfHeight();
+        int count = targets.size();
+
+        DoubleVector px = DoubleVector.broadcast(SPECIES, probeX);
+        DoubleVector py = DoubleVector.broadcast(SPECIES, probeY);
+        DoubleVector phw = DoubleVector.broadcast(SPECIES, probeHalfWidth);
+        DoubleVector phh = DoubleVector.broadcast(SPECIES, probeHalfHeight);
+
+        int found = 0;
+        int i = 0;
+        int upper = SPECIES.loopBound(count);
+        for (; i < upper; i += SPECIES.length()) {
+            DoubleVector dx = fold(DoubleVector.fromArray(SPECIES, centerX, i).sub(px), width);
+            DoubleVector dy = fold(DoubleVector.fromArray(SPECIES, centerY, i).sub(py), height);
+            VectorMask<Double> hit = dx.compare(VectorOperators.LT, DoubleVector.fromArray(SPECIES, halfWidth, i).add(phw))
+                    .and(dy.compare(VectorOperators.LT, DoubleVector.fromArray(SPECIES, halfHeight, i).add(phh)));
+
+            long lanes = hit.toLong();
+            while (lanes != 0) {
+                hits[found++] = i + Long.numberOfTrailingZeros(lanes);
+                lanes &= lanes - 1;
+            }
+        }
+
+        // Remaining targets that do not fill a whole vector
+        for (; i < count; i++) {
+            double dx = ScalarCollisionKernel.fold(centerX[i] - probeX, width);
+            double dy = ScalarCollisionKernel.fold(centerY[i] - probeY, height);
+            if (dx < halfWidth[i] + probeHalfWidth && dy < halfHeight[i] + probeHalfHeight) {
+                hits[found++] = i;
+            }
+        }
+        return found;
+    }
+
+    // Both centers are inside the stage, so the difference is within one stage size and one fold is enough
+    private static DoubleVector fold(DoubleVector d, double size) {
+        DoubleVector folded = d.sub(size, d.compare(VectorOperators.GT, size / 2))
+                .add(size, d.compare(VectorOperators.LT, -size / 2));
+        return folded.abs();
+    }
+}
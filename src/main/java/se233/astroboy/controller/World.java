@@ -0,0 +1,729 @@
+package se233.astroboy.controller;
+
+import se233.astroboy.model.*;
+import se233.astroboy.model.Character;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+// The game simulation: entity lists, spawning, collision and scoring, advanced one tick at a time.
+// Nothing here needs a running JavaFX toolkit, so a World can tick headless in tests, bots and replay checks.
+// Rendering reads a FrameSnapshot captured from it after each tick, never the entities themselves.
+public class World {
+    private static final Logger logger = LogManager.getLogger(World.class);
+
+    private final double width;
+    private final double height;
+
+    // Game objects. Dead entities are marked during a pass and swap-removed when the pass ends
+    private Player player;
+    private final EntityList<Asteroid> asteroids = new EntityList<>();
+    private final EntityList<Enemy> enemies = new EntityList<>();
+    private final EntityList<Boss> boss = new EntityList<>();
+    // Shots are plain moving boxes, so they live in column stores rather than object lists
+    private final EntityStore projectiles;
+    private final EntityStore enemyShots;
+    private final EntityStore bossShots;
+    private final EntityList<Explosion> explosions = new EntityList<>();
+    private final EntityList<BombExplosion> bombExplosions = new EntityList<>();
+
+    // Recycled short-lived objects, released back when they expire or finish
+    private static final int EXPLOSION_POOL_SIZE = 64;
+    private static final int BOMB_EXPLOSION_POOL_SIZE = 16;
+    private final ObjectPool<Explosion> explosionPool;
+    private final ObjectPool<BombExplosion> bombExplosionPool;
+
+    // Collision broadphase, rebuilt from the lists every tick
+    private final Broadphase<Asteroid> asteroidBroadphase;
+    private final Broadphase<Enemy> enemyBroadphase;
+    private final Broadphase<Boss> bossBroadphase;
+    private final TargetIndex<Asteroid> asteroidIndex;
+    private final TargetIndex<Enemy> enemyIndex;
+    private final List<ProjectileHit> projectileHits = new ArrayList<>();
+
+    // Per-entity updates of the big lists, split over worker threads once a list is large enough
+    private final ParallelStage parallelStage;
+
+    // Seeded random streams; a world built with the same seed plays out the same way
+    private final RandomService random;
+    private final GameRandom spawnRandom;
+    private final GameRandom asteroidRandom;
+    private final GameRandom enemyRandom;
+    private final GameRandom bossRandom;
+
+    // Game state
+    private final Score score = new Score();
+    // Narrow-phase tests per layer pair in this game
+    private final CollisionCounters collisionCounters = new CollisionCounters();
+    private GameState gameState = GameState.MENU;
+    private int level;
+    private double spawnTimer;
+    private static final double SPAWN_INTERVAL = 3.0;
+    private boolean bossSpawned = false;
+    private boolean enemySpawned = false;
+    private boolean scoreThresholdReached = false;
+
+    private int bossAttackPattern = 0;
+    private static final int PATTERN_SWITCH_INTERVAL = 300; // frames (about 5 seconds at 60 FPS)
+    private int patternTimer = 0;
+
+    // Movement actions currently applied to the player's flags
+    private int appliedMovement;
+
+    public World(double width, double height) {
+        this(width, height, RandomService.seedFromSystemProperty());
+    }
+
+    public World(double width, double height, long seed) {
+        this(width, height, seed, ParallelStage.fromSystemProperties());
+    }
+
+    public World(double width, double height, long seed, ParallelStage parallelStage) {
+        this.width = width;
+        this.height = height;
+        this.parallelStage = parallelStage;
+        random = new RandomService(seed);
+        spawnRandom = random.stream(RandomService.SPAWN);
+        asteroidRandom = random.stream(RandomService.ASTEROIDS);
+        enemyRandom = random.stream(RandomService.ENEMIES);
+        bossRandom = random.stream(RandomService.BOSS);
+        logger.info("World seed {}", seed);
+        projectiles = new EntityStore(width, height);
+        enemyShots = new EntityStore(width, height);
+        bossShots = new EntityStore(width, height);
+        explosionPool = new ObjectPool<>("explosions", EXPLOSION_POOL_SIZE, () -> new Explosion(0, 0));
+        bombExplosionPool = new ObjectPool<>("bombExplosions", BOMB_EXPLOSION_POOL_SIZE, () -> new BombExplosion(0, 0));
+        // Decode the sprites now rather than during the first fight
+        explosionPool.prewarm(16);
+        bombExplosionPool.prewarm(4);
+
+        // Create player at center of screen
+        double centerX = width / 2;
+        double centerY = height / 2;
+        player = new Player(centerX, centerY, width, height);
+        logger.info("Player initialized at ({}, {})", centerX, centerY);
+
+        BroadphaseType broadphaseType = BroadphaseType.fromSystemProperty();
+        asteroidBroadphase = broadphaseType.create(width, height);
+        enemyBroadphase = broadphaseType.create(width, height);
+        bossBroadphase = broadphaseType.create(width, height);
+        logger.info("Using {} collision broadphase", broadphaseType);
+        asteroidIndex = new TargetIndex<>(width, height);
+        enemyIndex = new TargetIndex<>(width, height);
+
+        score.resetScore(); // Reset the score at game start
+        spawnTimer = SPAWN_INTERVAL;
+
+        // Spawn initial objects for menu background
+        spawnAsteroids(3);
+        spawnEnemies(1);
+        spawnBoss();
+    }
+
+    // Advance the simulation by one frame at the reference rate
+    public void tick() {
+        tick(Character.REFERENCE_DT);
+    }
+
+    // Advance the simulation by dt seconds
+    public void tick(double dt) {
+        switch (gameState) {
+            case MENU:
+                updateMenu(dt);
+                break;
+            case PLAYING:
+                updatePlaying(dt);
+                break;
+            case GAME_OVER:
+                break;
+        }
+    }
+
+    private void updateMenu(double dt) {
+        // Update background objects
+        for (Asteroid asteroid : asteroids) {
+            asteroid.update(dt);
+        }
+        for (Enemy enemy : enemies) {
+            enemy.update(dt);
+        }
+    }
+
+    private void updatePlaying(double dt) {
+        if (!player.isAlive()) {
+            gameState = GameState.GAME_OVER;
+            logger.debug("Collision tests per layer pair:{}{}", System.lineSeparator(),
+                    collisionCounters.report());
+            logger.debug("Object pools: {}; {}", explosionPool.report(), bombExplosionPool.report());
+            return;
+        }
+
+        // Update player
+        player.update(dt);
+        score.update(dt);
+
+        // Update explosions
+        for (int i = 0; i < explosions.size(); i++) {
+            Explosion explosion = explosions.get(i);
+            explosion.update(dt);
+            if (explosion.isFinished()) {
+                explosions.removeLater(i);
+            }
+        }
+        explosions.compact(explosionPool::release);
+
+        // Update bomb explosions
+        for (int i = 0; i < bombExplosions.size(); i++) {
+            BombExplosion bombExplosion = bombExplosions.get(i);
+            bombExplosion.update(dt);
+            if (bombExplosion.isFinished()) {
+                bombExplosions.removeLater(i);
+            }
+        }
+        bombExplosions.compact(bombExplosionPool::release);
+
+        // Update projectiles and check collisions
+        updateProjectiles(dt);
+
+        // Update asteroids
+        int deadAsteroids = parallelStage.run(asteroids, asteroid -> {
+            asteroid.update(dt);
+            return asteroid.isMarkedForDestruction();
+        });
+        for (int k = 0; k < deadAsteroids; k++) {
+            asteroids.removeLater(parallelStage.getFlagged()[k]);
+        }
+        asteroids.compact();
+
+        // Update enemies
+        // Movement and steering run in parallel; shooting and removal touch the world, so they follow serially
+        int busyEnemies = parallelStage.run(enemies, enemy -> {
+            enemy.update(dt);
+            return enemy.canShoot() || enemy.isMarkedForDestructionEnemy();
+        });
+        for (int k = 0; k < busyEnemies; k++) {
+            int i = parallelStage.getFlagged()[k];
+            Enemy enemy = enemies.get(i);
+
+            // Handle enemy shooting
+            if (enemy.canShoot() && player.isAlive()) {
+                double angleToPlayer = enemy.getAngleToPlayer();
+
+                // Calculate projectile spawn position
+                double spawnDistance = 20;
+                double angleRad = Math.toRadians(angleToPlayer);
+                double projectileX = enemy.getX() + Math.cos(angleRad) * spawnDistance;
+                double projectileY = enemy.getY() + Math.sin(angleRad) * spawnDistance;
+
+                EnemyProjectile.spawn(enemyShots, projectileX, projectileY, angleToPlayer);
+                enemy.resetShootCooldown();
+            }
+
+            if (enemy.isMarkedForDestructionEnemy()) {
+                enemies.removeLater(i);
+            }
+        }
+        enemies.compact();
+
+        // Update Boss
+        for (int i = 0; i < this.boss.size(); i++) {
+            Boss boss = this.boss.get(i);
+            boss.update(dt);
+
+            // Handle Boss shooting
+            if (boss.canShoot() && player.isAlive()) {
+                double angleToPlayer = boss.getAngleToPlayer();
+
+                // Calculate projectile spawn position
+                double spawnDistance = 50;
+                double angleRad = Math.toRadians(angleToPlayer);
+                double projectileX = boss.getX() + (boss.getWidth() / 2) + Math.cos(angleRad) * spawnDistance;
+                double projectileY = boss.getY() + (boss.getHeight() / 2) + Math.sin(angleRad) * spawnDistance;
+
+                // Update pattern timer and switch patterns
+                patternTimer++;
+                if (patternTimer >= PATTERN_SWITCH_INTERVAL) {
+                    bossAttackPattern = (bossAttackPattern + 1) % 3; // Cycle through 3 patterns
+                    patternTimer = 0;
+                }
+
+                // Different attack patterns
+                switch (bossAttackPattern) {
+                    case 0: // Multi-shot pattern
+                        double centerX = boss.getX() + (boss.getWidth() / 2);
+                        double centerY = boss.getY() + (boss.getHeight() / 2);
+                        BossProjectile.spawnMultiShot(
+                                bossShots,
+                                projectileX, projectileY,
+                                angleToPlayer,
+                                7,  // Number of bullets
+                                20.0 // Spacing between bullets
+                        );
+                        break;
+
+                }
+                boss.resetShootCooldown();
+            }
+
+            if (boss.isMarkedForDestructionBoss()) {
+                this.boss.removeLater(i);
+            }
+        }
+        this.boss.compact();
+
+        // Update enemy projectiles
+        updateShots(enemyShots, dt);
+        updateShots(bossShots, dt);
+
+        // Handle all collisions
+        rebuildBroadphases();
+        CollisionController.handleCollisions(player, asteroidBroadphase, enemyBroadphase, bossBroadphase,
+                collisionCounters);
+
+        if (score.getCurrentScore() >= 20 && !scoreThresholdReached) {
+            scoreThresholdReached = true;
+            logger.debug("Score threshold reached! Boss can now spawn");
+        }
+
+        // Update spawn timer
+        spawnTimer -= dt;
+        if (spawnTimer <= 0) {
+            spawnAsteroids(1);
+            if (!bossSpawned) {
+                spawnEnemies(1);
+            }
+
+            if (scoreThresholdReached) {
+                enemySpawned = true;
+                // Only spawn boss if none exists
+                spawnBoss();
+            }
+
+            if(score.getCurrentScore() >= 20 ) {
+                enemySpawned = false;
+                spawnEnemies(1);
+            }
+            spawnTimer = SPAWN_INTERVAL;
+        }
+
+        // Targeting queries between ticks (bomb) see this tick's final positions
+        rebuildTargetIndexes();
+    }
+
+    private void rebuildTargetIndexes() {
+        asteroidIndex.rebuild(asteroids);
+        enemyIndex.rebuild(enemies);
+    }
+
+    private void rebuildBroadphases() {
+        asteroidBroadphase.rebuild(asteroids);
+        enemyBroadphase.rebuild(enemies);
+        bossBroadphase.rebuild(boss);
+    }
+
+    private void updateProjectiles(double dt) {
+        rebuildBroadphases();
+
+        // Shots that run out of lifetime are flagged removed and skipped by the collision pass
+        projectiles.integrate(dt);
+
+        // Find every hit first, then resolve them in one batch; rows keep their numbers until the compact
+        projectileHits.clear();
+        CollisionController.findProjectileHits(projectiles, asteroidBroadphase, enemyBroadphase, bossBroadphase,
+                projectileHits, collisionCounters);
+        resolveProjectileHits();
+        projectiles.compact();
+    }
+
+    // Applies the hits of this tick in projectile order. A target destroyed by an earlier hit in the batch
+    // is left alone, so it can't be scored twice; the projectile then flies on.
+    private void resolveProjectileHits() {
+        for (int i = 0; i < projectileHits.size(); i++) {
+            ProjectileHit hit = projectileHits.get(i);
+            int row = hit.getRow();
+            switch (hit.getKind()) {
+                case ASTEROID -> {
+                    Asteroid asteroid = (Asteroid) hit.getTarget();
+                    if (asteroid.isMarkedForDestruction()) continue;
+                    asteroid.takeDamage(1);
+                    if (asteroid.isMarkedForDestruction()) {
+                        handleAsteroidDestruction(asteroid);
+                    }
+                }
+                case ENEMY -> {
+                    Enemy enemy = (Enemy) hit.getTarget();
+                    if (enemy.isMarkedForDestructionEnemy()) continue;
+                    // Instead of immediately destroying the enemy, damage it
+                    enemy.takeDamage(1);
+                    // Only award points and create big explosion if enemy is destroyed
+                    if (enemy.isMarkedForDestructionEnemy()) {
+                        handleEnemyDestruction(enemy);
+                    }
+                }
+                case BOSS -> {
+                    Boss boss = (Boss) hit.getTarget();
+                    if (boss.isMarkedForDestructionBoss()) continue;
+                    boss.takeDamage(1);
+                    if (boss.isMarkedForDestructionBoss()) {
+                        handleBossDestruction(boss);
+                    }
+                }
+            }
+            // Small explosion for hit feedback
+            explosions.add(newExplosion(projectiles.getX(row), projectiles.getY(row)));
+            projectiles.remove(row);
+        }
+    }
+
+    // Move the shots of one store, then test each survivor against the player in row order
+    private void updateShots(EntityStore shots, double dt) {
+        shots.integrate(dt);
+        for (int row = 0; row < shots.size(); row++) {
+            if (shots.isRemoved(row)) {
+                continue;
+            }
+
+            // Check collision with player
+            if (player.isAlive() && CollisionController.collides(shots, row, player, collisionCounters)) {
+                shots.remove(row);
+                player.hit(shots.getCollisionLayer(row));
+            }
+        }
+        shots.compact();
+    }
+
+    private void handleAsteroidDestruction(Asteroid asteroid) {
+        asteroid.markForDestruction();
+        score.addPoints(asteroid.getPoints());
+        explosions.add(newExplosion(
+                asteroid.getX() + asteroid.getWidth()/2,
+                asteroid.getY() + asteroid.getHeight()/2
+        ));
+        logger.debug("Asteroid destroyed! Score: {}", score.getCurrentScore());
+    }
+
+    private void handleEnemyDestruction(Enemy enemy) {
+        enemy.markForDestructionEnemy();
+        score.addPoints(enemy.getPointsEnemy());
+        explosions.add(newExplosion(
+                enemy.getX() + enemy.getWidth()/2,
+                enemy.getY() + enemy.getHeight()/2
+        ));
+
+        logger.debug("Enemy destroyed! Score: {}", score.getCurrentScore());
+    }
+
+    private void handleBombAsteroidDestruction(Asteroid asteroid) {
+        asteroid.markForDestruction();
+        score.addPoints(asteroid.getPoints());
+        bombExplosions.add(newBombExplosion(
+                asteroid.getX() + asteroid.getWidth()/2,
+                asteroid.getY() + asteroid.getHeight()/2
+        ));
+        logger.debug("Asteroid destroyed! Score: {}", score.getCurrentScore());
+    }
+
+    private void handleBombEnemyDestruction(Enemy enemy) {
+        enemy.markForDestructionEnemy();
+        score.addPoints(enemy.getPointsEnemy());
+        bombExplosions.add(newBombExplosion(
+                enemy.getX() + enemy.getWidth()/2,
+                enemy.getY() + enemy.getHeight()/2
+        ));
+
+        logger.debug("Enemy destroyed! Score: {}", score.getCurrentScore());
+    }
+
+    private void handleBossDestruction(Boss boss) {
+
+        score.addPoints(boss.getPointsBoss());
+        explosions.add(newExplosion(
+                boss.getX() + boss.getWidth()/2,
+                boss.getY() + boss.getHeight()/2
+        ));
+        boss.markForDestructionBoss();
+        bossSpawned = true;
+        enemySpawned = false;
+        logger.debug("Boss destroyed! Score: {}", score.getCurrentScore());
+    }
+
+    private Explosion newExplosion(double x, double y) {
+        Explosion explosion = explosionPool.acquire();
+        explosion.reset(x, y);
+        return explosion;
+    }
+
+    private BombExplosion newBombExplosion(double x, double y) {
+        BombExplosion bombExplosion = bombExplosionPool.acquire();
+        bombExplosion.reset(x, y);
+        return bombExplosion;
+    }
+
+    private Optional<Asteroid> findNearestAsteroid() {
+        return Optional.ofNullable(asteroidIndex.nearest(player.getX(), player.getY(),
+                asteroid -> !asteroid.isMarkedForDestruction()));
+    }
+
+    private Optional<Enemy> findNearestEnemy() {
+        return Optional.ofNullable(enemyIndex.nearest(player.getX(), player.getY(),
+                enemy -> !enemy.isMarkedForDestructionEnemy()));
+    }
+
+    // Apply one tick of input; call before tick()
+    public void applyInput(InputFrame input) {
+        switch (gameState) {
+            case MENU:
+            case GAME_OVER:
+                if (input.wasPressed(InputAction.FIRE)) {
+                    startNewGame();
+                }
+                break;
+            case PLAYING:
+                if (player.isAlive()) {
+                    applyMovement(input);
+                    if (input.wasPressed(InputAction.FIRE)) {
+                        fireProjectile();
+                    }
+                    if (input.wasPressed(InputAction.BOMB)) {
+                        activateBomb();
+                    }
+                }
+                break;
+        }
+    }
+
+    // Only touch the flags whose keys changed since the last tick
+    private void applyMovement(InputFrame input) {
+        int down = (input.getHeld() | input.getPressed()) & InputAction.MOVEMENT_MASK;
+        int changed = down ^ appliedMovement;
+        if (changed == 0) {
+            return;
+        }
+        if ((changed & InputAction.THRUST.bit()) != 0) {
+            player.setMovingForward(input.isDown(InputAction.THRUST));
+        }
+        if ((changed & InputAction.REVERSE.bit()) != 0) {
+            player.setMovingBackward(input.isDown(InputAction.REVERSE));
+        }
+        if ((changed & InputAction.STRAFE_LEFT.bit()) != 0) {
+            player.setMovingLeft(input.isDown(InputAction.STRAFE_LEFT));
+        }
+        if ((changed & InputAction.STRAFE_RIGHT.bit()) != 0) {
+            player.setMovingRight(input.isDown(InputAction.STRAFE_RIGHT));
+        }
+        if ((changed & InputAction.ROTATE_LEFT.bit()) != 0) {
+            player.setRotatingLeft(input.isDown(InputAction.ROTATE_LEFT));
+        }
+        if ((changed & InputAction.ROTATE_RIGHT.bit()) != 0) {
+            player.setRotatingRight(input.isDown(InputAction.ROTATE_RIGHT));
+        }
+        appliedMovement = down;
+    }
+
+    public void activateBomb() {
+        if (player.canUseBomb()) {
+            findNearestAsteroid().ifPresent(asteroid -> {
+                handleBombAsteroidDestruction(asteroid);
+                player.useBomb();
+                logger.debug("Bomb used on nearest asteroid");
+            });
+
+            findNearestEnemy().ifPresent(enemy -> {
+
+                handleBombEnemyDestruction(enemy);
+                player.useBomb();
+                logger.debug("Bomb used on nearest enemy");
+            });
+        }
+    }
+
+    public void fireProjectile() {
+        if (player.canShoot()) {
+            // Calculate projectile spawn position (slightly in front of the ship)
+            double angleRad = Math.toRadians(player.getRotation());
+            double spawnDistance = 20;
+            double projectileX = player.getX() + Math.cos(angleRad) * spawnDistance;
+            double projectileY = player.getY() + Math.sin(angleRad) * spawnDistance;
+
+            Projectile.spawn(projectiles, projectileX, projectileY, player.getRotation());
+            player.resetShootCooldown();
+            logger.trace("Projectile fired from ({}, {})", projectileX, projectileY);
+        }
+    }
+
+    // Fresh player, score and entities; the world is PLAYING afterwards
+    public void startNewGame() {
+        // Reset game state
+        score.resetScore();
+        collisionCounters.reset();
+        level = 1;
+        spawnTimer = SPAWN_INTERVAL;
+        bossSpawned = false;
+        scoreThresholdReached = false;
+        enemySpawned = false;
+
+
+        // Clear existing objects
+        asteroids.clear();
+        projectiles.clear();
+        enemyShots.clear();
+        bossShots.clear();
+        explosions.clear(explosionPool::release);
+        bombExplosions.clear(bombExplosionPool::release);
+        enemies.clear();
+        boss.clear();
+
+        // Reset player
+        double centerX = width / 2;
+        double centerY = height / 2;
+        player = new Player(centerX, centerY, width, height);
+        appliedMovement = 0;
+
+        // Spawn initial asteroids
+        spawnAsteroids(2);
+        spawnEnemies(1);
+        rebuildTargetIndexes();
+        gameState = GameState.PLAYING;
+
+        logger.info("New game started");
+    }
+
+    private void spawnAsteroids(int count) {
+        for (int i = 0; i < count; i++) {
+            double x, y;
+            if (spawnRandom.nextDouble() < 0.5) {
+                x = spawnRandom.nextDouble() < 0.5 ? -30 : width + 30;
+                y = spawnRandom.nextDouble() * height;
+            } else {
+                x = spawnRandom.nextDouble() * width;
+                y = spawnRandom.nextDouble() < 0.5 ? -30 : height + 30;
+            }
+
+            int asteroidSize = generateRandomAsteroidSize();
+            asteroids.add(new Asteroid(x, y, asteroidSize, asteroidRandom));
+        }
+    }
+    private void spawnEnemies(int count) {
+        enemySpawned = false;
+        for (int i = 0; i < count; i++) {
+            double x, y;
+            if (spawnRandom.nextDouble() < 0.5) {
+                x = spawnRandom.nextDouble() < 0.5 ? -30 : width + 30;
+                y = spawnRandom.nextDouble() * height;
+            } else {
+                x = spawnRandom.nextDouble() * width;
+                y = spawnRandom.nextDouble() < 0.5 ? -30 : height + 30;
+            }
+
+            int EnemyType = generateRandomEnemy();
+            enemies.add(new Enemy(x, y, EnemyType ,player, enemyRandom));
+        }
+    }
+
+    private void spawnBoss() {
+
+        if (scoreThresholdReached && !bossSpawned && boss.isEmpty()) { // Double check both flags
+            //enemies.clear();
+            enemySpawned = true;
+
+
+            double x, y;
+            if (spawnRandom.nextDouble() < 0.5) {
+                x = spawnRandom.nextDouble() < 0.5 ? -30 : width + 30;
+                y = spawnRandom.nextDouble() * height;
+            } else {
+                x = spawnRandom.nextDouble() * width;
+                y = spawnRandom.nextDouble() < 0.5 ? -30 : height + 30;
+            }
+
+            int Boss = generateRandomBoss();
+            boss.add(new Boss(x, y, Boss, player, bossRandom));
+            bossSpawned = true;
+        }
+
+    }
+
+    private int generateRandomAsteroidSize() {
+        return spawnRandom.nextDouble() < 0.6 ? 1 : 2;
+    }
+
+    private int generateRandomEnemy() {
+        return spawnRandom.nextDouble() < 0.6 ? 1 : 2;
+    }
+
+    private int generateRandomBoss() {
+        return 1;
+    }
+
+    public GameState getGameState() {
+        return gameState;
+    }
+
+    public Player getPlayer() {
+        return player;
+    }
+
+    public EntityList<Asteroid> getAsteroids() {
+        return asteroids;
+    }
+
+    public EntityList<Enemy> getEnemies() {
+        return enemies;
+    }
+
+    public EntityList<Boss> getBoss() {
+        return boss;
+    }
+
+    public EntityStore getProjectiles() {
+        return projectiles;
+    }
+
+    public EntityStore getEnemyShots() {
+        return enemyShots;
+    }
+
+    public EntityStore getBossShots() {
+        return bossShots;
+    }
+
+    public EntityList<Explosion> getExplosions() {
+        return explosions;
+    }
+
+    public EntityList<BombExplosion> getBombExplosions() {
+        return bombExplosions;
+    }
+
+    public Score getScore() {
+        return score;
+    }
+
+    public CollisionCounters getCollisionCounters() {
+        return collisionCounters;
+    }
+
+    public RandomService getRandom() {
+        return random;
+    }
+
+
+    public ObjectPool<Explosion> getExplosionPool() {
+        return explosionPool;
+    }
+
+    public ObjectPool<BombExplosion> getBombExplosionPool() {
+        return bombExplosionPool;
+    }
+
+    public double getWidth() {
+        return width;
+    }
+
+    public double getHeight() {
+        return height;
+    }
+}
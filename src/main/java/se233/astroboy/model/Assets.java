@@ -0,0 +1,80 @@
+package se233.astroboy.model;
+
+import javafx.scene.image.Image;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+// Loads images that aren't packed into the SpriteAtlas, such as the background, one image per asset.
+// In headless mode (-Dastroboy.headless=true, or setHeadless) nothing is decoded and every image is null,
+// so the simulation runs without the JavaFX graphics stack. render() already skips null images.
+// Every PNG is decoded once per process and the same Image handed to everyone who asks for that path, so asking
+// again costs a map lookup rather than a file read and a decode. Images are never drawn into, so sharing them is
+// safe.
+public final class Assets {
+    private static final Logger logger = LogManager.getLogger(Assets.class);
+
+    public static final String HEADLESS_PROPERTY = "astroboy.headless";
+    private static volatile boolean headless = Boolean.getBoolean(HEADLESS_PROPERTY);
+
+    private static final ConcurrentMap<String, Image> images = new ConcurrentHashMap<>();
+    // Paths that failed to load, so a missing asset is reported once rather than on every spawn
+    private static final Set<String> missing = ConcurrentHashMap.newKeySet();
+
+    private Assets() {
+    }
+
+    public static boolean isHeadless() {
+        return headless;
+    }
+
+    public static void setHeadless(boolean enabled) {
+        headless = enabled;
+    }
+
+    public static Image loadImage(String path) {
+        if (headless) {
+            return null;
+        }
+        if (path == null) {
+            throw new IllegalArgumentException("Image path cannot be null");
+        }
+        Image image = images.get(path);
+        if (image != null || missing.contains(path)) {
+            return image;
+        }
+        // Two threads asking for a new path at once still decode it only once
+        return images.computeIfAbsent(path, Assets::decode);
+    }
+
+    // Number of decoded images held by the cache
+    public static int getCachedImageCount() {
+        return images.size();
+    }
+
+    private static Image decode(String path) {
+        try (InputStream stream = Assets.class.getResourceAsStream(path)) {
+            if (stream == null) {
+                logger.error("Image not found: {}", path);
+                missing.add(path);
+                return null;
+            }
+            Image image = new Image(stream);
+            if (image.isError()) {
+                logger.error("Cannot decode image {}: {}", path, image.getException());
+                missing.add(path);
+                return null;
+            }
+            return image;
+        } catch (IOException e) {
+            logger.error("Cannot read image {}: {}", path, e.getMessage());
+            missing.add(path);
+            return null;
+        }
+    }
+}
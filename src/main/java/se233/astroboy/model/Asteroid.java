@@ -1,7 +1,6 @@
 package se233.astroboy.model;
 
 import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.image.Image;
 import javafx.scene.paint.Color;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -14,7 +13,8 @@ public class Asteroid extends Character {
     private int size; // 1:Large, 2:Medium, 3:Small
     private int points; // Points awarded when destroyed
     private boolean markedForDestruction;
-    private Image asteroidImage;
+    private AtlasSprite asteroidImage;
+    private SpriteMask spriteMask;
 
     private int maxHp;
     private int currentHp;
@@ -30,12 +30,18 @@ public class Asteroid extends Character {
 
 
     public Asteroid(double x, double y, int size) {
+        this(x, y, size, GameRandom.unseeded());
+    }
+
+    // Heading, speed and spin are drawn from random, so a seeded world spawns the same asteroids every run
+    public Asteroid(double x, double y, int size, GameRandom random) {
         super(getImagePathForSize(size), x, y, getAsteroidSize(size), getAsteroidSize(size));
         this.size = size;
         this.markedForDestruction = false;
-        initializeAsteroid();
+        initializeAsteroid(random);
         loadAsteroidImage();
         initializeHp();
+        this.spriteMask = SpriteMask.load(getImagePathForSize(size), width, height);
     }
 
     // Add new method to initialize HP
@@ -73,8 +79,8 @@ public class Asteroid extends Character {
     private void loadAsteroidImage() {
         try {
             String imagePath = getImagePathForSize(size);
-            this.asteroidImage = new Image(getClass().getResourceAsStream(imagePath));
-            if (this.asteroidImage == null) {
+            this.asteroidImage = AtlasSprite.of(imagePath);
+            if (this.asteroidImage == null && !Assets.isHeadless()) {
                 logger.error("Failed to load asteroid image for size: " + size);
             }
         } catch (Exception e) {
@@ -107,10 +113,10 @@ public class Asteroid extends Character {
         };
     }
 
-    private void initializeAsteroid() {
+    private void initializeAsteroid(GameRandom random) {
         // Random movement direction
-        double angle = Math.random() * Math.PI * 2;
-        double speed = 3 + Math.random() * 2;
+        double angle = random.nextDouble() * Math.PI * 2;
+        double speed = 3 + random.nextDouble() * 2;
 
 
         switch(this.size) {
@@ -128,53 +134,53 @@ public class Asteroid extends Character {
 
         speedX = Math.cos(angle) * speed;
         speedY = Math.sin(angle) * speed;
-        rotationSpeed = (Math.random() - 0.5) * 7;
-        rotation = Math.random() * 360;
+        rotationSpeed = (random.nextDouble() - 0.5) * 7;
+        rotation = random.nextDouble() * 360;
     }
 
     @Override
-    public void update() {
-        x += speedX;
-        y += speedY;
-        rotation += rotationSpeed;
+    public void update(double dt) {
+        savePreviousState();
+        double frames = dt / REFERENCE_DT;
+        x += speedX * frames;
+        y += speedY * frames;
+        rotation += rotationSpeed * frames;
         wrapAroundScreen();
+        updateHitBox();
+    }
+
+    // The sprite is drawn rotated around the hit box center
+    @Override
+    public CollisionMask getCollisionMask() {
+        return spriteMask != null ? spriteMask.at(rotation) : null;
     }
 
     private void wrapAroundScreen() {
-        if (x < -width) x = 800;
-        if (x > 800) x = -width;
-        if (y < -height) y = 600;
-        if (y > 600) y = -height;
+        x = ScreenWrap.wrap(x, ScreenWrap.WIDTH);
+        y = ScreenWrap.wrap(y, ScreenWrap.HEIGHT);
     }
 
     @Override
     public void render(GraphicsContext gc) {
         if (asteroidImage != null) {
-            gc.save();
-
-            // Calculate the center point for rotation
-            double centerX = x + width / 2;
-            double centerY = y + height / 2;
-
-            // Translate to rotation point
-            gc.translate(centerX, centerY);
-            gc.rotate(rotation);
-            gc.translate(-centerX, -centerY);
-
-            // Draw the image
-            gc.drawImage(asteroidImage,
-                    x, y,
-                    width, height);
-
-            gc.restore();
-            renderHPBar(gc);
-
+            draw(gc, asteroidImage, x, y, width, height, rotation, currentHp, maxHp);
         } else {
             logger.warn("Asteroid sprite is null, cannot render");
         }
     }
 
-    private void renderHPBar(GraphicsContext gc) {
+    // Draws an asteroid from plain values, so a render snapshot can be drawn without the live object
+    public static void draw(GraphicsContext gc, AtlasSprite image, double x, double y, double width, double height,
+                            double rotation, int currentHp, int maxHp) {
+        if (image == null) {
+            return;
+        }
+        // Rotate about the center point
+        image.drawRotated(gc, x + width / 2, y + height / 2, width, height, rotation);
+        renderHPBar(gc, x, y, width, currentHp, maxHp);
+    }
+
+    private static void renderHPBar(GraphicsContext gc, double x, double y, double width, int currentHp, int maxHp) {
         // Calculate HP bar position (above the enemy)
         double hpBarX = x + (width - HP_BAR_WIDTH) / 2;
         double hpBarY = y - 10;  // 10 pixels above the enemy
@@ -209,4 +215,13 @@ public class Asteroid extends Character {
     public int getSize() {
         return size;
     }
-}
\ No newline at end of file
+
+    public AtlasSprite getImage() {
+        return asteroidImage;
+    }
+
+    @Override
+    public CollisionLayer getCollisionLayer() {
+        return CollisionLayer.ASTEROID;
+    }
+}
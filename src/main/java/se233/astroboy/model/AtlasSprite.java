@@ -0,0 +1,109 @@
+package se233.astroboy.model;
+
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+
+// Where one sprite sheet sits on an atlas page. Source rectangles given to draw are in sheet coordinates,
+// so code drawing a frame of a strip doesn't need to know where the sheet was packed, and they are clipped to
+// the sheet so a frame past its end can't pick up the neighbouring sprite.
+public final class AtlasSprite {
+    private final String path;
+    private final Image page;
+    private final int pageIndex;
+    private final int x;
+    private final int y;
+    private final int width;
+    private final int height;
+
+    AtlasSprite(String path, Image page, int pageIndex, int x, int y, int width, int height) {
+        this.path = path;
+        this.page = page;
+        this.pageIndex = pageIndex;
+        this.x = x;
+        this.y = y;
+        this.width = width;
+        this.height = height;
+    }
+
+    // Sprite of the given asset, or null in headless mode or when the asset can't be loaded
+    public static AtlasSprite of(String path) {
+        if (Assets.isHeadless()) {
+            return null;
+        }
+        return SpriteAtlas.getShared().find(path);
+    }
+
+    // The whole sheet scaled into the destination rectangle
+    public void draw(GraphicsContext gc, double dx, double dy, double dw, double dh) {
+        gc.drawImage(page, x, y, width, height, dx, dy, dw, dh);
+    }
+
+    // Part of the sheet scaled into the destination rectangle
+    public void draw(GraphicsContext gc, double sx, double sy, double sw, double sh,
+                     double dx, double dy, double dw, double dh) {
+        double left = Math.max(sx, 0);
+        double top = Math.max(sy, 0);
+        double right = Math.min(sx + sw, width);
+        double bottom = Math.min(sy + sh, height);
+        if (right <= left || bottom <= top) {
+            return;
+        }
+        double scaleX = dw / sw;
+        double scaleY = dh / sh;
+        gc.drawImage(page,
+                x + left, y + top, right - left, bottom - top,
+                dx + (left - sx) * scaleX, dy + (top - sy) * scaleY, (right - left) * scaleX, (bottom - top) * scaleY);
+    }
+
+    // Part of the sheet scaled to width x height and rotated by degrees about (centreX, centreY). Drawn from the
+    // shared RotatedSpriteCache when there is one, which snaps the angle to its nearest bucket, else with a transform.
+    public void drawRotated(GraphicsContext gc, double sx, double sy, double sw, double sh,
+                            double centreX, double centreY, double width, double height, double degrees) {
+        RotatedSpriteCache cache = RotatedSpriteCache.getShared();
+        if (cache != null) {
+            Image image = cache.get(this, sx, sy, sw, sh, width, height, degrees);
+            gc.drawImage(image, centreX - image.getWidth() / 2, centreY - image.getHeight() / 2);
+            return;
+        }
+        gc.save();
+        gc.translate(centreX, centreY);
+        gc.rotate(degrees);
+        draw(gc, sx, sy, sw, sh, -width / 2, -height / 2, width, height);
+        gc.restore();
+    }
+
+    // The whole sheet scaled to width x height and rotated by degrees about (centreX, centreY)
+    public void drawRotated(GraphicsContext gc, double centreX, double centreY, double width, double height,
+                            double degrees) {
+        drawRotated(gc, 0, 0, this.width, this.height, centreX, centreY, width, height, degrees);
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public Image getPage() {
+        return page;
+    }
+
+    // Index of the page in the shared atlas, -1 for an image that isn't packed
+    public int getPageIndex() {
+        return pageIndex;
+    }
+
+    public int getX() {
+        return x;
+    }
+
+    public int getY() {
+        return y;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+}
@@ -1,7 +1,6 @@
 package se233.astroboy.model;
 
 import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.image.Image;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -15,27 +14,33 @@ public class BombExplosion {
     private int frameWidth;
     private int frameHeight;
     private boolean isFinished;
-    private Image spriteSheet;
-    private long lastFrameTime;
-    private long frameDuration; // duration of each frame in milliseconds
+    private AtlasSprite spriteSheet;
+    private double frameTimer;
+    private double frameDuration; // duration of each frame in seconds
 
     public BombExplosion(double x, double y) {
-        this.x = x;
-        this.y = y;
-        this.currentFrame = 0;
+        reset(x, y);
         this.frameCount = 6; // Adjust based on sprite sheet
         this.frameWidth = 64; // Adjust based on sprite sheet
         this.frameHeight = 64; // Adjust based on sprite sheet
-        this.isFinished = false;
-        this.frameDuration = 55; // 50ms per frame
-        this.lastFrameTime = System.currentTimeMillis();
+        this.frameDuration = 0.055; // 55ms per frame
         loadSpriteSheet();
     }
 
+    // Restart a pooled explosion at a new spot, keeping the loaded sprite sheet.
+    // Final, as the constructor calls it
+    public final void reset(double x, double y) {
+        this.x = x;
+        this.y = y;
+        this.currentFrame = 0;
+        this.frameTimer = 0;
+        this.isFinished = false;
+    }
+
     private void loadSpriteSheet() {
         try {
-            spriteSheet = new Image(getClass().getResourceAsStream("/se233/astroboy/asset/GreenE3.png"));
-            if (spriteSheet == null) {
+            spriteSheet = AtlasSprite.of("/se233/astroboy/asset/GreenE3.png");
+            if (spriteSheet == null && !Assets.isHeadless()) {
                 logger.error("Failed to load explosion sprite sheet");
             }
         } catch (Exception e) {
@@ -43,11 +48,12 @@ public class BombExplosion {
         }
     }
 
-    public void update() {
-        long currentTime = System.currentTimeMillis();
-        if (currentTime - lastFrameTime > frameDuration) {
+    // Advances on simulation time, so explosions keep pace with the fixed timestep
+    public void update(double dt) {
+        frameTimer += dt;
+        if (frameTimer > frameDuration) {
             currentFrame++;
-            lastFrameTime = currentTime;
+            frameTimer = 0;
 
             if (currentFrame >= frameCount) {
                 isFinished = true;
@@ -56,11 +62,19 @@ public class BombExplosion {
     }
 
     public void render(GraphicsContext gc) {
-        if (spriteSheet != null && !isFinished) {
+        if (!isFinished) {
+            draw(gc, spriteSheet, x, y, frameWidth, frameHeight, currentFrame);
+        }
+    }
+
+    // Draws one frame of the sheet centred on (x, y), from plain values a render snapshot can hold
+    public static void draw(GraphicsContext gc, AtlasSprite spriteSheet, double x, double y,
+                            int frameWidth, int frameHeight, int frame) {
+        if (spriteSheet != null) {
             // Calculate the source rectangle from the sprite sheet
-            int sourceX = currentFrame * frameWidth;
+            int sourceX = frame * frameWidth;
 
-            gc.drawImage(spriteSheet,
+            spriteSheet.draw(gc,
                     sourceX, 0, frameWidth, frameHeight, // source rectangle
                     x - (double) frameWidth /2, y - (double) frameHeight /2, frameWidth, frameHeight); // destination rectangle
         }
@@ -69,4 +83,11 @@ public class BombExplosion {
     public boolean isFinished() {
         return isFinished;
     }
+
+    public double getX() { return x; }
+    public double getY() { return y; }
+    public AtlasSprite getSpriteSheet() { return spriteSheet; }
+    public int getFrameWidth() { return frameWidth; }
+    public int getFrameHeight() { return frameHeight; }
+    public int getCurrentFrame() { return currentFrame; }
 }
@@ -1,10 +1,7 @@
 package se233.astroboy.model;
 
 import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.image.Image;
 import javafx.scene.paint.Color;
-import javafx.scene.text.Font;
-import javafx.scene.text.FontWeight;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -17,7 +14,8 @@ public class Boss extends Character {
     private int size; // 1:Large, 2:Medium,
     private int points; // Points awarded when destroyed
     private boolean markedForDestruction;
-    private Image bossImage;
+    private AtlasSprite bossImage;
+    private SpriteMask[] frameMasks;
     private BossState currentState = BossState.MOVING;
 
     private int maxHp;
@@ -44,14 +42,33 @@ public class Boss extends Character {
         MOVING
     }
     public Boss(double x, double y, int size, Player player) {
+        this(x, y, size, player, GameRandom.unseeded());
+    }
+
+    public Boss(double x, double y, int size, Player player, GameRandom random) {
         super(image, x, y, 60, 50);
         this.size = size;
         this.markedForDestruction = false;
         this.targetPlayer =  player;
-        this.currentShootCooldown = Math.random() * SHOOT_COOLDOWN;
-        initializeBoss();
+        this.currentShootCooldown = random.nextDouble() * SHOOT_COOLDOWN;
+        initializeBoss(random);
         loadBossImage();
         initializeHp();
+        loadFrameMasks();
+    }
+
+    // One mask per animation frame, cut from the sheet the same way render() does
+    private void loadFrameMasks() {
+        frameMasks = new SpriteMask[FRAME_COUNT];
+        for (int frame = 0; frame < FRAME_COUNT; frame++) {
+            frameMasks[frame] = SpriteMask.load(image, (int) (frame * width), 0, (int) width, (int) height, width, height);
+        }
+    }
+
+    @Override
+    public CollisionMask getCollisionMask() {
+        SpriteMask frameMask = frameMasks[currentFrame];
+        return frameMask != null ? frameMask.at(rotation + 90) : null;
     }
 
     private void initializeHp() {
@@ -81,11 +98,19 @@ public class Boss extends Character {
         return maxHp;
     }
 
+    public AtlasSprite getImage() {
+        return bossImage;
+    }
+
+    public int getCurrentFrame() {
+        return currentFrame;
+    }
+
     private void loadBossImage() {
         try {
             String imagePath = getImagePathForBossSize(size);
-            this.bossImage = new Image(getClass().getResourceAsStream(imagePath));
-            if (this.bossImage == null) {
+            this.bossImage = AtlasSprite.of(imagePath);
+            if (this.bossImage == null && !Assets.isHeadless()) {
                 logger.error("Failed to load enemy image for size: {}", size);
             }
         } catch (Exception e) {
@@ -111,8 +136,8 @@ public class Boss extends Character {
         };
     }
 
-    private void initializeBoss() {
-        this. speed = 3 + Math.random() * 2;
+    private void initializeBoss(GameRandom random) {
+        this. speed = 3 + random.nextDouble() * 2;
 
         switch(this.size) {
             case 1: // Large
@@ -120,6 +145,7 @@ public class Boss extends Character {
                 points = 10;
                 width = 120;
                 height = 105;
+                updateHitBox();
                 initializeAnimation(120,105,2,0.2);
                 break;
 
@@ -129,16 +155,18 @@ public class Boss extends Character {
 
 //        speedX = Math.cos(angle) * speed;
 //        speedY = Math.sin(angle) * speed;
-        rotationSpeed = (Math.random() - 0.5) * 20;
-        rotation = Math.random() * 360;
+        rotationSpeed = (random.nextDouble() - 0.5) * 20;
+        rotation = random.nextDouble() * 360;
     }
 
     @Override
-    public void update() {
-        x += speedX;
-        y += speedY;
+    public void update(double dt) {
+        savePreviousState();
+        double frames = dt / REFERENCE_DT;
+        x += speedX * frames;
+        y += speedY * frames;
         currentState = BossState.MOVING;
-        animationTimer += 0.016; // Assuming 60 FPS
+        animationTimer += dt;
 
         if (animationTimer >= FRAME_DURATION) {
             currentFrame = (currentFrame + 1) % FRAME_COUNT;
@@ -152,8 +180,8 @@ public class Boss extends Character {
             double distance = Math.sqrt(dx * dx + dy * dy);
 
             if (distance > 0) {
-                x += (dx / distance) * speed;
-                y += (dy / distance) * speed;
+                x += (dx / distance) * speed * frames;
+                y += (dy / distance) * speed * frames;
             }
 
             double targetAngle = getAngleToPlayer();
@@ -163,14 +191,15 @@ public class Boss extends Character {
             while (angleDiff > 180) angleDiff -= 360;
             while (angleDiff < -180) angleDiff += 360;
             // Rotate towards player with smooth movement
-            rotation += Math.signum(angleDiff) * Math.min(Math.abs(angleDiff), 3.0);
+            rotation += Math.signum(angleDiff) * Math.min(Math.abs(angleDiff), 3.0 * frames);
         }
 
 
         if (currentShootCooldown > 0) {
-            currentShootCooldown -= 0.016; // 60 FPS
+            currentShootCooldown -= dt;
         }
         wrapAroundScreen();
+        updateHitBox();
     }
 
     public boolean canShoot() {
@@ -190,36 +219,37 @@ public class Boss extends Character {
     }
 
     private void wrapAroundScreen() {
-        if (x < -width) x = 800;
-        if (x > 800) x = -width;
-        if (y < -height) y = 600;
-        if (y > 600) y = -height;
+        x = ScreenWrap.wrap(x, ScreenWrap.WIDTH);
+        y = ScreenWrap.wrap(y, ScreenWrap.HEIGHT);
     }
 
     @Override
     public void render(GraphicsContext gc) {
         if (bossImage != null) {
-            gc.save();
-
-            gc.translate(x + width/2, y + height/2);
-            // Rotate to face player
-            gc.rotate(rotation + 90);
-            // Calculate the source rectangle for the current frame
-            double sourceX = currentFrame * width;
-            // Draw the image centered
-            gc.drawImage(bossImage,
-                    sourceX, 0, width, height,  // source rectangle (sprite sheet coordinates)
-                    -width/2, -height/2, width, height  // destination rectangle (screen coordinates)
-            );
-
-            gc.restore();
-            renderHPBar(gc);
-
+            draw(gc, bossImage, x, y, width, height, rotation, currentFrame, currentHp, maxHp);
         } else {
             logger.warn("Boss sprite is null, cannot render");
         }
     }
-    private void renderHPBar(GraphicsContext gc) {
+
+    // Draws the boss from plain values, so a render snapshot can be drawn without the live object
+    public static void draw(GraphicsContext gc, AtlasSprite image, double x, double y, double width, double height,
+                            double rotation, int frame, int currentHp, int maxHp) {
+        if (image == null) {
+            return;
+        }
+        // Calculate the source rectangle for the current frame
+        double sourceX = frame * width;
+        // Draw the image centered, rotated to face player
+        image.drawRotated(gc,
+                sourceX, 0, width, height,  // source rectangle (sprite sheet coordinates)
+                x + width/2, y + height/2, width, height,  // centre and size on screen
+                rotation + 90
+        );
+        renderHPBar(gc, x, y, width, currentHp, maxHp);
+    }
+
+    private static void renderHPBar(GraphicsContext gc, double x, double y, double width, int currentHp, int maxHp) {
         // Calculate HP bar position (above the boss)
         double hpBarX = x + (width - HP_BAR_WIDTH) / 2;
         double hpBarY = y - 20;  // 20 pixels above the boss
@@ -238,11 +268,17 @@ public class Boss extends Character {
         gc.setLineWidth(2);  // Thicker border for boss
         gc.strokeRect(hpBarX, hpBarY, HP_BAR_WIDTH, HP_BAR_HEIGHT);
 
-        // Draw HP text
-        gc.setFill(Color.WHITE);
-        gc.setFont(Font.font("Arial", FontWeight.BOLD, 14));
-        String hpText = currentHp + "/" + maxHp;
-        gc.fillText(hpText, hpBarX + HP_BAR_WIDTH/2 - 15, hpBarY - 5);
+        // Draw HP text, straight from the ints
+        GlyphStrip digits = HpText.DIGITS;
+        double textX = digits.drawInt(gc, currentHp, hpBarX + HP_BAR_WIDTH/2 - 15, hpBarY - 5);
+        textX = digits.drawGlyph(gc, '/', textX, hpBarY - 5);
+        digits.drawInt(gc, maxHp, textX, hpBarY - 5);
+    }
+
+    // Rasterised the first time a boss is drawn, so simulations that never draw don't build it
+    private static final class HpText {
+        // The sign is there for HP taken below zero by an overkill hit
+        static final GlyphStrip DIGITS = new GlyphStrip("Arial", true, 14, Color.WHITE, "-0123456789/");
     }
 
     public void markForDestructionBoss() {
@@ -260,4 +296,9 @@ public class Boss extends Character {
     public int getSize() {
         return size;
     }
+
+    @Override
+    public CollisionLayer getCollisionLayer() {
+        return CollisionLayer.BOSS;
+    }
 }
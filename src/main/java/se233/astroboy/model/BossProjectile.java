@@ -5,7 +5,8 @@ import javafx.scene.paint.Color;
 
 public class BossProjectile extends Character {
     private static final double PROJECTILE_SPEED = 7.0;
-    private static final double MAX_LIFETIME = 1.25; // seconds
+    private static final double MAX_LIFETIME = 1.04; // seconds, 63 ticks at 60 Hz
+    private static final double SIZE = 6;
 
     private double velocityX;
     private double velocityY;
@@ -26,10 +27,8 @@ public class BossProjectile extends Character {
         MULTI_SHOT
     }
 
-    private static final String Idle = "/se233/astroboy/asset/player_ship.png";
-
     public BossProjectile(double x, double y, double rotation, double screenWidth, double screenHeight, ProjectilePattern pattern) {
-        super(Idle, x, y, 6, 6); // Small projectile size
+        super(null, x, y, SIZE, SIZE); // Small projectile size, drawn as a shape so no sprite
         this.rotation = rotation;
         this.screenWidth = screenWidth;
         this.screenHeight = screenHeight;
@@ -52,39 +51,49 @@ public class BossProjectile extends Character {
     }
 
     @Override
-    public void update() {
+    public void update(double dt) {
+        savePreviousState();
+        double frames = dt / REFERENCE_DT;
 
         switch (pattern) {
             case STRAIGHT:
-                updateStraight();
+                updateStraight(frames);
             case MULTI_SHOT:
-                x += velocityX;
-                y += velocityY;
+                x += velocityX * frames;
+                y += velocityY * frames;
                 break;
         }
 
+        // Path covered this tick, for swept collision
+        sweepX = x - previousX;
+        sweepY = y - previousY;
+
         // Update lifetime
-        lifetime += 0.020; // Assuming 60 FPS
+        lifetime += dt;
         if (lifetime >= MAX_LIFETIME) {
             isExpired = true;
             return;
         }
 
         // Wrap around screen
-        if (x < 0) x = screenWidth;
-        if (x > screenWidth) x = 0;
-        if (y < 0) y = screenHeight;
-        if (y > screenHeight) y = 0;
+        x = ScreenWrap.wrap(x, screenWidth);
+        y = ScreenWrap.wrap(y, screenHeight);
+        updateHitBox();
 
     }
-    private void updateStraight() {
-      x += velocityX;
-      y += velocityY;
+    private void updateStraight(double frames) {
+      x += velocityX * frames;
+      y += velocityY * frames;
     }
 
 
     @Override
     public void render(GraphicsContext gc) {
+        draw(gc, x, y, rotation, width, height);
+    }
+
+    // Shared with the shot store rows, which have no object to render themselves
+    public static void draw(GraphicsContext gc, double x, double y, double rotation, double width, double height) {
         gc.save();
         gc.setFill(Color.CYAN);
         gc.fillOval(x - width/2, y - height/2, width, height);
@@ -111,18 +120,10 @@ public class BossProjectile extends Character {
                                                           int bulletCount, double spreadAngle) {
         BossProjectile[] projectiles = new BossProjectile[bulletCount];
 
-        // Calculate the angle between each bullet
-        double angleStep = spreadAngle / (bulletCount - 1);
-        // Calculate the starting angle to center the spread
-        double startAngle = rotation - (spreadAngle / 2);
-
         for (int i = 0; i < bulletCount; i++) {
-            // Calculate the angle for this bullet
-            double bulletAngle = startAngle + (angleStep * i);
-
             projectiles[i] = new BossProjectile(
                     x, y,  // All bullets start from the same point
-                    bulletAngle,  // Each bullet has a different angle
+                    multiShotAngle(rotation, i, bulletCount, spreadAngle),  // Each bullet has a different angle
                     screenWidth, screenHeight,
                     ProjectilePattern.MULTI_SHOT
             );
@@ -130,4 +131,33 @@ public class BossProjectile extends Character {
 
         return projectiles;
     }
-}
\ No newline at end of file
+
+    // Same spread as createMultiShotPattern, added to a shot store instead of returned as objects
+    public static void spawnMultiShot(EntityStore shots, double x, double y, double rotation,
+                                      int bulletCount, double spreadAngle) {
+        for (int i = 0; i < bulletCount; i++) {
+            spawn(shots, x, y, multiShotAngle(rotation, i, bulletCount, spreadAngle));
+        }
+    }
+
+    // Straight shot in a shot store; returns its row
+    public static int spawn(EntityStore shots, double x, double y, double rotation) {
+        double angleRad = Math.toRadians(rotation);
+        return shots.add(CollisionLayer.BOSS_SHOT, x, y,
+                Math.cos(angleRad) * PROJECTILE_SPEED, Math.sin(angleRad) * PROJECTILE_SPEED,
+                rotation, SIZE, SIZE, 1, MAX_LIFETIME);
+    }
+
+    private static double multiShotAngle(double rotation, int bullet, int bulletCount, double spreadAngle) {
+        // Calculate the angle between each bullet
+        double angleStep = spreadAngle / (bulletCount - 1);
+        // Calculate the starting angle to center the spread
+        double startAngle = rotation - (spreadAngle / 2);
+        return startAngle + (angleStep * bullet);
+    }
+
+    @Override
+    public CollisionLayer getCollisionLayer() {
+        return CollisionLayer.BOSS_SHOT;
+    }
+}
@@ -2,9 +2,11 @@ package se233.astroboy.model;
 
 import javafx.geometry.Bounds;
 import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.image.Image;
 
 public abstract class Character {
+    // Speeds in the models are in pixels per 1/60 s frame; update(dt) scales them by dt / REFERENCE_DT
+    public static final double REFERENCE_DT = 1.0 / 60;
+
     protected double x;            // X position
     protected double y;            // Y position
     protected double width;        // Object width
@@ -12,7 +14,22 @@ public abstract class Character {
     protected double velocity;     // Movement speed
     protected double rotation;     // Rotation angle in degrees
 
-    protected Image spriteSheet;
+    // Position at the start of the last update, for render interpolation
+    protected double previousX;
+    protected double previousY;
+
+    // Cached collision box, kept in sync with x/y/width/height so collision checks never build a Bounds.
+    // This is the box checkCollision has always tested: (x, y) to (x + width, y + height)
+    protected double hitMinX;
+    protected double hitMinY;
+    protected double hitMaxX;
+    protected double hitMaxY;
+
+    // Distance moved during the last tick. Fast bodies set it so collisions are tested along the whole path
+    protected double sweepX;
+    protected double sweepY;
+
+    protected AtlasSprite spriteSheet;
     protected int frameWidth;
     protected int frameHeight;
     protected int currentFrame;
@@ -27,9 +44,12 @@ public abstract class Character {
         this.height = height;
         this.velocity = 0;
         this.rotation = 0;
+        this.previousX = x;
+        this.previousY = y;
+        updateHitBox();
 
         if (imagepath != null) {
-            this.spriteSheet = new Image(getClass().getResourceAsStream(imagepath));
+            this.spriteSheet = AtlasSprite.of(imagepath);
         }
 
     }
@@ -56,24 +76,113 @@ public abstract class Character {
     }
 
 
+    // One tick at the reference rate
+    public void update() {
+        update(REFERENCE_DT);
+    }
+
     // Abstract methods that must be implemented by child classes
-    public abstract void update();
+    // dt is the tick length in seconds; implementations call savePreviousState() first
+    public abstract void update(double dt);
     public abstract void render(GraphicsContext gc);
+    public abstract CollisionLayer getCollisionLayer();
+
+    // Render again on the opposite side while the sprite straddles the right or bottom edge
+    public void renderWrapped(GraphicsContext gc) {
+        renderWrapped(gc, 1.0);
+    }
+
+    // Same, drawn alpha of the way from the previous tick's position to the current one
+    public void renderWrapped(GraphicsContext gc, double alpha) {
+        double offsetX = interpolationOffsetX(alpha);
+        double offsetY = interpolationOffsetY(alpha);
+        renderShifted(gc, offsetX, offsetY);
+        boolean wrapsX = hitMaxX > ScreenWrap.WIDTH;
+        boolean wrapsY = hitMaxY > ScreenWrap.HEIGHT;
+        if (wrapsX) {
+            renderShifted(gc, offsetX - ScreenWrap.WIDTH, offsetY);
+        }
+        if (wrapsY) {
+            renderShifted(gc, offsetX, offsetY - ScreenWrap.HEIGHT);
+        }
+        if (wrapsX && wrapsY) {
+            renderShifted(gc, offsetX - ScreenWrap.WIDTH, offsetY - ScreenWrap.HEIGHT);
+        }
+    }
+
+    public void renderInterpolated(GraphicsContext gc, double alpha) {
+        renderShifted(gc, interpolationOffsetX(alpha), interpolationOffsetY(alpha));
+    }
 
-    // Add getBounds method
+    // Measured across the screen edges, so a body that just wrapped doesn't slide across the screen
+    private double interpolationOffsetX(double alpha) {
+        return ScreenWrap.delta(previousX - x, ScreenWrap.WIDTH) * (1 - alpha);
+    }
+
+    private double interpolationOffsetY(double alpha) {
+        return ScreenWrap.delta(previousY - y, ScreenWrap.HEIGHT) * (1 - alpha);
+    }
+
+    private void renderShifted(GraphicsContext gc, double dx, double dy) {
+        if (dx == 0 && dy == 0) {
+            render(gc);
+            return;
+        }
+        gc.save();
+        gc.translate(dx, dy);
+        render(gc);
+        gc.restore();
+    }
+
+    protected void savePreviousState() {
+        previousX = x;
+        previousY = y;
+    }
+
+    // Must be called after x, y, width or height change. Final, as the constructor calls it
+    protected final void updateHitBox() {
+        hitMinX = x;
+        hitMinY = y;
+        hitMaxX = x + width;
+        hitMaxY = y + height;
+    }
+
+    // Opaque pixels of the sprite as currently drawn, aligned with the hit box.
+    // Null means the whole hit box is solid, which is what entities without a mask get.
+    public CollisionMask getCollisionMask() {
+        return null;
+    }
+
+    // Allocates a new BoundingBox, use the hit box getters for collision checks
     public Bounds getBounds() {
         return new javafx.geometry.BoundingBox(x - width/2, y - height/2, width, height);
     }
 
     // Getters and setters
     public double getX() { return x; }
-    public void setX(double x) { this.x = x; }
+    // Moving a body directly is a teleport, so it is not interpolated
+    public void setX(double x) { this.x = x; this.previousX = x; updateHitBox(); }
     public double getY() { return y; }
-    public void setY(double y) { this.y = y; }
+    public void setY(double y) { this.y = y; this.previousY = y; updateHitBox(); }
+    public double getPreviousX() { return previousX; }
+    public double getPreviousY() { return previousY; }
     public double getWidth() { return width; }
     public double getHeight() { return height; }
     public double getVelocity() { return velocity; }
     public void setVelocity(double velocity) { this.velocity = velocity; }
     public double getRotation() { return rotation; }
     public void setRotation(double rotation) { this.rotation = rotation; }
+    public double getHitMinX() { return hitMinX; }
+    public double getHitMinY() { return hitMinY; }
+    public double getHitMaxX() { return hitMaxX; }
+    public double getHitMaxY() { return hitMaxY; }
+    public double getSweepX() { return sweepX; }
+    public double getSweepY() { return sweepY; }
+    public boolean isSwept() { return sweepX != 0 || sweepY != 0; }
+
+    // Hit box grown to cover the path of the last tick, used by the broadphase
+    public double getSweptMinX() { return sweepX > 0 ? hitMinX - sweepX : hitMinX; }
+    public double getSweptMinY() { return sweepY > 0 ? hitMinY - sweepY : hitMinY; }
+    public double getSweptMaxX() { return sweepX < 0 ? hitMaxX - sweepX : hitMaxX; }
+    public double getSweptMaxY() { return sweepY < 0 ? hitMaxY - sweepY : hitMaxY; }
 }
\ No newline at end of file
@@ -0,0 +1,28 @@
+package se233.astroboy.model;
+
+import java.util.List;
+
+// What an entity is for collision purposes; CollisionMatrix decides which layers meet
+public enum CollisionLayer {
+    PLAYER,
+    PLAYER_SHOT,
+    ENEMY,
+    ENEMY_SHOT,
+    BOSS,
+    BOSS_SHOT,
+    ASTEROID,
+    PICKUP;
+
+    public int bit() {
+        return 1 << ordinal();
+    }
+
+    // Union of the layer bits of every object in the list
+    public static int maskOf(List<? extends Character> objects) {
+        int mask = 0;
+        for (int i = 0; i < objects.size(); i++) {
+            mask |= objects.get(i).getCollisionLayer().bit();
+        }
+        return mask;
+    }
+}
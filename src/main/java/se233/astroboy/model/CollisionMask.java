@@ -0,0 +1,148 @@
+package se233.astroboy.model;
+
+// Bit-packed opaque pixels of one sprite frame, scaled to the size the frame is drawn at.
+// Bit k of word j in a row is column j * 64 + k, so two masks are compared 64 columns at a time.
+public final class CollisionMask {
+    // Pixels more transparent than this do not count as solid
+    public static final double ALPHA_THRESHOLD = 0.25;
+
+    private final int width;
+    private final int height;
+    private final int wordsPerRow;
+    private final long[] bits;
+
+    CollisionMask(int width, int height) {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("Invalid mask size: " + width + "x" + height);
+        }
+        this.width = width;
+        this.height = height;
+        this.wordsPerRow = (width + 63) >>> 6;
+        this.bits = new long[wordsPerRow * height];
+    }
+
+    // Builds the mask of the source rectangle of an ARGB image (scanWidth pixels per row) as drawn stretched
+    // to width x height. A mask pixel is solid when any source pixel falling inside it is, so thin features
+    // survive downscaling.
+    public static CollisionMask fromArgb(int[] argb, int scanWidth, int srcX, int srcY, int srcWidth, int srcHeight,
+                                         int width, int height) {
+        CollisionMask mask = new CollisionMask(width, height);
+        int alphaThreshold = (int) (ALPHA_THRESHOLD * 255);
+        double scaleX = (double) width / srcWidth;
+        double scaleY = (double) height / srcHeight;
+        for (int sy = 0; sy < srcHeight; sy++) {
+            int my = Math.min(height - 1, (int) (sy * scaleY));
+            int row = (srcY + sy) * scanWidth + srcX;
+            for (int sx = 0; sx < srcWidth; sx++) {
+                if ((argb[row + sx] >>> 24) > alphaThreshold) {
+                    mask.set(Math.min(width - 1, (int) (sx * scaleX)), my);
+                }
+            }
+        }
+        return mask;
+    }
+
+    // Same mask turned clockwise around its center, as GraphicsContext.rotate draws it.
+    // The result keeps the frame size: the broadphase box is never rotated, so corners outside it can't be hit anyway.
+    public CollisionMask rotated(double degrees) {
+        CollisionMask result = new CollisionMask(width, height);
+        double radians = Math.toRadians(degrees);
+        double cos = Math.cos(radians);
+        double sin = Math.sin(radians);
+        double centerX = width * 0.5;
+        double centerY = height * 0.5;
+        for (int y = 0; y < height; y++) {
+            double dy = y + 0.5 - centerY;
+            for (int x = 0; x < width; x++) {
+                double dx = x + 0.5 - centerX;
+                // Inverse rotation finds the source pixel for each destination pixel
+                int sx = (int) Math.floor(centerX + dx * cos + dy * sin);
+                int sy = (int) Math.floor(centerY - dx * sin + dy * cos);
+                if (isSet(sx, sy)) {
+                    result.set(x, y);
+                }
+            }
+        }
+        return result;
+    }
+
+    // True when this mask and other, placed offsetX/offsetY pixels right/down of this one, share a solid pixel
+    public boolean overlaps(CollisionMask other, int offsetX, int offsetY) {
+        int fromX = Math.max(0, offsetX);
+        int toX = Math.min(width, offsetX + other.width);
+        int firstRow = Math.max(0, offsetY);
+        int lastRow = Math.min(height, offsetY + other.height);
+        if (fromX >= toX) {
+            return false;
+        }
+        int firstWord = fromX >>> 6;
+        int lastWord = (toX + 63) >>> 6;
+        for (int y = firstRow; y < lastRow; y++) {
+            int row = y * wordsPerRow;
+            int otherRow = (y - offsetY) * other.wordsPerRow;
+            for (int w = firstWord; w < lastWord; w++) {
+                if ((bits[row + w] & other.wordAt(otherRow, (w << 6) - offsetX)) != 0) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    // True when any solid pixel lies inside the box [boxX, boxX + boxWidth) x [boxY, boxY + boxHeight)
+    public boolean overlapsBox(int boxX, int boxY, int boxWidth, int boxHeight) {
+        int fromX = Math.max(0, boxX);
+        int toX = Math.min(width, boxX + boxWidth);
+        int firstRow = Math.max(0, boxY);
+        int lastRow = Math.min(height, boxY + boxHeight);
+        if (fromX >= toX) {
+            return false;
+        }
+        int firstWord = fromX >>> 6;
+        int lastWord = (toX - 1) >>> 6;
+        for (int y = firstRow; y < lastRow; y++) {
+            int row = y * wordsPerRow;
+            for (int w = firstWord; w <= lastWord; w++) {
+                long columns = -1L;
+                if (w == firstWord) columns &= -1L << (fromX & 63);
+                if (w == lastWord) columns &= -1L >>> (63 - ((toX - 1) & 63));
+                if ((bits[row + w] & columns) != 0) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    public boolean isSet(int x, int y) {
+        if (x < 0 || y < 0 || x >= width || y >= height) {
+            return false;
+        }
+        return (bits[y * wordsPerRow + (x >>> 6)] & (1L << (x & 63))) != 0;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    private void set(int x, int y) {
+        bits[y * wordsPerRow + (x >>> 6)] |= 1L << (x & 63);
+    }
+
+    // 64 columns of a row starting at column start, which need not be word aligned; columns outside the mask are empty
+    private long wordAt(int row, int start) {
+        int word = Math.floorDiv(start, 64);
+        int shift = Math.floorMod(start, 64);
+        long low = word >= 0 && word < wordsPerRow ? bits[row + word] >>> shift : 0;
+        if (shift == 0) {
+            return low;
+        }
+        int next = word + 1;
+        long high = next >= 0 && next < wordsPerRow ? bits[row + next] << (64 - shift) : 0;
+        return low | high;
+    }
+}
@@ -1,7 +1,6 @@
 package se233.astroboy.model;
 
 import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.image.Image;
 import javafx.scene.paint.Color;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -14,7 +13,8 @@ public class Enemy extends Character {
     private int size; // 1:Large, 2:Medium,
     private int points; // Points awarded when destroyed
     private boolean markedForDestruction;
-    private Image enemyImage;
+    private AtlasSprite enemyImage;
+    private SpriteMask spriteMask;
 
     private int maxHp;
     private int currentHp;
@@ -22,6 +22,7 @@ public class Enemy extends Character {
     private static final double SHOOT_COOLDOWN = 2.0; // Seconds between shots
     private double currentShootCooldown = 0;
     private Player targetPlayer;
+    private final GameRandom random;
 
     private static final String image1 = "/se233/astroboy/asset/player_ship.png";
     private static final String image2 = "/se233/astroboy/asset/enemy.png";
@@ -33,14 +34,21 @@ public class Enemy extends Character {
     private static final Color HP_BAR_FILL = Color.RED;
 
     public Enemy(double x, double y, int size, Player player) {
+        this(x, y, size, player, GameRandom.unseeded());
+    }
+
+    // random also times the shots afterwards, so it is kept
+    public Enemy(double x, double y, int size, Player player, GameRandom random) {
         super(getImagePathForEnemySize(size), x, y, getEnemySize(size), getEnemySize(size));
         this.size = size;
         this.markedForDestruction = false;
         this.targetPlayer =  player;
-        this.currentShootCooldown = Math.random() * SHOOT_COOLDOWN;
+        this.random = random;
+        this.currentShootCooldown = random.nextDouble() * SHOOT_COOLDOWN;
         initializeHp();
         initializeEnemy();
         loadEnemyImage();
+        this.spriteMask = SpriteMask.load(getImagePathForEnemySize(size), width, height);
     }
 
     // Add new method to initialize HP
@@ -78,8 +86,8 @@ public class Enemy extends Character {
     private void loadEnemyImage() {
         try {
             String imagePath = getImagePathForEnemySize(size);
-            this.enemyImage = new Image(getClass().getResourceAsStream(imagePath));
-            if (this.enemyImage == null) {
+            this.enemyImage = AtlasSprite.of(imagePath);
+            if (this.enemyImage == null && !Assets.isHeadless()) {
                 logger.error("Failed to load enemy image for size: {}", size);
             }
         } catch (Exception e) {
@@ -107,8 +115,8 @@ public class Enemy extends Character {
 
     private void initializeEnemy() {
         // Random movement direction
-        double angle = Math.random() * Math.PI * 2;
-        double speed = 3 + Math.random() * 2;
+        double angle = random.nextDouble() * Math.PI * 2;
+        double speed = 3 + random.nextDouble() * 2;
 
         switch(this.size) {
             case 1: // Large
@@ -125,14 +133,16 @@ public class Enemy extends Character {
 
         speedX = Math.cos(angle) * speed;
         speedY = Math.sin(angle) * speed;
-        rotationSpeed = (Math.random() - 0.5) * 7;
-        rotation = Math.random() * 360;
+        rotationSpeed = (random.nextDouble() - 0.5) * 7;
+        rotation = random.nextDouble() * 360;
     }
 
     @Override
-    public void update() {
-        x += speedX;
-        y += speedY;
+    public void update(double dt) {
+        savePreviousState();
+        double frames = dt / REFERENCE_DT;
+        x += speedX * frames;
+        y += speedY * frames;
         if (targetPlayer != null && targetPlayer.isAlive()) {
             double targetAngle = getAngleToPlayer();
             // Smoothly rotate towards player
@@ -141,13 +151,14 @@ public class Enemy extends Character {
             while (angleDiff > 180) angleDiff -= 360;
             while (angleDiff < -180) angleDiff += 360;
             // Rotate towards player with smooth movement
-            rotation += Math.signum(angleDiff) * Math.min(Math.abs(angleDiff), 3.0);
+            rotation += Math.signum(angleDiff) * Math.min(Math.abs(angleDiff), 3.0 * frames);
         }
 
         if (currentShootCooldown > 0) {
-            currentShootCooldown -= 0.016; // Assuming 60 FPS
+            currentShootCooldown -= dt;
         }
         wrapAroundScreen();
+        updateHitBox();
     }
 
     public boolean canShoot() {
@@ -155,7 +166,7 @@ public class Enemy extends Character {
     }
 
     public void resetShootCooldown() {
-        currentShootCooldown = SHOOT_COOLDOWN * (0.8 + Math.random() * 0.4);
+        currentShootCooldown = SHOOT_COOLDOWN * (0.8 + random.nextDouble() * 0.4);
     }
 
     public double getAngleToPlayer() {
@@ -166,33 +177,39 @@ public class Enemy extends Character {
         return Math.toDegrees(Math.atan2(dy, dx));
     }
 
+    // Same rotation as render(): the sprite points up, so it is turned 90 degrees further
+    @Override
+    public CollisionMask getCollisionMask() {
+        return spriteMask != null ? spriteMask.at(rotation + 90) : null;
+    }
+
     private void wrapAroundScreen() {
-        if (x < -width) x = 800;
-        if (x > 800) x = -width;
-        if (y < -height) y = 600;
-        if (y > 600) y = -height;
+        x = ScreenWrap.wrap(x, ScreenWrap.WIDTH);
+        y = ScreenWrap.wrap(y, ScreenWrap.HEIGHT);
     }
 
     @Override
     public void render(GraphicsContext gc) {
 
         if (enemyImage != null) {
-            gc.save();
-
-            gc.translate(x + width/2, y + height/2);
-            // Rotate to face player
-            gc.rotate(rotation + 90);
-            // Draw the image centered
-            gc.drawImage(enemyImage, -width/2, -height/2, width, height);
-
-            gc.restore();
-            renderHpBar(gc);
+            draw(gc, enemyImage, x, y, width, height, rotation, currentHp, maxHp);
         } else {
             logger.warn("Enemy sprite is null, cannot render");
         }
     }
 
-    private void renderHpBar(GraphicsContext gc) {
+    // Draws an enemy from plain values, so a render snapshot can be drawn without the live object
+    public static void draw(GraphicsContext gc, AtlasSprite image, double x, double y, double width, double height,
+                            double rotation, int currentHp, int maxHp) {
+        if (image == null) {
+            return;
+        }
+        // Draw the image centered, rotated to face player
+        image.drawRotated(gc, x + width/2, y + height/2, width, height, rotation + 90);
+        renderHpBar(gc, x, y, width, currentHp, maxHp);
+    }
+
+    private static void renderHpBar(GraphicsContext gc, double x, double y, double width, int currentHp, int maxHp) {
 
         // Calculate HP bar position (above the enemy)
         double hpBarX = x + (width - HP_BAR_WIDTH) / 2;
@@ -228,4 +245,13 @@ public class Enemy extends Character {
     public int getSize() {
         return size;
     }
+
+    public AtlasSprite getImage() {
+        return enemyImage;
+    }
+
+    @Override
+    public CollisionLayer getCollisionLayer() {
+        return CollisionLayer.ENEMY;
+    }
 }
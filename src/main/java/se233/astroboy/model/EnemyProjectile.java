@@ -5,7 +5,8 @@ import javafx.scene.paint.Color;
 
 public class EnemyProjectile extends Character {
     private static final double PROJECTILE_SPEED = 5.0;
-    private static final double MAX_LIFETIME = 1; // seconds
+    private static final double MAX_LIFETIME = 1.11; // seconds, 67 ticks at 60 Hz
+    private static final double SIZE = 6;
 
     private double velocityX;
     private double velocityY;
@@ -14,10 +15,8 @@ public class EnemyProjectile extends Character {
     private final double screenWidth;
     private final double screenHeight;
 
-    private static final String Idle = "/se233/astroboy/asset/player_ship.png";
-
     public EnemyProjectile(double x, double y, double rotation, double screenWidth, double screenHeight) {
-        super(Idle, x, y, 6, 6); // Small projectile size
+        super(null, x, y, SIZE, SIZE); // Small projectile size, drawn as a shape so no sprite
         this.rotation = rotation;
         this.screenWidth = screenWidth;
         this.screenHeight = screenHeight;
@@ -31,27 +30,46 @@ public class EnemyProjectile extends Character {
     }
 
     @Override
-    public void update() {
+    public void update(double dt) {
+        savePreviousState();
+        double frames = dt / REFERENCE_DT;
+
         // Update position
-        x += velocityX;
-        y += velocityY;
+        x += velocityX * frames;
+        y += velocityY * frames;
+
+        // Path covered this tick, for swept collision
+        sweepX = x - previousX;
+        sweepY = y - previousY;
 
         // Update lifetime
-        lifetime += 0.015; // Assuming 60 FPS
+        lifetime += dt;
         if (lifetime >= MAX_LIFETIME) {
             isExpired = true;
             return;
         }
 
         // Wrap around screen
-        if (x < 0) x = screenWidth;
-        if (x > screenWidth) x = 0;
-        if (y < 0) y = screenHeight;
-        if (y > screenHeight) y = 0;
+        x = ScreenWrap.wrap(x, screenWidth);
+        y = ScreenWrap.wrap(y, screenHeight);
+        updateHitBox();
+    }
+
+    // Add a shot flying the same way as new EnemyProjectile(x, y, rotation, ...) to a shot store; returns its row
+    public static int spawn(EntityStore shots, double x, double y, double rotation) {
+        double angleRad = Math.toRadians(rotation);
+        return shots.add(CollisionLayer.ENEMY_SHOT, x, y,
+                Math.cos(angleRad) * PROJECTILE_SPEED, Math.sin(angleRad) * PROJECTILE_SPEED,
+                rotation, SIZE, SIZE, 1, MAX_LIFETIME);
     }
 
     @Override
     public void render(GraphicsContext gc) {
+        draw(gc, x, y, rotation, width, height);
+    }
+
+    // Shared with the shot store rows, which have no object to render themselves
+    public static void draw(GraphicsContext gc, double x, double y, double rotation, double width, double height) {
         gc.save();
         gc.setFill(Color.RED);
         gc.fillOval(x - width/2, y - height/2, width, height);
@@ -72,4 +90,9 @@ public class EnemyProjectile extends Character {
     public boolean isExpired() {
         return isExpired;
     }
-}
\ No newline at end of file
+
+    @Override
+    public CollisionLayer getCollisionLayer() {
+        return CollisionLayer.ENEMY_SHOT;
+    }
+}
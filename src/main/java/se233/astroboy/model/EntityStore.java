@@ -0,0 +1,246 @@
+package se233.astroboy.model;
+
+import java.util.Arrays;
+
+// Simple moving bodies (straight-flying shots) stored as parallel columns instead of one object per body.
+// A row is a body; update, collision and render loops walk the columns front to back, and the arrays are
+// reused from tick to tick, so tens of thousands of bodies cost no per-body allocation.
+// Rows follow the same conventions as Character: the hit box is (x, y) to (x + width, y + height),
+// speeds are in pixels per 1/60 s frame and the sweep holds the path covered by the last tick.
+public class EntityStore {
+    public static final int DEFAULT_CAPACITY = 16;
+
+    // Set on a row that expired or was destroyed; compact() drops it
+    public static final int FLAG_REMOVED = 1;
+
+    private static final CollisionLayer[] LAYERS = CollisionLayer.values();
+
+    private final double worldWidth;
+    private final double worldHeight;
+
+    private double[] x;
+    private double[] y;
+    private double[] previousX;
+    private double[] previousY;
+    private double[] velocityX;
+    private double[] velocityY;
+    private double[] sweepX;
+    private double[] sweepY;
+    private double[] age;
+    private double[] lifetime;
+    private float[] rotation;
+    private float[] width;
+    private float[] height;
+    private int[] hp;
+    private int[] flags;
+    private int[] layer;
+    private int count;
+    private int removedCount;
+
+    public EntityStore(double worldWidth, double worldHeight) {
+        this(worldWidth, worldHeight, DEFAULT_CAPACITY);
+    }
+
+    public EntityStore(double worldWidth, double worldHeight, int initialCapacity) {
+        if (initialCapacity < 1) {
+            throw new IllegalArgumentException("Invalid capacity: " + initialCapacity);
+        }
+        this.worldWidth = worldWidth;
+        this.worldHeight = worldHeight;
+        x = new double[initialCapacity];
+        y = new double[initialCapacity];
+        previousX = new double[initialCapacity];
+        previousY = new double[initialCapacity];
+        velocityX = new double[initialCapacity];
+        velocityY = new double[initialCapacity];
+        sweepX = new double[initialCapacity];
+        sweepY = new double[initialCapacity];
+        age = new double[initialCapacity];
+        lifetime = new double[initialCapacity];
+        rotation = new float[initialCapacity];
+        width = new float[initialCapacity];
+        height = new float[initialCapacity];
+        hp = new int[initialCapacity];
+        flags = new int[initialCapacity];
+        layer = new int[initialCapacity];
+    }
+
+    // Append a body and return its row. Lifetime is in seconds, like the MAX_LIFETIME of the shot classes
+    public int add(CollisionLayer collisionLayer, double x, double y, double velocityX, double velocityY,
+                   double rotation, double width, double height, int hp, double lifetime) {
+        if (count == this.x.length) {
+            grow(count * 2);
+        }
+        int row = count++;
+        this.x[row] = x;
+        this.y[row] = y;
+        this.previousX[row] = x;
+        this.previousY[row] = y;
+        this.velocityX[row] = velocityX;
+        this.velocityY[row] = velocityY;
+        this.sweepX[row] = 0;
+        this.sweepY[row] = 0;
+        this.age[row] = 0;
+        this.lifetime[row] = lifetime;
+        this.rotation[row] = (float) rotation;
+        this.width[row] = (float) width;
+        this.height[row] = (float) height;
+        this.hp[row] = hp;
+        this.flags[row] = 0;
+        this.layer[row] = collisionLayer.ordinal();
+        return row;
+    }
+
+    // Move every live body by dt seconds, the column version of EnemyProjectile.update(dt).
+    // A body that runs out of lifetime is flagged removed where it stopped, without wrapping.
+    public void integrate(double dt) {
+        double frames = dt / Character.REFERENCE_DT;
+        for (int row = 0; row < count; row++) {
+            if ((flags[row] & FLAG_REMOVED) != 0) {
+                continue;
+            }
+            double startX = x[row];
+            double startY = y[row];
+            double movedX = startX + velocityX[row] * frames;
+            double movedY = startY + velocityY[row] * frames;
+            previousX[row] = startX;
+            previousY[row] = startY;
+            sweepX[row] = movedX - startX;
+            sweepY[row] = movedY - startY;
+
+            age[row] += dt;
+            if (age[row] >= lifetime[row]) {
+                x[row] = movedX;
+                y[row] = movedY;
+                flags[row] |= FLAG_REMOVED;
+                removedCount++;
+                continue;
+            }
+            x[row] = ScreenWrap.wrap(movedX, worldWidth);
+            y[row] = ScreenWrap.wrap(movedY, worldHeight);
+        }
+    }
+
+    // Take hit points off a body; it is flagged removed once they run out
+    public void damage(int row, int amount) {
+        checkRow(row);
+        hp[row] -= amount;
+        if (hp[row] <= 0) {
+            remove(row);
+        }
+    }
+
+    public void remove(int row) {
+        checkRow(row);
+        if ((flags[row] & FLAG_REMOVED) == 0) {
+            flags[row] |= FLAG_REMOVED;
+            removedCount++;
+        }
+    }
+
+    // Drop the removed rows in one pass. Live rows keep their order, so row numbers change here and only here
+    public void compact() {
+        if (removedCount == 0) {
+            return;
+        }
+        int live = 0;
+        for (int row = 0; row < count; row++) {
+            if ((flags[row] & FLAG_REMOVED) != 0) {
+                continue;
+            }
+            if (live != row) {
+                copyRow(row, live);
+            }
+            live++;
+        }
+        count = live;
+        removedCount = 0;
+    }
+
+    // Forget every body but keep the arrays for reuse
+    public void clear() {
+        count = 0;
+        removedCount = 0;
+    }
+
+    private void copyRow(int from, int to) {
+        x[to] = x[from];
+        y[to] = y[from];
+        previousX[to] = previousX[from];
+        previousY[to] = previousY[from];
+        velocityX[to] = velocityX[from];
+        velocityY[to] = velocityY[from];
+        sweepX[to] = sweepX[from];
+        sweepY[to] = sweepY[from];
+        age[to] = age[from];
+        lifetime[to] = lifetime[from];
+        rotation[to] = rotation[from];
+        width[to] = width[from];
+        height[to] = height[from];
+        hp[to] = hp[from];
+        flags[to] = flags[from];
+        layer[to] = layer[from];
+    }
+
+    private void grow(int capacity) {
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        previousX = Arrays.copyOf(previousX, capacity);
+        previousY = Arrays.copyOf(previousY, capacity);
+        velocityX = Arrays.copyOf(velocityX, capacity);
+        velocityY = Arrays.copyOf(velocityY, capacity);
+        sweepX = Arrays.copyOf(sweepX, capacity);
+        sweepY = Arrays.copyOf(sweepY, capacity);
+        age = Arrays.copyOf(age, capacity);
+        lifetime = Arrays.copyOf(lifetime, capacity);
+        rotation = Arrays.copyOf(rotation, capacity);
+        width = Arrays.copyOf(width, capacity);
+        height = Arrays.copyOf(height, capacity);
+        hp = Arrays.copyOf(hp, capacity);
+        flags = Arrays.copyOf(flags, capacity);
+        layer = Arrays.copyOf(layer, capacity);
+    }
+
+    private void checkRow(int row) {
+        if (row < 0 || row >= count) {
+            throw new IllegalArgumentException("Invalid row: " + row);
+        }
+    }
+
+    // Rows, including the removed ones not compacted yet
+    public int size() { return count; }
+    public int liveCount() { return count - removedCount; }
+    public boolean isEmpty() { return count == removedCount; }
+    public int capacity() { return x.length; }
+    public double getWorldWidth() { return worldWidth; }
+    public double getWorldHeight() { return worldHeight; }
+
+    // Row accessors; these compile down to plain array loads
+    public boolean isRemoved(int row) { return (flags[row] & FLAG_REMOVED) != 0; }
+    public double getX(int row) { return x[row]; }
+    public double getY(int row) { return y[row]; }
+    public double getPreviousX(int row) { return previousX[row]; }
+    public double getPreviousY(int row) { return previousY[row]; }
+    public double getVelocityX(int row) { return velocityX[row]; }
+    public double getVelocityY(int row) { return velocityY[row]; }
+    public double getRotation(int row) { return rotation[row]; }
+    public double getWidth(int row) { return width[row]; }
+    public double getHeight(int row) { return height[row]; }
+    public double getAge(int row) { return age[row]; }
+    public int getHp(int row) { return hp[row]; }
+    public int getFlags(int row) { return flags[row]; }
+    public CollisionLayer getCollisionLayer(int row) { return LAYERS[layer[row]]; }
+    public double getSweepX(int row) { return sweepX[row]; }
+    public double getSweepY(int row) { return sweepY[row]; }
+    public boolean isSwept(int row) { return sweepX[row] != 0 || sweepY[row] != 0; }
+
+    // Hit box of a row, and the same box grown to cover the last tick's path
+    public double getHitMinX(int row) { return x[row]; }
+    public double getHitMinY(int row) { return y[row]; }
+    public double getHitMaxX(int row) { return x[row] + width[row]; }
+    public double getHitMaxY(int row) { return y[row] + height[row]; }
+    public double getSweptMinX(int row) { return sweepX[row] > 0 ? x[row] - sweepX[row] : x[row]; }
+    public double getSweptMinY(int row) { return sweepY[row] > 0 ? y[row] - sweepY[row] : y[row]; }
+    public double getSweptMaxX(int row) { return sweepX[row] < 0 ? getHitMaxX(row) - sweepX[row] : getHitMaxX(row); }
+    public double getSweptMaxY(int row) { return sweepY[row] < 0 ? getHitMaxY(row) - sweepY[row] : getHitMaxY(row); }
+}
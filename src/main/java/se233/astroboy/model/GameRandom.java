@@ -0,0 +1,92 @@
+package se233.astroboy.model;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+// xoshiro256** generator used for everything random in the simulation, in place of Math.random().
+// Each world owns its generators, so nothing is shared between threads, and a seeded world plays out the same
+// every run. The four state words can be saved and restored, e.g. to rewind a replay.
+// Not thread-safe: give each thread (or world) its own instance.
+public final class GameRandom {
+    private static final double DOUBLE_UNIT = 0x1.0p-53;
+
+    private long s0;
+    private long s1;
+    private long s2;
+    private long s3;
+
+    public GameRandom(long seed) {
+        // Spread the seed over the state with SplitMix64, which never yields the all-zero state
+        long z = seed;
+        s0 = splitMix64(z += 0x9E3779B97F4A7C15L);
+        s1 = splitMix64(z += 0x9E3779B97F4A7C15L);
+        s2 = splitMix64(z += 0x9E3779B97F4A7C15L);
+        s3 = splitMix64(z + 0x9E3779B97F4A7C15L);
+    }
+
+    // For code that doesn't care about reproducibility, like objects built directly in tests
+    public static GameRandom unseeded() {
+        return new GameRandom(ThreadLocalRandom.current().nextLong());
+    }
+
+    // Seed of an independent stream: the same seed and name always give the same stream
+    public static long streamSeed(long seed, String name) {
+        return splitMix64(seed ^ splitMix64(name.hashCode()));
+    }
+
+    public long nextLong() {
+        long result = Long.rotateLeft(s1 * 5, 7) * 9;
+        long t = s1 << 17;
+        s2 ^= s0;
+        s3 ^= s1;
+        s1 ^= s2;
+        s0 ^= s3;
+        s2 ^= t;
+        s3 = Long.rotateLeft(s3, 45);
+        return result;
+    }
+
+    // Uniform in [0, 1), a drop-in for Math.random()
+    public double nextDouble() {
+        return (nextLong() >>> 11) * DOUBLE_UNIT;
+    }
+
+    // Uniform in [0, bound)
+    public int nextInt(int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("Invalid bound: " + bound);
+        }
+        return (int) (nextDouble() * bound);
+    }
+
+    public boolean nextBoolean() {
+        return nextLong() < 0;
+    }
+
+    // A new generator seeded from this one, for handing a subsystem its own stream
+    public GameRandom split() {
+        return new GameRandom(nextLong());
+    }
+
+    public long[] saveState() {
+        return new long[]{s0, s1, s2, s3};
+    }
+
+    public void restoreState(long[] state) {
+        if (state == null || state.length != 4) {
+            throw new IllegalArgumentException("Random state must be four longs");
+        }
+        if ((state[0] | state[1] | state[2] | state[3]) == 0) {
+            throw new IllegalArgumentException("Random state cannot be all zero");
+        }
+        s0 = state[0];
+        s1 = state[1];
+        s2 = state[2];
+        s3 = state[3];
+    }
+
+    private static long splitMix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
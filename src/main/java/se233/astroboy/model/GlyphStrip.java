@@ -0,0 +1,173 @@
+package se233.astroboy.model;
+
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+
+// A handful of characters in one font and colour, rasterised once side by side into a single image, so numbers
+// that change every frame are drawn as a few drawImage calls straight from an int: no String, no layout.
+// Glyphs are rasterised with java.awt, like the atlas pages are decoded, so a strip can be built off the FX thread.
+// Positions follow fillText: x is the left edge and y the baseline.
+public final class GlyphStrip {
+    // Room around each glyph for antialiasing and overhang
+    static final int PADDING = 2;
+
+    private final String glyphs;
+    private final Image image;
+    private final int[] offsets;
+    private final int[] advances;
+    private final int baseline;
+    private final int height;
+
+    public GlyphStrip(String family, boolean bold, int size, Color color, String glyphs) {
+        if (glyphs == null || glyphs.isEmpty()) {
+            throw new IllegalArgumentException("A glyph strip needs at least one glyph");
+        }
+        this.glyphs = glyphs;
+        java.awt.Font font = awtFont(family, bold, size);
+        java.awt.FontMetrics metrics = metrics(font);
+        offsets = new int[glyphs.length()];
+        advances = new int[glyphs.length()];
+        int width = 0;
+        for (int i = 0; i < glyphs.length(); i++) {
+            offsets[i] = width;
+            advances[i] = metrics.charWidth(glyphs.charAt(i));
+            width += advances[i] + 2 * PADDING;
+        }
+        baseline = PADDING + metrics.getAscent();
+        height = baseline + metrics.getDescent() + PADDING;
+
+        BufferedImage strip = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = begin(strip, font, color);
+        for (int i = 0; i < glyphs.length(); i++) {
+            g.drawString(String.valueOf(glyphs.charAt(i)), offsets[i] + PADDING, baseline);
+        }
+        g.dispose();
+        image = toImage(strip);
+    }
+
+    // Draws the digits of value, with a leading '-' if negative, and returns the x after them
+    public double drawInt(GraphicsContext gc, long value, double x, double y) {
+        if (value < 0) {
+            x = drawGlyph(gc, '-', x, y);
+        }
+        // Worked with negatives, so Long.MIN_VALUE has digits too
+        long rest = value < 0 ? value : -value;
+        long divisor = 1;
+        while (rest / divisor <= -10) {
+            divisor *= 10;
+        }
+        while (divisor != 0) {
+            x = drawGlyph(gc, (char) ('0' - rest / divisor), x, y);
+            rest %= divisor;
+            divisor /= 10;
+        }
+        return x;
+    }
+
+    // Draws tenths as a number with one decimal, so 35 is "3.5", and returns the x after it
+    public double drawTenths(GraphicsContext gc, long tenths, double x, double y) {
+        if (tenths < 0) {
+            x = drawGlyph(gc, '-', x, y);
+        }
+        long whole = Math.abs(tenths / 10);
+        x = drawInt(gc, whole, x, y);
+        x = drawGlyph(gc, '.', x, y);
+        return drawGlyph(gc, (char) ('0' + Math.abs(tenths % 10)), x, y);
+    }
+
+    // Draws one character of the strip and returns the x after it
+    public double drawGlyph(GraphicsContext gc, char c, double x, double y) {
+        int i = indexOf(c);
+        int cell = advances[i] + 2 * PADDING;
+        gc.drawImage(image, offsets[i], 0, cell, height, x - PADDING, y - baseline, cell, height);
+        return x + advances[i];
+    }
+
+    // How far drawInt moves along for value
+    public int intWidth(long value) {
+        int width = value < 0 ? advance('-') : 0;
+        long rest = value < 0 ? value : -value;
+        do {
+            width += advance((char) ('0' - rest % 10));
+            rest /= 10;
+        } while (rest != 0);
+        return width;
+    }
+
+    // Advance of one character
+    public int advance(char c) {
+        return advances[indexOf(c)];
+    }
+
+    // A character missing from the strip would silently drop out of the number, such as the sign of a negative one
+    private int indexOf(char c) {
+        int i = glyphs.indexOf(c);
+        if (i < 0) {
+            throw new IllegalArgumentException("'" + c + "' is not on the glyph strip \"" + glyphs + "\"");
+        }
+        return i;
+    }
+
+    public String getGlyphs() {
+        return glyphs;
+    }
+
+    public Image getImage() {
+        return image;
+    }
+
+    public int getBaseline() {
+        return baseline;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    // Source x of a character's cell on the strip, -1 when it isn't on it
+    public int offsetOf(char c) {
+        int i = glyphs.indexOf(c);
+        return i < 0 ? -1 : offsets[i];
+    }
+
+    static java.awt.Font awtFont(String family, boolean bold, int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Font size must be positive: " + size);
+        }
+        return new java.awt.Font(family, bold ? java.awt.Font.BOLD : java.awt.Font.PLAIN, size);
+    }
+
+    static java.awt.FontMetrics metrics(java.awt.Font font) {
+        // Any image will do; metrics only need a graphics context with the same hints as the drawing one
+        Graphics2D g = begin(new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB), font, Color.WHITE);
+        java.awt.FontMetrics metrics = g.getFontMetrics();
+        g.dispose();
+        return metrics;
+    }
+
+    static Graphics2D begin(BufferedImage target, java.awt.Font font, Color color) {
+        Graphics2D g = target.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        g.setRenderingHint(RenderingHints.KEY_FRACTIONALMETRICS, RenderingHints.VALUE_FRACTIONALMETRICS_OFF);
+        g.setFont(font);
+        g.setColor(new java.awt.Color((float) color.getRed(), (float) color.getGreen(), (float) color.getBlue(),
+                (float) color.getOpacity()));
+        return g;
+    }
+
+    static Image toImage(BufferedImage source) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        WritableImage image = new WritableImage(width, height);
+        image.getPixelWriter().setPixels(0, 0, width, height, PixelFormat.getIntArgbInstance(),
+                source.getRGB(0, 0, width, height, null, 0, width), 0, width);
+        return image;
+    }
+}
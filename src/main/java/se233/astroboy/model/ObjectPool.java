@@ -0,0 +1,85 @@
+package se233.astroboy.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+// Recycles short-lived game objects so steady combat allocates nothing (and decodes no sprites).
+// acquire() hands out a released object when there is one and a new one otherwise; the caller re-initialises it
+// with the type's reset method. At most maxSize released objects are kept, the rest are left to the GC.
+// An object must be released once, after the game stops using it.
+public class ObjectPool<T> {
+    private final String name;
+    private final int maxSize;
+    private final Supplier<T> factory;
+    private final List<T> free;
+
+    private long hits;
+    private long misses;
+    private long discarded;
+
+    public ObjectPool(String name, int maxSize, Supplier<T> factory) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("Invalid pool size: " + maxSize);
+        }
+        if (factory == null) {
+            throw new IllegalArgumentException("Pool factory cannot be null");
+        }
+        this.name = name;
+        this.maxSize = maxSize;
+        this.factory = factory;
+        this.free = new ArrayList<>(maxSize);
+    }
+
+    // Create objects up front so the first volleys don't allocate either; not counted as misses
+    public void prewarm(int count) {
+        while (free.size() < Math.min(count, maxSize)) {
+            free.add(factory.get());
+        }
+    }
+
+    public T acquire() {
+        if (free.isEmpty()) {
+            misses++;
+            return factory.get();
+        }
+        hits++;
+        return free.remove(free.size() - 1);
+    }
+
+    public void release(T object) {
+        if (object == null) {
+            throw new IllegalArgumentException("Cannot release null to pool " + name);
+        }
+        if (free.size() < maxSize) {
+            free.add(object);
+        } else {
+            discarded++;
+        }
+    }
+
+    // Release every object of the list, for example when a new game drops all live objects
+    public void releaseAll(List<? extends T> objects) {
+        for (int i = 0; i < objects.size(); i++) {
+            release(objects.get(i));
+        }
+    }
+
+    public void resetStatistics() {
+        hits = 0;
+        misses = 0;
+        discarded = 0;
+    }
+
+    public String getName() { return name; }
+    public int getMaxSize() { return maxSize; }
+    public int getFreeCount() { return free.size(); }
+    public long getHits() { return hits; }
+    public long getMisses() { return misses; }
+    public long getDiscarded() { return discarded; }
+
+    // e.g. "explosions hits=120 misses=8 discarded=0 free=8"
+    public String report() {
+        return name + " hits=" + hits + " misses=" + misses + " discarded=" + discarded + " free=" + free.size();
+    }
+}
@@ -1,7 +1,6 @@
 package se233.astroboy.model;
 
 import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.image.Image;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -13,8 +12,8 @@ public class Player extends Character {
     private static final String Hit = "/se233/astroboy/asset/explosion.png";
     private static final String SHOOT_EFFECT = "/se233/astroboy/asset/GreenE2.png";
 
-    private Image HitImage;
-    private Image shootEffectImage; // New image for shoot effect
+    private AtlasSprite HitImage;
+    private AtlasSprite shootEffectImage; // New image for shoot effect
     private int HitFrame = 0;
     private int shootEffectFrame = 0; // Track current frame of shoot effect
     private double HitAnimationTimer = 0;
@@ -24,7 +23,7 @@ public class Player extends Character {
     private static final int Hit_FRAME_COUNT = 5;
     private static final int SHOOT_EFFECT_FRAME_COUNT = 6; // Number of frames in shoot effect animation
     private boolean isShowingShootEffect = false; // Flag to control shoot effect visibility
-    private Image idleImage;
+    private AtlasSprite idleImage;
     private PlayerState currentState = PlayerState.IDLE;
 
     // Movement properties
@@ -43,6 +42,7 @@ public class Player extends Character {
 
     // Game state
     private int lives;
+    private CollisionLayer lastHitCause;
     private boolean isInvulnerable;
     private double invulnerabilityTimer;
 
@@ -77,9 +77,9 @@ public class Player extends Character {
         this.rotation = -90;  // Start facing upward
 
         try {
-            this.idleImage = new Image(getClass().getResourceAsStream(IDLE));
-            this.HitImage = new Image(getClass().getResourceAsStream(Hit));
-            this.shootEffectImage = new Image(getClass().getResourceAsStream(SHOOT_EFFECT));
+            this.idleImage = AtlasSprite.of(IDLE);
+            this.HitImage = AtlasSprite.of(Hit);
+            this.shootEffectImage = AtlasSprite.of(SHOOT_EFFECT);
         } catch (Exception e) {
             logger.error("Failed to load idle image: " + e.getMessage());
         }
@@ -89,11 +89,13 @@ public class Player extends Character {
     }
 
     @Override
-    public void update() {
+    public void update(double dt) {
+        savePreviousState();
+        double frames = dt / REFERENCE_DT;
 
         // Update shoot effect animation
         if (isShowingShootEffect) {
-            shootEffectTimer += 0.016;
+            shootEffectTimer += dt;
             if (shootEffectTimer >= SHOOT_EFFECT_FRAME_DURATION) {
                 shootEffectFrame = (shootEffectFrame + 1) % SHOOT_EFFECT_FRAME_COUNT;
                 shootEffectTimer = 0;
@@ -107,7 +109,7 @@ public class Player extends Character {
 
         // Update bomb cooldown
         if (!canUseBomb) {
-            bombCooldownTimer -= 0.016; // Assuming 60 FPS
+            bombCooldownTimer -= dt;
             if (bombCooldownTimer <= 0) {
                 canUseBomb = true;
                 logger.debug("Bomb ability ready");
@@ -116,39 +118,40 @@ public class Player extends Character {
 
         if (isMovingForward ) {
             currentState = PlayerState.MOVING;
-            updateAnimation(0.016);
+            updateAnimation(dt);
         } else {
             currentState = PlayerState.IDLE;
         }
 
         // Update rotation
         if (isRotatingLeft) {
-            rotation -= rotationSpeed;
+            rotation -= rotationSpeed * frames;
         }
         if (isRotatingRight) {
-            rotation += rotationSpeed;
+            rotation += rotationSpeed * frames;
         }
 
         // Update movement
         double angleRad = Math.toRadians(rotation);
+        double thrust = acceleration * frames;
         if (isMovingForward) {
-            velocityX += Math.cos(angleRad) * acceleration;
-            velocityY += Math.sin(angleRad) * acceleration;
+            velocityX += Math.cos(angleRad) * thrust;
+            velocityY += Math.sin(angleRad) * thrust;
         }
         if (isMovingBackward) {
-            velocityX -= Math.cos(angleRad) * acceleration;
-            velocityY -= Math.sin(angleRad) * acceleration;
+            velocityX -= Math.cos(angleRad) * thrust;
+            velocityY -= Math.sin(angleRad) * thrust;
         }
         // Left movement (perpendicular to forward, 90 degrees counterclockwise)
         if (isMovingLeft) {
-            velocityX += Math.cos(angleRad - Math.PI / 2) * acceleration;
-            velocityY += Math.sin(angleRad - Math.PI / 2) * acceleration;
+            velocityX += Math.cos(angleRad - Math.PI / 2) * thrust;
+            velocityY += Math.sin(angleRad - Math.PI / 2) * thrust;
         }
 
         // Right movement (perpendicular to forward, 90 degrees clockwise)
         if (isMovingRight) {
-            velocityX += Math.cos(angleRad + Math.PI / 2) * acceleration;
-            velocityY += Math.sin(angleRad + Math.PI / 2) * acceleration;
+            velocityX += Math.cos(angleRad + Math.PI / 2) * thrust;
+            velocityY += Math.sin(angleRad + Math.PI / 2) * thrust;
         }
 
         // Limit speed
@@ -159,28 +162,28 @@ public class Player extends Character {
         }
 
         // Apply velocity
-        x += velocityX;
-        y += velocityY;
+        x += velocityX * frames;
+        y += velocityY * frames;
 
         // Apply drag
-        velocityX *= deceleration;
-        velocityY *= deceleration;
+        double drag = Math.pow(deceleration, frames);
+        velocityX *= drag;
+        velocityY *= drag;
 
         // Wrap around screen
-        if (x < 0) x = screenWidth;
-        if (x > screenWidth) x = 0;
-        if (y < 0) y = screenHeight;
-        if (y > screenHeight) y = 0;
+        x = ScreenWrap.wrap(x, screenWidth);
+        y = ScreenWrap.wrap(y, screenHeight);
+        updateHitBox();
 
         // Update invulnerability
         if (isInvulnerable) {
-            HitAnimationTimer += 0.016;
+            HitAnimationTimer += dt;
             if (HitAnimationTimer >= Hit_FRAME_DURATION) {
                 HitFrame = (HitFrame + 1) % Hit_FRAME_COUNT;
                 HitAnimationTimer = 0;
             }
 
-            invulnerabilityTimer -= 0.016;
+            invulnerabilityTimer -= dt;
             if (invulnerabilityTimer <= 0) {
                 isInvulnerable = false;
                 HitFrame = 0;
@@ -189,71 +192,118 @@ public class Player extends Character {
 
         // Update shooting cooldown
         if (timeSinceLastShot < shootCooldown) {
-            timeSinceLastShot += 0.016;
+            timeSinceLastShot += dt;
         }
     }
 
     @Override
     public void render(GraphicsContext gc) {
-        gc.save();
-
-        // Calculate drawing position
-        double drawX = x - frameWidth / 2;
-        double drawY = y - frameHeight / 2;
+        draw(gc, x, y, rotation, frameWidth, frameHeight, getBodyImage(), getBodyFrame(), isBlinking(),
+                HitImage, getHitFrame(), shootEffectImage, getShootEffectFrame());
+    }
 
-        // Apply rotation
-        gc.translate(x, y);
-        gc.rotate(rotation + 90);
-        gc.translate(-x, -y);
+    // Draws the ship from plain values, so a render snapshot can be drawn without the live object.
+    // A frame of -1 draws the whole body image, or leaves out the hit and shoot effects.
+    public static void draw(GraphicsContext gc, double x, double y, double rotation, int frameWidth, int frameHeight,
+                            AtlasSprite body, int bodyFrame, boolean blinking,
+                            AtlasSprite hitImage, int hitFrame, AtlasSprite shootEffectImage, int shootEffectFrame) {
+        double angle = rotation + 90;
+        double previousAlpha = gc.getGlobalAlpha();
 
         // Apply invulnerability effect
-        if (isInvulnerable && Math.floor(invulnerabilityTimer * 10) % 2 == 0) {
+        if (blinking) {
             gc.setGlobalAlpha(0.5);
         }
 
-        // Draw based on current state
-        if (currentState == PlayerState.IDLE && idleImage != null) {
-            gc.drawImage(idleImage, drawX, drawY, frameWidth, frameHeight);
-        } else if (spriteSheet != null) {
+        // Draw based on current state, rotated about the ship's centre
+        if (body != null && bodyFrame < 0) {
+            body.drawRotated(gc, x, y, frameWidth, frameHeight, angle);
+        } else if (body != null) {
             // Draw animation frame from sprite sheet
-            double sourceX = currentFrame * frameWidth;
-            gc.drawImage(
-                    spriteSheet,
+            double sourceX = bodyFrame * frameWidth;
+            body.drawRotated(
+                    gc,
                     sourceX, 0, frameWidth, frameHeight,
-                    drawX, drawY, frameWidth, frameHeight
+                    x, y, frameWidth, frameHeight,
+                    angle
             );
         }
 
         // Draw hit effect if invulnerable
-        if (isInvulnerable && HitImage != null) {
-            double effectSourceX = HitFrame * frameWidth;
+        if (hitFrame >= 0 && hitImage != null) {
+            double effectSourceX = hitFrame * frameWidth;
             gc.setGlobalAlpha(0.7); // Make the effect slightly transparent
-            gc.drawImage(
-                    HitImage,
+            hitImage.drawRotated(
+                    gc,
                     effectSourceX, 0,
                     frameWidth, frameHeight,
-                    drawX, drawY,
-                    frameWidth, frameHeight
+                    x, y,
+                    frameWidth, frameHeight,
+                    angle
             );
         }
 
         // Draw shoot effect
-        if (isShowingShootEffect && shootEffectImage != null) {
+        if (shootEffectFrame >= 0 && shootEffectImage != null) {
             double effectSourceX = shootEffectFrame * frameWidth;
             gc.setGlobalAlpha(0.8);
 
-
-            gc.drawImage(
-                    shootEffectImage,
+            // Centre of the effect, offset upward in the rotated space, then turned with the ship
+            double offsetX = 7.5 + frameWidth * 0.25 - frameWidth / 2;
+            double offsetY = -frameHeight * 0.05 - frameHeight / 2;
+            double radians = Math.toRadians(angle);
+            double cos = Math.cos(radians);
+            double sin = Math.sin(radians);
+            shootEffectImage.drawRotated(
+                    gc,
                     effectSourceX, 0,
                     frameWidth, frameHeight,
-                    drawX + 7.5, drawY - frameHeight * 0.3, // Offset upward in the rotated space
-                    frameWidth * 0.5, frameHeight * 0.5 // Maintain the smaller size
+                    x + offsetX * cos - offsetY * sin, y + offsetX * sin + offsetY * cos,
+                    frameWidth * 0.5, frameHeight * 0.5, // Maintain the smaller size
+                    angle
             );
         }
 
-        gc.setGlobalAlpha(1.0);
-        gc.restore();
+        gc.setGlobalAlpha(previousAlpha);
+    }
+
+    // The idle ship, or the thruster animation sheet while moving
+    public AtlasSprite getBodyImage() {
+        return currentState == PlayerState.IDLE && idleImage != null ? idleImage : spriteSheet;
+    }
+
+    // Frame of the body sheet, -1 when the body image is drawn whole
+    public int getBodyFrame() {
+        return currentState == PlayerState.IDLE && idleImage != null ? -1 : currentFrame;
+    }
+
+    // Half transparent on every other tenth of a second while invulnerable
+    public boolean isBlinking() {
+        return isInvulnerable && Math.floor(invulnerabilityTimer * 10) % 2 == 0;
+    }
+
+    public int getHitFrame() {
+        return isInvulnerable ? HitFrame : -1;
+    }
+
+    public int getShootEffectFrame() {
+        return isShowingShootEffect ? shootEffectFrame : -1;
+    }
+
+    public AtlasSprite getHitImage() {
+        return HitImage;
+    }
+
+    public AtlasSprite getShootEffectImage() {
+        return shootEffectImage;
+    }
+
+    public int getFrameWidth() {
+        return frameWidth;
+    }
+
+    public int getFrameHeight() {
+        return frameHeight;
     }
 
     // Bomb ability methods
@@ -265,7 +315,7 @@ public class Player extends Character {
         if (canUseBomb) {
             canUseBomb = false;
             bombCooldownTimer = BOMB_COOLDOWN;
-            logger.info("Bomb ability used");
+            logger.debug("Bomb ability used");
         }
     }
 
@@ -276,32 +326,32 @@ public class Player extends Character {
     // Existing movement setters...
     public void setMovingForward(boolean moving) {
         this.isMovingForward = moving;
-        logger.debug("Moving forward");
+        logger.trace("Moving forward");
     }
 
     public void setMovingBackward(boolean moving) {
         this.isMovingBackward = moving;
-        logger.debug("Moving backward");
+        logger.trace("Moving backward");
     }
 
     public void setMovingLeft(boolean moving) {
         this.isMovingLeft = moving;
-        logger.debug("Moving left");
+        logger.trace("Moving left");
     }
 
     public void setMovingRight(boolean moving) {
         this.isMovingRight = moving;
-        logger.debug("Moving right");
+        logger.trace("Moving right");
     }
 
     public void setRotatingLeft(boolean rotating) {
         this.isRotatingLeft = rotating;
-        logger.debug("Rotating left");
+        logger.trace("Rotating left");
     }
 
     public void setRotatingRight(boolean rotating) {
         this.isRotatingRight = rotating;
-        logger.debug("Rotating right");
+        logger.trace("Rotating right");
     }
 
     // Shooting methods
@@ -319,14 +369,25 @@ public class Player extends Character {
 
     // Game state methods
     public void hit() {
+        hit(null);
+    }
+
+    // cause is the layer of whatever hit the ship, kept for the batch statistics; null if unknown
+    public void hit(CollisionLayer cause) {
         if (!isInvulnerable) {
             lives--;
             isInvulnerable = true;
             invulnerabilityTimer = 2.0;
-            logger.info("Player hit! Lives remaining: {}", lives);
+            lastHitCause = cause;
+            logger.debug("Player hit! Lives remaining: {}", lives);
         }
     }
 
+    // What took the last life; once the player is dead, what ended the game
+    public CollisionLayer getLastHitCause() {
+        return lastHitCause;
+    }
+
     public boolean isInvulnerable() {
         return isInvulnerable;
     }
@@ -342,4 +403,9 @@ public class Player extends Character {
     public double getShipAngle() {
         return rotation;
     }
-}
\ No newline at end of file
+
+    @Override
+    public CollisionLayer getCollisionLayer() {
+        return CollisionLayer.PLAYER;
+    }
+}
@@ -9,7 +9,8 @@ public class Projectile extends Character {
     private static final Logger logger = LogManager.getLogger(Projectile.class);
 
     private static final double PROJECTILE_SPEED = 12.0;
-    private static final double MAX_LIFETIME = 1;
+    private static final double MAX_LIFETIME = 0.66; // seconds, 40 ticks at 60 Hz
+    private static final double SIZE = 6;
 
     private double velocityX;
     private double velocityY;
@@ -18,10 +19,10 @@ public class Projectile extends Character {
     private final double screenWidth;
     private final double screenHeight;
 
-    private static final String Idle = "/se233/astroboy/asset/player_ship.png";
-
+    // Player shots in the game are rows of an EntityStore (see spawn); the object form is the reference
+    // the store rows are checked against, and a Character for collision checks
     public Projectile(double x, double y, double rotation, double screenWidth, double screenHeight) {
-        super(Idle, x, y, 6, 6); // Small projectile size
+        super(null, x, y, SIZE, SIZE); // Small projectile size, drawn as a shape so no sprite
         this.rotation = rotation;
         this.screenWidth = screenWidth;
         this.screenHeight = screenHeight;
@@ -33,31 +34,50 @@ public class Projectile extends Character {
         this.velocityX = Math.cos(angleRad) * PROJECTILE_SPEED;
         this.velocityY = Math.sin(angleRad) * PROJECTILE_SPEED;
 
-        logger.debug("Projectile created at ({}, {}) with rotation {}", x, y, rotation);
+        logger.trace("Projectile created at ({}, {}) with rotation {}", x, y, rotation);
     }
 
     @Override
-    public void update() {
+    public void update(double dt) {
+        savePreviousState();
+        double frames = dt / REFERENCE_DT;
+
         // Update position
-        x += velocityX;
-        y += velocityY;
+        x += velocityX * frames;
+        y += velocityY * frames;
+
+        // Path covered this tick, for swept collision
+        sweepX = x - previousX;
+        sweepY = y - previousY;
 
         // Update lifetime
-        lifetime += 0.025; // Assuming 60 FPS
+        lifetime += dt;
         if (lifetime >= MAX_LIFETIME) {
             isExpired = true;
             return;
         }
 
         // Wrap around screen
-        if (x < 0) x = screenWidth;
-        if (x > screenWidth) x = 0;
-        if (y < 0) y = screenHeight;
-        if (y > screenHeight) y = 0;
+        x = ScreenWrap.wrap(x, screenWidth);
+        y = ScreenWrap.wrap(y, screenHeight);
+        updateHitBox();
+    }
+
+    // Add a shot flying the same way as new Projectile(x, y, rotation, ...) to a shot store; returns its row
+    public static int spawn(EntityStore shots, double x, double y, double rotation) {
+        double angleRad = Math.toRadians(rotation);
+        return shots.add(CollisionLayer.PLAYER_SHOT, x, y,
+                Math.cos(angleRad) * PROJECTILE_SPEED, Math.sin(angleRad) * PROJECTILE_SPEED,
+                rotation, SIZE, SIZE, 1, MAX_LIFETIME);
     }
 
     @Override
     public void render(GraphicsContext gc) {
+        draw(gc, x, y, rotation, width, height);
+    }
+
+    // Also draws the player shots of a render snapshot
+    public static void draw(GraphicsContext gc, double x, double y, double rotation, double width, double height) {
         gc.save();
         gc.setFill(Color.LIGHTGREEN);
         gc.fillOval(x - width/2, y - height/2, width, height);
@@ -78,4 +98,9 @@ public class Projectile extends Character {
     public boolean isExpired() {
         return isExpired;
     }
-}
\ No newline at end of file
+
+    @Override
+    public CollisionLayer getCollisionLayer() {
+        return CollisionLayer.PLAYER_SHOT;
+    }
+}
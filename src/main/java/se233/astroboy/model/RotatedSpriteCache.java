@@ -0,0 +1,330 @@
+package se233.astroboy.model;
+
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Sprite frames scaled to their drawn size and pre-rotated to one of `buckets` angles, so an entity is drawn with a
+// single untransformed drawImage instead of save, translate, rotate, translate, drawImage and restore.
+// A frame is scaled once (averaging the source pixels it covers, which also looks better than smoothing a 556 px
+// asteroid down to 35) and each bucket is rotated from that the first time an entity is drawn at its angle.
+// Frames are evicted least recently drawn first once the images held go over maxBytes.
+public final class RotatedSpriteCache {
+    public static final String BUCKETS_PROPERTY = "astroboy.rotationBuckets";
+    public static final String MAX_MEGABYTES_PROPERTY = "astroboy.rotationCacheMb";
+    public static final int DEFAULT_BUCKETS = 64;
+    public static final int DEFAULT_MAX_MEGABYTES = 32;
+
+    // Set the buckets property to 0 to draw with transforms instead
+    private static volatile RotatedSpriteCache shared = createShared();
+
+    private final int buckets;
+    private final double degreesPerBucket;
+    private final long maxBytes;
+    private final LinkedHashMap<FrameKey, Frame> frames = new LinkedHashMap<>(64, 0.75f, true);
+    private final FrameKey probe = new FrameKey();
+    private long bytes;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    public RotatedSpriteCache(int buckets, long maxBytes) {
+        if (buckets < 1) {
+            throw new IllegalArgumentException("Invalid rotation bucket count: " + buckets);
+        }
+        if (maxBytes < 1) {
+            throw new IllegalArgumentException("Invalid rotation cache size: " + maxBytes);
+        }
+        this.buckets = buckets;
+        this.degreesPerBucket = 360.0 / buckets;
+        this.maxBytes = maxBytes;
+    }
+
+    private static RotatedSpriteCache createShared() {
+        int buckets = Integer.getInteger(BUCKETS_PROPERTY, DEFAULT_BUCKETS);
+        if (buckets <= 0) {
+            return null;
+        }
+        long megabytes = Integer.getInteger(MAX_MEGABYTES_PROPERTY, DEFAULT_MAX_MEGABYTES);
+        return new RotatedSpriteCache(buckets, megabytes << 20);
+    }
+
+    // The cache sprites draw through, or null when they draw with transforms
+    public static RotatedSpriteCache getShared() {
+        return shared;
+    }
+
+    public static void setShared(RotatedSpriteCache cache) {
+        shared = cache;
+    }
+
+    // Bucket nearest to the given angle in degrees
+    public int bucketOf(double degrees) {
+        return Math.floorMod((int) Math.round(degrees / degreesPerBucket), buckets);
+    }
+
+    // The (sx, sy, sw, sh) region of the sprite drawn at width x height and rotated by degrees about its centre.
+    // The image is larger than width x height to hold the corners; draw it centred on the pivot, unscaled.
+    public synchronized Image get(AtlasSprite sprite, double sx, double sy, double sw, double sh,
+                                  double width, double height, double degrees) {
+        probe.set(sprite, sx, sy, sw, sh, width, height);
+        Frame frame = frames.get(probe);
+        if (frame == null) {
+            frame = new Frame(sprite, sx, sy, sw, sh, width, height, buckets);
+            frames.put(probe.copy(), frame);
+            bytes += frame.bytes;
+        }
+
+        int bucket = bucketOf(degrees);
+        Image image = frame.rotations[bucket];
+        if (image != null) {
+            hits++;
+            return image;
+        }
+        misses++;
+        image = frame.rotate(bucket * degreesPerBucket);
+        frame.rotations[bucket] = image;
+        long size = 4L * (long) image.getWidth() * (long) image.getHeight();
+        frame.bytes += size;
+        bytes += size;
+        evict(frame);
+        return image;
+    }
+
+    // Drop least recently drawn frames until under the cap, keeping the one being drawn
+    private void evict(Frame keep) {
+        Iterator<Map.Entry<FrameKey, Frame>> iterator = frames.entrySet().iterator();
+        while (bytes > maxBytes && iterator.hasNext()) {
+            Frame frame = iterator.next().getValue();
+            if (frame == keep) {
+                continue;
+            }
+            iterator.remove();
+            bytes -= frame.bytes;
+            evictions++;
+        }
+    }
+
+    public synchronized void clear() {
+        frames.clear();
+        bytes = 0;
+    }
+
+    public int getBuckets() {
+        return buckets;
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    public synchronized long getBytes() {
+        return bytes;
+    }
+
+    public synchronized int getFrameCount() {
+        return frames.size();
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    public synchronized String report() {
+        return String.format("frames=%d size=%.1f MB hits=%d misses=%d evictions=%d",
+                frames.size(), bytes / (1024.0 * 1024.0), hits, misses, evictions);
+    }
+
+    // One region of a sprite at one drawn size
+    private static final class FrameKey {
+        private AtlasSprite sprite;
+        private double sx;
+        private double sy;
+        private double sw;
+        private double sh;
+        private double width;
+        private double height;
+
+        void set(AtlasSprite sprite, double sx, double sy, double sw, double sh, double width, double height) {
+            this.sprite = sprite;
+            this.sx = sx;
+            this.sy = sy;
+            this.sw = sw;
+            this.sh = sh;
+            this.width = width;
+            this.height = height;
+        }
+
+        FrameKey copy() {
+            FrameKey key = new FrameKey();
+            key.set(sprite, sx, sy, sw, sh, width, height);
+            return key;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof FrameKey key)) {
+                return false;
+            }
+            return sprite == key.sprite && sx == key.sx && sy == key.sy && sw == key.sw && sh == key.sh
+                    && width == key.width && height == key.height;
+        }
+
+        @Override
+        public int hashCode() {
+            int hash = System.identityHashCode(sprite);
+            hash = 31 * hash + Double.hashCode(sx);
+            hash = 31 * hash + Double.hashCode(sy);
+            hash = 31 * hash + Double.hashCode(sw);
+            hash = 31 * hash + Double.hashCode(sh);
+            hash = 31 * hash + Double.hashCode(width);
+            return 31 * hash + Double.hashCode(height);
+        }
+    }
+
+    // A frame scaled to its drawn size, premultiplied, and the rotations made from it so far
+    private static final class Frame {
+        private final int width;
+        private final int height;
+        private final int[] pixels;
+        private final Image[] rotations;
+        private long bytes;
+
+        Frame(AtlasSprite sprite, double sx, double sy, double sw, double sh, double width, double height,
+              int buckets) {
+            this.width = Math.max(1, (int) Math.round(width));
+            this.height = Math.max(1, (int) Math.round(height));
+            this.pixels = scale(sprite, sx, sy, sw, sh, this.width, this.height);
+            this.rotations = new Image[buckets];
+            this.bytes = 4L * pixels.length;
+        }
+
+        // Copy the region off the atlas page and average it down (or stretch it) to width x height.
+        // Parts of the region outside the sheet are transparent, as when drawing the region directly.
+        private static int[] scale(AtlasSprite sprite, double sx, double sy, double sw, double sh,
+                                   int width, int height) {
+            int left = (int) Math.floor(sx);
+            int top = (int) Math.floor(sy);
+            int sourceWidth = Math.max(1, (int) Math.ceil(sx + sw) - left);
+            int sourceHeight = Math.max(1, (int) Math.ceil(sy + sh) - top);
+            int[] source = new int[sourceWidth * sourceHeight];
+            int readLeft = Math.max(left, 0);
+            int readTop = Math.max(top, 0);
+            int readRight = Math.min(left + sourceWidth, sprite.getWidth());
+            int readBottom = Math.min(top + sourceHeight, sprite.getHeight());
+            if (readRight > readLeft && readBottom > readTop) {
+                sprite.getPage().getPixelReader().getPixels(
+                        sprite.getX() + readLeft, sprite.getY() + readTop, readRight - readLeft, readBottom - readTop,
+                        PixelFormat.getIntArgbPreInstance(), source,
+                        (readTop - top) * sourceWidth + (readLeft - left), sourceWidth);
+            }
+
+            double stepX = sw / width;
+            double stepY = sh / height;
+            int[] scaled = new int[width * height];
+            for (int y = 0; y < height; y++) {
+                double y0 = sy + y * stepY - top;
+                for (int x = 0; x < width; x++) {
+                    double x0 = sx + x * stepX - left;
+                    scaled[y * width + x] = stepX > 1 || stepY > 1
+                            ? average(source, sourceWidth, sourceHeight, x0, y0, stepX, stepY)
+                            : sample(source, sourceWidth, sourceHeight, x0 + stepX / 2 - 0.5, y0 + stepY / 2 - 0.5);
+                }
+            }
+            return scaled;
+        }
+
+        // Rotate by degrees about the centre into an image large enough for the corners
+        Image rotate(double degrees) {
+            double radians = Math.toRadians(degrees);
+            double cos = Math.cos(radians);
+            double sin = Math.sin(radians);
+            // Less a hair, as cos(90) is 6e-17 rather than 0
+            int outWidth = (int) Math.ceil(Math.abs(width * cos) + Math.abs(height * sin) - 1e-9);
+            int outHeight = (int) Math.ceil(Math.abs(width * sin) + Math.abs(height * cos) - 1e-9);
+            // Same parity as the frame, so the centre lands on the same place within a pixel
+            outWidth += (outWidth - width) & 1;
+            outHeight += (outHeight - height) & 1;
+
+            int[] out = new int[outWidth * outHeight];
+            double centreX = outWidth / 2.0;
+            double centreY = outHeight / 2.0;
+            for (int y = 0; y < outHeight; y++) {
+                double dy = y + 0.5 - centreY;
+                for (int x = 0; x < outWidth; x++) {
+                    double dx = x + 0.5 - centreX;
+                    // Undo the rotation to find where this pixel comes from in the frame
+                    double u = dx * cos + dy * sin + width / 2.0 - 0.5;
+                    double v = -dx * sin + dy * cos + height / 2.0 - 0.5;
+                    out[y * outWidth + x] = sample(pixels, width, height, u, v);
+                }
+            }
+
+            WritableImage image = new WritableImage(outWidth, outHeight);
+            image.getPixelWriter().setPixels(0, 0, outWidth, outHeight,
+                    PixelFormat.getIntArgbPreInstance(), out, 0, outWidth);
+            return image;
+        }
+
+        // Bilinear sample at pixel-centre coordinates; outside the buffer is transparent
+        private static int sample(int[] pixels, int width, int height, double u, double v) {
+            int x0 = (int) Math.floor(u);
+            int y0 = (int) Math.floor(v);
+            double fx = u - x0;
+            double fy = v - y0;
+            int p00 = pixel(pixels, width, height, x0, y0);
+            int p10 = pixel(pixels, width, height, x0 + 1, y0);
+            int p01 = pixel(pixels, width, height, x0, y0 + 1);
+            int p11 = pixel(pixels, width, height, x0 + 1, y0 + 1);
+            if ((p00 | p10 | p01 | p11) == 0) {
+                return 0;
+            }
+            int result = 0;
+            for (int shift = 0; shift < 32; shift += 8) {
+                double top = ((p00 >>> shift) & 0xFF) * (1 - fx) + ((p10 >>> shift) & 0xFF) * fx;
+                double bottom = ((p01 >>> shift) & 0xFF) * (1 - fx) + ((p11 >>> shift) & 0xFF) * fx;
+                int channel = (int) Math.round(top * (1 - fy) + bottom * fy);
+                result |= Math.min(channel, 255) << shift;
+            }
+            return result;
+        }
+
+        // Mean of the pixels covering [x0, x0 + w) x [y0, y0 + h), each weighted by how much of it is covered
+        private static int average(int[] pixels, int width, int height, double x0, double y0, double w, double h) {
+            double[] sum = new double[4];
+            double area = 0;
+            for (int y = (int) Math.floor(y0); y < Math.ceil(y0 + h); y++) {
+                double coverY = Math.min(y + 1, y0 + h) - Math.max(y, y0);
+                for (int x = (int) Math.floor(x0); x < Math.ceil(x0 + w); x++) {
+                    double cover = coverY * (Math.min(x + 1, x0 + w) - Math.max(x, x0));
+                    int p = pixel(pixels, width, height, x, y);
+                    for (int c = 0; c < 4; c++) {
+                        sum[c] += ((p >>> (8 * c)) & 0xFF) * cover;
+                    }
+                    area += cover;
+                }
+            }
+            int result = 0;
+            for (int c = 0; c < 4; c++) {
+                result |= Math.min((int) Math.round(sum[c] / area), 255) << (8 * c);
+            }
+            return result;
+        }
+
+        private static int pixel(int[] pixels, int width, int height, int x, int y) {
+            return x < 0 || y < 0 || x >= width || y >= height ? 0 : pixels[y * width + x];
+        }
+    }
+}
@@ -3,64 +3,71 @@ package se233.astroboy.model;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+// Score of one World. Each world owns its own, so several games can run side by side in one JVM.
+// The combo window runs on simulation time, advanced by update(dt), so a seeded game scores the same way every run.
 public class Score {
     private static final Logger logger = LogManager.getLogger(Score.class);
 
-    private static int currentScore = 0;
-    private static int highScore = 0;
+    private int currentScore = 0;
+    private int highScore = 0;
 
     // Scoring multipliers for combos
-    private static int consecutiveHits = 0;
+    private int consecutiveHits = 0;
     private static final double COMBO_MULTIPLIER = 1.2;
     private static final int COMBO_WINDOW = 2; // seconds
-    private static double lastHitTime = 0;
+    private double time = 0;
+    private double lastHitTime = Double.NEGATIVE_INFINITY;
 
-    public static void resetScore() {
+    // Starts a new game; the high score stays
+    public void resetScore() {
         currentScore = 0;
         consecutiveHits = 0;
-        lastHitTime = 0;
-        logger.info("Score reset to 0");
+        lastHitTime = Double.NEGATIVE_INFINITY;
+        logger.debug("Score reset to 0");
     }
 
-    public static void addPoints(int points) {
-        double currentTime = System.currentTimeMillis() / 1000.0;
+    // Advance the combo clock by dt seconds of game time
+    public void update(double dt) {
+        time += dt;
+    }
 
+    public void addPoints(int points) {
         // Check if this hit is within the combo window
-        if (currentTime - lastHitTime <= COMBO_WINDOW) {
+        if (time - lastHitTime <= COMBO_WINDOW) {
             consecutiveHits++;
             // Apply combo multiplier
             double multiplier = 1 + (consecutiveHits * COMBO_MULTIPLIER - 1);
             points = (int)(points * multiplier);
-            logger.debug("Combo x{} applied! Points multiplied to {}", consecutiveHits, points);
+            logger.trace("Combo x{} applied! Points multiplied to {}", consecutiveHits, points);
         } else {
             consecutiveHits = 1;
         }
 
-        lastHitTime = currentTime;
+        lastHitTime = time;
         currentScore += points;
 
         // Update high score if necessary
         if (currentScore > highScore) {
             highScore = currentScore;
-            logger.info("New high score achieved: {}", highScore);
+            logger.debug("New high score achieved: {}", highScore);
         }
 
-        logger.debug("Score updated: {} (High Score: {})", currentScore, highScore);
+        logger.trace("Score updated: {} (High Score: {})", currentScore, highScore);
     }
 
-    public static int getCurrentScore() {
+    public int getCurrentScore() {
         return currentScore;
     }
 
-    public static int getHighScore() {
+    public int getHighScore() {
         return highScore;
     }
 
-    public static int getCombo() {
+    public int getCombo() {
         return consecutiveHits;
     }
 
-    public static boolean isHighScore() {
+    public boolean isHighScore() {
         return currentScore >= highScore && currentScore > 0;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,35 @@
+package se233.astroboy.model;
+
+// The play field is a torus: leaving one edge re-enters from the opposite one
+public final class ScreenWrap {
+    public static final double WIDTH = 800;
+    public static final double HEIGHT = 600;
+
+    private ScreenWrap() {
+    }
+
+    // Bring a coordinate back into [0, size)
+    public static double wrap(double value, double size) {
+        // Most bodies are on the stage; skip the slow floating point remainder for them
+        if (value >= 0 && value < size) {
+            return value;
+        }
+        double wrapped = value % size;
+        if (wrapped < 0) {
+            wrapped += size;
+        }
+        // -1e-17 % 800 + 800 rounds up to exactly 800
+        return wrapped >= size ? 0 : wrapped;
+    }
+
+    // Shortest signed distance between two coordinates, going across the edge when that is closer
+    public static double delta(double difference, double size) {
+        double d = difference % size;
+        if (d > size / 2) {
+            d -= size;
+        } else if (d < -size / 2) {
+            d += size;
+        }
+        return d;
+    }
+}
@@ -0,0 +1,359 @@
+package se233.astroboy.model;
+
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Packs the sprite sheets into a few large pages, so a frame of the game draws from one texture instead of
+// switching between a dozen. The build packs SHEETS once (main, run in process-classes) and writes the pages and a
+// frame rectangle index next to the classes; at startup the game reads that page and index instead of decoding and
+// repacking every sheet. Without them, as when run from an IDE that skips the build step, the sheets are packed
+// in memory on first use.
+// Sheets are placed on shelves, tallest first, with a transparent gap between them so smoothing at a frame's edge
+// never samples a neighbour. Assets that aren't listed in SHEETS still work; they are drawn from their own image.
+public final class SpriteAtlas {
+    private static final Logger logger = LogManager.getLogger(SpriteAtlas.class);
+
+    // Well under the smallest maximum texture size of the Prism pipelines
+    public static final int PAGE_SIZE = 2048;
+    static final int PADDING = 2;
+
+    private static final String ASSET_DIR = "/se233/astroboy/asset/";
+
+    // Where the build writes the packed atlas: PAGE_FILE for each page and the INDEX_FILE of frame rectangles
+    public static final String PACKED_DIR = "/se233/astroboy/atlas/";
+    static final String INDEX_FILE = "atlas.idx";
+    static final String PAGE_FILE = "atlas-%d.png";
+
+    // Every sheet the model draws
+    public static final List<String> SHEETS = List.of(
+            ASSET_DIR + "asteroid1.png",
+            ASSET_DIR + "asteroid2.png",
+            ASSET_DIR + "boss.png",
+            ASSET_DIR + "enemy.png",
+            ASSET_DIR + "player_ship.png",
+            ASSET_DIR + "player_ship1.png",
+            ASSET_DIR + "player_ani1.png",
+            ASSET_DIR + "explosion.png",
+            ASSET_DIR + "explosion1.png",
+            ASSET_DIR + "GreenE2.png",
+            ASSET_DIR + "GreenE3.png");
+
+    private static volatile SpriteAtlas shared;
+
+    private final Map<String, AtlasSprite> sprites;
+    private final List<Image> pages;
+    // Sprites of unlisted assets, one image each
+    private final Map<String, AtlasSprite> loose = new ConcurrentHashMap<>();
+
+    private SpriteAtlas(Map<String, AtlasSprite> sprites, List<Image> pages) {
+        this.sprites = sprites;
+        this.pages = pages;
+    }
+
+    // The atlas of SHEETS: the one packed by the build, or packed now if the build didn't
+    public static SpriteAtlas getShared() {
+        SpriteAtlas atlas = shared;
+        if (atlas == null) {
+            synchronized (SpriteAtlas.class) {
+                atlas = shared;
+                if (atlas == null) {
+                    long start = System.nanoTime();
+                    atlas = loadPacked();
+                    if (atlas == null) {
+                        logger.warn("No packed atlas in {}, packing {} sprite sheets at startup", PACKED_DIR,
+                                SHEETS.size());
+                        atlas = build(SHEETS, PAGE_SIZE);
+                    }
+                    shared = atlas;
+                    logger.info("Loaded {} sprite sheets on {} atlas pages in {} ms", atlas.sprites.size(),
+                            atlas.pages.size(), (System.nanoTime() - start) / 1_000_000);
+                }
+            }
+        }
+        return atlas;
+    }
+
+    // The atlas the build wrote to PACKED_DIR, or null if it isn't there or can't be read
+    public static SpriteAtlas loadPacked() {
+        String index;
+        try (InputStream stream = SpriteAtlas.class.getResourceAsStream(PACKED_DIR + INDEX_FILE)) {
+            if (stream == null) {
+                return null;
+            }
+            index = new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            logger.error("Cannot read atlas index: {}", e.getMessage());
+            return null;
+        }
+
+        try {
+            int pageCount = 0;
+            for (String line : index.split("\n")) {
+                if (!line.isEmpty()) {
+                    pageCount = Math.max(pageCount, Integer.parseInt(fields(line)[1]) + 1);
+                }
+            }
+            List<BufferedImage> pages = new ArrayList<>(pageCount);
+            for (int page = 0; page < pageCount; page++) {
+                BufferedImage image = readImage(PACKED_DIR + String.format(PAGE_FILE, page));
+                if (image == null) {
+                    return null;
+                }
+                pages.add(image);
+            }
+            return fromPages(pages, index);
+        } catch (IllegalArgumentException e) {
+            logger.error("Cannot use the packed atlas: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    // Pack the given assets onto pages of at most pageSize x pageSize; assets that can't be read are left out
+    public static SpriteAtlas build(List<String> paths, int pageSize) {
+        List<BufferedImage> pages = new ArrayList<>();
+        String index = packPages(paths, pageSize, pages);
+        return fromPages(pages, index);
+    }
+
+    // Pack the given assets and write the pages and their index into dir, as the build does for SHEETS
+    public static void write(List<String> paths, int pageSize, Path dir) throws IOException {
+        List<BufferedImage> pages = new ArrayList<>();
+        String index = packPages(paths, pageSize, pages);
+        Files.createDirectories(dir);
+        for (int page = 0; page < pages.size(); page++) {
+            if (!ImageIO.write(pages.get(page), "png", dir.resolve(String.format(PAGE_FILE, page)).toFile())) {
+                throw new IOException("No PNG writer for atlas page " + page);
+            }
+        }
+        Files.writeString(dir.resolve(INDEX_FILE), index, StandardCharsets.UTF_8);
+    }
+
+    // Build step: java se233.astroboy.model.SpriteAtlas <output dir> packs SHEETS into the output dir
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Usage: SpriteAtlas <output dir>");
+        }
+        Path dir = Path.of(args[0]);
+        write(SHEETS, PAGE_SIZE, dir);
+        logger.info("Packed {} sprite sheets into {}", SHEETS.size(), dir);
+    }
+
+    // Draws the readable assets onto pages, added to pages, and returns their index; see index()
+    private static String packPages(List<String> paths, int pageSize, List<BufferedImage> pages) {
+        List<String> loaded = new ArrayList<>();
+        List<BufferedImage> images = new ArrayList<>();
+        for (String path : paths) {
+            BufferedImage image = readImage(path);
+            if (image != null) {
+                loaded.add(path);
+                images.add(image);
+            }
+        }
+
+        int[] widths = new int[images.size()];
+        int[] heights = new int[images.size()];
+        for (int i = 0; i < images.size(); i++) {
+            widths[i] = images.get(i).getWidth();
+            heights[i] = images.get(i).getHeight();
+        }
+        int[] placements = pack(widths, heights, pageSize);
+
+        // Size every page to what was placed on it
+        int pageCount = 0;
+        for (int i = 0; i < images.size(); i++) {
+            pageCount = Math.max(pageCount, placements[3 * i] + 1);
+        }
+        int[] pageWidths = new int[pageCount];
+        int[] pageHeights = new int[pageCount];
+        for (int i = 0; i < images.size(); i++) {
+            int page = placements[3 * i];
+            pageWidths[page] = Math.max(pageWidths[page], placements[3 * i + 1] + widths[i]);
+            pageHeights[page] = Math.max(pageHeights[page], placements[3 * i + 2] + heights[i]);
+        }
+
+        for (int page = 0; page < pageCount; page++) {
+            pages.add(new BufferedImage(pageWidths[page], pageHeights[page], BufferedImage.TYPE_INT_ARGB));
+        }
+        StringBuilder index = new StringBuilder();
+        for (int i = 0; i < images.size(); i++) {
+            int page = placements[3 * i];
+            int x = placements[3 * i + 1];
+            int y = placements[3 * i + 2];
+            pages.get(page).setRGB(x, y, widths[i], heights[i],
+                    images.get(i).getRGB(0, 0, widths[i], heights[i], null, 0, widths[i]), 0, widths[i]);
+            appendEntry(index, loaded.get(i), page, x, y, widths[i], heights[i]);
+        }
+        return index.toString();
+    }
+
+    // The atlas of the given pages, with a sprite for every line of the index
+    private static SpriteAtlas fromPages(List<BufferedImage> sources, String index) {
+        List<Image> pages = new ArrayList<>(sources.size());
+        for (BufferedImage source : sources) {
+            int width = source.getWidth();
+            int height = source.getHeight();
+            WritableImage image = new WritableImage(width, height);
+            image.getPixelWriter().setPixels(0, 0, width, height, PixelFormat.getIntArgbInstance(),
+                    source.getRGB(0, 0, width, height, null, 0, width), 0, width);
+            pages.add(image);
+        }
+
+        Map<String, AtlasSprite> sprites = new HashMap<>();
+        for (String line : index.split("\n")) {
+            if (line.isEmpty()) {
+                continue;
+            }
+            String[] fields = fields(line);
+            int page = Integer.parseInt(fields[1]);
+            if (page < 0 || page >= pages.size()) {
+                throw new IllegalArgumentException("Atlas index refers to missing page " + page + ": " + line);
+            }
+            sprites.put(fields[0], new AtlasSprite(fields[0], pages.get(page), page, Integer.parseInt(fields[2]),
+                    Integer.parseInt(fields[3]), Integer.parseInt(fields[4]), Integer.parseInt(fields[5])));
+        }
+        return new SpriteAtlas(Collections.unmodifiableMap(sprites), Collections.unmodifiableList(pages));
+    }
+
+    // Shelf packing: returns page, x, y for each rectangle in turn, 3 ints per rectangle.
+    // Rectangles are placed tallest first, left to right on a shelf as high as its first rectangle,
+    // with PADDING between neighbours; a page is started when the next shelf doesn't fit.
+    public static int[] pack(int[] widths, int[] heights, int pageSize) {
+        if (widths.length != heights.length) {
+            throw new IllegalArgumentException("Got " + widths.length + " widths for " + heights.length + " heights");
+        }
+        Integer[] order = new Integer[widths.length];
+        for (int i = 0; i < order.length; i++) {
+            if (widths[i] < 1 || heights[i] < 1 || widths[i] > pageSize || heights[i] > pageSize) {
+                throw new IllegalArgumentException("Cannot fit a " + widths[i] + "x" + heights[i]
+                        + " sprite on a " + pageSize + " page");
+            }
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> heights[a] != heights[b]
+                ? Integer.compare(heights[b], heights[a])
+                : Integer.compare(widths[b], widths[a]));
+
+        int[] placements = new int[3 * widths.length];
+        int page = 0;
+        int shelfY = 0;
+        int shelfHeight = 0;
+        int cursorX = 0;
+        for (int i : order) {
+            if (cursorX > 0 && cursorX + widths[i] > pageSize) {
+                // Next shelf
+                shelfY += shelfHeight + PADDING;
+                shelfHeight = 0;
+                cursorX = 0;
+            }
+            if (shelfY + heights[i] > pageSize) {
+                // Next page
+                page++;
+                shelfY = 0;
+                shelfHeight = 0;
+                cursorX = 0;
+            }
+            placements[3 * i] = page;
+            placements[3 * i + 1] = cursorX;
+            placements[3 * i + 2] = shelfY;
+            cursorX += widths[i] + PADDING;
+            shelfHeight = Math.max(shelfHeight, heights[i]);
+        }
+        return placements;
+    }
+
+    // Sprite of the given asset; falls back to the asset's own image when it isn't packed
+    public AtlasSprite find(String path) {
+        AtlasSprite sprite = sprites.get(path);
+        if (sprite != null) {
+            return sprite;
+        }
+        sprite = loose.get(path);
+        if (sprite == null) {
+            Image image = Assets.loadImage(path);
+            if (image == null) {
+                return null;
+            }
+            sprite = new AtlasSprite(path, image, -1, 0, 0, (int) image.getWidth(), (int) image.getHeight());
+            AtlasSprite existing = loose.putIfAbsent(path, sprite);
+            if (existing != null) {
+                sprite = existing;
+            }
+        }
+        return sprite;
+    }
+
+    public boolean contains(String path) {
+        return sprites.containsKey(path);
+    }
+
+    public int getPageCount() {
+        return pages.size();
+    }
+
+    public Image getPage(int index) {
+        return pages.get(index);
+    }
+
+    // Frame rectangle index, one "path page x y width height" line per packed sheet
+    public String index() {
+        StringBuilder index = new StringBuilder();
+        sprites.values().stream()
+                .sorted(Comparator.comparingInt(AtlasSprite::getPageIndex)
+                        .thenComparingInt(AtlasSprite::getY)
+                        .thenComparingInt(AtlasSprite::getX))
+                .forEach(sprite -> appendEntry(index, sprite.getPath(), sprite.getPageIndex(),
+                        sprite.getX(), sprite.getY(), sprite.getWidth(), sprite.getHeight()));
+        return index.toString();
+    }
+
+    // The path, page, x, y, width and height of an index line
+    private static String[] fields(String line) {
+        String[] fields = line.split(" ");
+        if (fields.length != 6) {
+            throw new IllegalArgumentException("Malformed atlas index line: " + line);
+        }
+        return fields;
+    }
+
+    private static void appendEntry(StringBuilder index, String path, int page, int x, int y, int width, int height) {
+        index.append(path).append(' ').append(page).append(' ').append(x).append(' ').append(y).append(' ')
+                .append(width).append(' ').append(height).append('\n');
+    }
+
+    // Decoded with ImageIO so the pixels can be copied straight into a page
+    private static BufferedImage readImage(String path) {
+        try (InputStream stream = SpriteAtlas.class.getResourceAsStream(path)) {
+            if (stream == null) {
+                logger.error("Sprite sheet not found: {}", path);
+                return null;
+            }
+            BufferedImage image = ImageIO.read(stream);
+            if (image == null) {
+                logger.error("Cannot decode sprite sheet {}", path);
+            }
+            return image;
+        } catch (IOException e) {
+            logger.error("Cannot read sprite sheet {}: {}", path, e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package se233.astroboy.model;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Collision mask of one sprite frame plus its rotations, shared by every entity drawing that frame.
+// Rotations are snapped to ROTATION_STEPS buckets, all built when the asset is loaded, so a collision only
+// looks one up.
+public final class SpriteMask {
+    private static final Logger logger = LogManager.getLogger(SpriteMask.class);
+
+    public static final int ROTATION_STEPS = 64;
+    private static final double DEGREES_PER_STEP = 360.0 / ROTATION_STEPS;
+
+    private static final int WHOLE_IMAGE = -1;
+
+    private static final Map<String, SpriteMask> cache = new ConcurrentHashMap<>();
+
+    private final CollisionMask[] rotations = new CollisionMask[ROTATION_STEPS];
+
+    SpriteMask(CollisionMask mask) {
+        rotations[0] = mask;
+        for (int step = 1; step < ROTATION_STEPS; step++) {
+            rotations[step] = mask.rotated(step * DEGREES_PER_STEP);
+        }
+    }
+
+    // Mask for a frame of a sprite sheet drawn at width x height, decoded once per asset and size.
+    // Returns null when the asset can't be read, which collision treats as a solid box.
+    public static SpriteMask load(String imagePath, int srcX, int srcY, int srcWidth, int srcHeight,
+                                  double width, double height) {
+        int maskWidth = (int) Math.ceil(width);
+        int maskHeight = (int) Math.ceil(height);
+        String key = imagePath + '#' + srcX + ',' + srcY + ',' + srcWidth + ',' + srcHeight + '@' + maskWidth + 'x' + maskHeight;
+        SpriteMask mask = cache.get(key);
+        if (mask == null) {
+            mask = decode(imagePath, srcX, srcY, srcWidth, srcHeight, maskWidth, maskHeight);
+            if (mask == null) {
+                return null;
+            }
+            SpriteMask existing = cache.putIfAbsent(key, mask);
+            if (existing != null) {
+                mask = existing;
+            }
+        }
+        return mask;
+    }
+
+    // Whole image drawn at width x height
+    public static SpriteMask load(String imagePath, double width, double height) {
+        return load(imagePath, 0, 0, WHOLE_IMAGE, WHOLE_IMAGE, width, height);
+    }
+
+    // Mask drawn at the given rotation in degrees
+    public CollisionMask at(double degrees) {
+        return rotations[Math.floorMod((int) Math.round(degrees / DEGREES_PER_STEP), ROTATION_STEPS)];
+    }
+
+    // Decoded with ImageIO rather than JavaFX, so headless simulations get the same masks as the game
+    private static SpriteMask decode(String imagePath, int srcX, int srcY, int srcWidth, int srcHeight,
+                                     int width, int height) {
+        BufferedImage image = readImage(imagePath);
+        if (image == null) {
+            return null;
+        }
+        if (srcWidth == WHOLE_IMAGE) {
+            srcWidth = image.getWidth();
+            srcHeight = image.getHeight();
+        }
+        try {
+            int[] argb = image.getRGB(srcX, srcY, srcWidth, srcHeight, null, 0, srcWidth);
+            return new SpriteMask(CollisionMask.fromArgb(argb, srcWidth, 0, 0, srcWidth, srcHeight, width, height));
+        } catch (RuntimeException e) {
+            logger.warn("Cannot build collision mask for {}: {}", imagePath, e.getMessage());
+            return null;
+        }
+    }
+
+    private static BufferedImage readImage(String imagePath) {
+        try (InputStream stream = SpriteMask.class.getResourceAsStream(imagePath)) {
+            if (stream == null) {
+                logger.warn("Collision mask source not found: {}", imagePath);
+                return null;
+            }
+            return ImageIO.read(stream);
+        } catch (IOException e) {
+            logger.warn("Cannot read collision mask source {}: {}", imagePath, e.getMessage());
+            return null;
+        }
+    }
+}
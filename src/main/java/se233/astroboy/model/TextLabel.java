@@ -0,0 +1,57 @@
+package se233.astroboy.model;
+
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.paint.Color;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+
+// A fixed piece of text rasterised once into an image, such as a HUD caption, drawn with a single drawImage.
+// Positions follow fillText: x is the left edge and y the baseline.
+public final class TextLabel {
+    private final String text;
+    private final Image image;
+    private final int baseline;
+    private final int advance;
+
+    public TextLabel(String family, boolean bold, int size, Color color, String text) {
+        if (text == null || text.isEmpty()) {
+            throw new IllegalArgumentException("A label needs some text");
+        }
+        this.text = text;
+        java.awt.Font font = GlyphStrip.awtFont(family, bold, size);
+        java.awt.FontMetrics metrics = GlyphStrip.metrics(font);
+        advance = metrics.stringWidth(text);
+        baseline = GlyphStrip.PADDING + metrics.getAscent();
+        int height = baseline + metrics.getDescent() + GlyphStrip.PADDING;
+
+        BufferedImage label = new BufferedImage(advance + 2 * GlyphStrip.PADDING, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = GlyphStrip.begin(label, font, color);
+        g.drawString(text, GlyphStrip.PADDING, baseline);
+        g.dispose();
+        image = GlyphStrip.toImage(label);
+    }
+
+    // Draws the label and returns the x after it, where a number drawn from a GlyphStrip can carry on
+    public double draw(GraphicsContext gc, double x, double y) {
+        gc.drawImage(image, x - GlyphStrip.PADDING, y - baseline);
+        return x + advance;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public Image getImage() {
+        return image;
+    }
+
+    public int getBaseline() {
+        return baseline;
+    }
+
+    public int getAdvance() {
+        return advance;
+    }
+}
@@ -0,0 +1,62 @@
+package se233.astroboy.view;
+
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+
+// One canvas of a LayerStack. The scene graph composites the canvases, so a layer that isn't repainted keeps
+// showing what was last painted on it; the renderer only repaints layers that are dirty or whose content changed.
+public class CanvasLayer {
+    private final Layer layer;
+    private final Canvas canvas;
+    private final GraphicsContext gc;
+    private boolean dirty = true;
+    private long repaintCount;
+
+    public CanvasLayer(Layer layer, double width, double height) {
+        this.layer = layer;
+        this.canvas = new Canvas(width, height);
+        this.gc = canvas.getGraphicsContext2D();
+        // Key events go to the stage, never to a canvas
+        canvas.setMouseTransparent(true);
+    }
+
+    // Clear the layer for painting it afresh; it is clean afterwards
+    public GraphicsContext beginRepaint() {
+        gc.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        dirty = false;
+        repaintCount++;
+        return gc;
+    }
+
+    // Leave the layer empty if it is dirty
+    public void clearIfDirty() {
+        if (dirty) {
+            beginRepaint();
+        }
+    }
+
+    public void markDirty() {
+        dirty = true;
+    }
+
+    public boolean isDirty() {
+        return dirty;
+    }
+
+    // Times the layer was cleared and painted, for checking layers aren't repainted needlessly
+    public long getRepaintCount() {
+        return repaintCount;
+    }
+
+    public Layer getLayer() {
+        return layer;
+    }
+
+    public Canvas getCanvas() {
+        return canvas;
+    }
+
+    public GraphicsContext getGraphicsContext() {
+        return gc;
+    }
+}
@@ -0,0 +1,356 @@
+package se233.astroboy.view;
+
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+import javafx.scene.text.TextAlignment;
+import se233.astroboy.controller.FrameSnapshot;
+import se233.astroboy.model.*;
+
+// Draws a FrameSnapshot onto the layers of the stage. Runs on the FX thread and never sees the live World.
+public class GameRenderer {
+    private final double width;
+    private final double height;
+    private final AtlasSprite lifeIcon;
+
+    // What the layers show: the screen, whether explosions are on the effects layer, and the HUD values painted
+    private GameState lastState;
+    private boolean effectsShown;
+    private int hudScore;
+    private int hudHighScore;
+    private boolean hudNewHighScore;
+    private int hudCombo;
+    private int hudLives;
+    private long hudBombTenths;
+
+    private static final Color OVERLAY_COLOR = new Color(0, 0, 0, 0.7);
+
+    public GameRenderer(double width, double height) {
+        this.width = width;
+        this.height = height;
+        this.lifeIcon = AtlasSprite.of("/se233/astroboy/asset/player_ship1.png");
+    }
+
+    // The snapshot's textAlpha drives the blinking prompt on the menu and game over screens.
+    // alpha is how far the clock is between the last two ticks; moving bodies are drawn that far along.
+    // Only layers whose content changed are repainted; the others keep what they show.
+    public void render(LayerStack layers, FrameSnapshot frame, double alpha) {
+        if (frame.getGameState() != lastState) {
+            // A new screen: everything but the background changes
+            for (Layer layer : Layer.values()) {
+                if (layer != Layer.BACKGROUND) {
+                    layers.get(layer).markDirty();
+                }
+            }
+            lastState = frame.getGameState();
+        }
+
+        switch (frame.getGameState()) {
+            case MENU:
+                renderMenu(layers);
+                break;
+            case PLAYING:
+                renderPlaying(layers, frame, alpha);
+                break;
+            case GAME_OVER:
+                renderGameOver(layers, frame);
+                break;
+        }
+        layers.get(Layer.PROMPT).getCanvas().setOpacity(frame.getTextAlpha());
+    }
+
+    // Shown instead of the last frame once the simulation has stopped with an error
+    public void renderFailure(LayerStack layers) {
+        CanvasLayer prompt = layers.get(Layer.PROMPT);
+        prompt.markDirty();
+        prompt.clearIfDirty();
+
+        CanvasLayer overlay = layers.get(Layer.OVERLAY);
+        overlay.markDirty();
+        GraphicsContext gc = overlay.beginRepaint();
+        gc.setFill(OVERLAY_COLOR);
+        gc.fillRect(0, 0, width, height);
+        gc.setFill(Color.WHITE);
+        gc.setTextAlign(TextAlignment.CENTER);
+        gc.setFont(HudText.TITLE_FONT);
+        gc.fillText("GAME STOPPED", width / 2, height / 2 - 40);
+        gc.setFont(HudText.TEXT_FONT);
+        gc.fillText("The simulation failed, see the log for details", width / 2, height / 2 + 10);
+    }
+
+    private void renderMenu(LayerStack layers) {
+        // Left over from the last game
+        layers.get(Layer.WORLD).clearIfDirty();
+        layers.get(Layer.EFFECTS).clearIfDirty();
+        layers.get(Layer.HUD).clearIfDirty();
+
+        double titleX = width / 2;
+        CanvasLayer overlay = layers.get(Layer.OVERLAY);
+        if (overlay.isDirty()) {
+            GraphicsContext gc = overlay.beginRepaint();
+            // Draw title
+            gc.setFill(Color.WHITE);
+            gc.setFont(HudText.TITLE_FONT);
+            double titleY = height / 3;
+            gc.setTextAlign(TextAlignment.CENTER);
+            gc.fillText("ASTROBOY", titleX, titleY);
+
+            // Draw controls info
+            gc.setFont(HudText.INFO_FONT);
+            double infoY = height * 0.7;
+            gc.fillText("Controls:", titleX, infoY);
+            gc.fillText("WASD - Move", titleX, infoY + 25);
+            gc.fillText("LEFT/RIGHT - Rotate", titleX, infoY + 50);
+            gc.fillText("SPACE - Shoot", titleX, infoY + 75);
+            gc.fillText("B - Activate Bomb", titleX, infoY + 100);
+        }
+
+        // Draw "PUSH SPACE TO START"; it blinks through the layer's opacity
+        CanvasLayer prompt = layers.get(Layer.PROMPT);
+        if (prompt.isDirty()) {
+            GraphicsContext gc = prompt.beginRepaint();
+            gc.setFill(Color.WHITE);
+            gc.setFont(HudText.PROMPT_FONT);
+            gc.setTextAlign(TextAlignment.CENTER);
+            gc.fillText("PUSH SPACE TO START", titleX, height / 2);
+        }
+    }
+
+    private void renderPlaying(LayerStack layers, FrameSnapshot frame, double alpha) {
+        layers.get(Layer.OVERLAY).clearIfDirty();
+        layers.get(Layer.PROMPT).clearIfDirty();
+
+        // Bodies move every tick
+        renderWorld(layers.get(Layer.WORLD).beginRepaint(), frame, alpha);
+
+        // Explosions come and go; repaint while there are some, and once more to clear the last one
+        CanvasLayer effects = layers.get(Layer.EFFECTS);
+        boolean hasEffects = hasEffects(frame);
+        if (hasEffects || effectsShown || effects.isDirty()) {
+            renderEffects(effects.beginRepaint(), frame);
+            effectsShown = hasEffects;
+        }
+
+        // Draw HUD when something on it changed
+        CanvasLayer hud = layers.get(Layer.HUD);
+        boolean hudChanged = hudChanged(frame);
+        if (hud.isDirty() || hudChanged) {
+            renderHUD(hud.beginRepaint(), frame);
+        }
+    }
+
+    private void renderWorld(GraphicsContext gc, FrameSnapshot frame, double alpha) {
+        // Render game objects; rows come in draw order
+        for (int row = 0; row < frame.size(); row++) {
+            switch (frame.getKind(row)) {
+                case ASTEROID:
+                case ENEMY:
+                case BOSS:
+                    renderWrapped(gc, frame, row, alpha);
+                    break;
+                case PLAYER_SHOT:
+                case ENEMY_SHOT:
+                case BOSS_SHOT:
+                    renderRow(gc, frame, row, interpolatedX(frame, row, alpha), interpolatedY(frame, row, alpha));
+                    break;
+                default:
+                    // Explosions are on the effects layer
+                    break;
+            }
+        }
+
+        if (frame.isPlayerVisible()) {
+            double x = frame.getPlayerX();
+            double y = frame.getPlayerY();
+            x += ScreenWrap.delta(frame.getPlayerPreviousX() - x, ScreenWrap.WIDTH) * (1 - alpha);
+            y += ScreenWrap.delta(frame.getPlayerPreviousY() - y, ScreenWrap.HEIGHT) * (1 - alpha);
+            Player.draw(gc, x, y, frame.getPlayerRotation(), frame.getPlayerFrameWidth(), frame.getPlayerFrameHeight(),
+                    frame.getPlayerBody(), frame.getPlayerBodyFrame(), frame.isPlayerBlinking(),
+                    frame.getPlayerHitImage(), frame.getPlayerHitFrame(),
+                    frame.getPlayerShootEffectImage(), frame.getPlayerShootEffectFrame());
+        }
+    }
+
+    private static void renderEffects(GraphicsContext gc, FrameSnapshot frame) {
+        for (int row = 0; row < frame.size(); row++) {
+            if (isEffect(frame.getKind(row))) {
+                renderRow(gc, frame, row, frame.getX(row), frame.getY(row));
+            }
+        }
+    }
+
+    private static boolean hasEffects(FrameSnapshot frame) {
+        // Explosions are the last rows
+        return frame.size() > 0 && isEffect(frame.getKind(frame.size() - 1));
+    }
+
+    private static boolean isEffect(FrameSnapshot.Kind kind) {
+        return kind == FrameSnapshot.Kind.EXPLOSION || kind == FrameSnapshot.Kind.BOMB_EXPLOSION;
+    }
+
+    // Compare the HUD values with those last painted, and remember them
+    private boolean hudChanged(FrameSnapshot frame) {
+        long bombTenths = bombTenths(frame);
+        boolean changed = frame.getScore() != hudScore
+                || frame.getHighScore() != hudHighScore
+                || frame.isNewHighScore() != hudNewHighScore
+                || frame.getCombo() != hudCombo
+                || frame.getLives() != hudLives
+                || bombTenths != hudBombTenths;
+        hudScore = frame.getScore();
+        hudHighScore = frame.getHighScore();
+        hudNewHighScore = frame.isNewHighScore();
+        hudCombo = frame.getCombo();
+        hudLives = frame.getLives();
+        hudBombTenths = bombTenths;
+        return changed;
+    }
+
+    // The cooldown is shown to a tenth of a second; -1 when the bomb is ready
+    private static long bombTenths(FrameSnapshot frame) {
+        double cooldown = frame.getBombCooldown();
+        return cooldown > 0 ? Math.round(cooldown * 10) : -1;
+    }
+
+    // Same as Character.renderWrapped: drawn again on the opposite side while straddling the right or bottom edge
+    private void renderWrapped(GraphicsContext gc, FrameSnapshot frame, int row, double alpha) {
+        double x = interpolatedX(frame, row, alpha);
+        double y = interpolatedY(frame, row, alpha);
+        renderRow(gc, frame, row, x, y);
+        boolean wrapsX = frame.getX(row) + frame.getWidth(row) > ScreenWrap.WIDTH;
+        boolean wrapsY = frame.getY(row) + frame.getHeight(row) > ScreenWrap.HEIGHT;
+        if (wrapsX) {
+            renderRow(gc, frame, row, x - ScreenWrap.WIDTH, y);
+        }
+        if (wrapsY) {
+            renderRow(gc, frame, row, x, y - ScreenWrap.HEIGHT);
+        }
+        if (wrapsX && wrapsY) {
+            renderRow(gc, frame, row, x - ScreenWrap.WIDTH, y - ScreenWrap.HEIGHT);
+        }
+    }
+
+    private static void renderRow(GraphicsContext gc, FrameSnapshot frame, int row, double x, double y) {
+        AtlasSprite image = frame.getImage(row);
+        double rotation = frame.getRotation(row);
+        double w = frame.getWidth(row);
+        double h = frame.getHeight(row);
+        switch (frame.getKind(row)) {
+            case ASTEROID:
+                Asteroid.draw(gc, image, x, y, w, h, rotation, frame.getHp(row), frame.getMaxHp(row));
+                break;
+            case ENEMY:
+                Enemy.draw(gc, image, x, y, w, h, rotation, frame.getHp(row), frame.getMaxHp(row));
+                break;
+            case BOSS:
+                Boss.draw(gc, image, x, y, w, h, rotation, frame.getFrame(row), frame.getHp(row), frame.getMaxHp(row));
+                break;
+            case PLAYER_SHOT:
+                Projectile.draw(gc, x, y, rotation, w, h);
+                break;
+            case ENEMY_SHOT:
+                EnemyProjectile.draw(gc, x, y, rotation, w, h);
+                break;
+            case BOSS_SHOT:
+                BossProjectile.draw(gc, x, y, rotation, w, h);
+                break;
+            case EXPLOSION:
+                Explosion.draw(gc, image, x, y, (int) w, (int) h, frame.getFrame(row));
+                break;
+            case BOMB_EXPLOSION:
+                BombExplosion.draw(gc, image, x, y, (int) w, (int) h, frame.getFrame(row));
+                break;
+        }
+    }
+
+    // Rows are interpolated the same way as Character.renderInterpolated, across the screen edges
+    private static double interpolatedX(FrameSnapshot frame, int row, double alpha) {
+        double x = frame.getX(row);
+        return x + ScreenWrap.delta(frame.getPreviousX(row) - x, ScreenWrap.WIDTH) * (1 - alpha);
+    }
+
+    private static double interpolatedY(FrameSnapshot frame, int row, double alpha) {
+        double y = frame.getY(row);
+        return y + ScreenWrap.delta(frame.getPreviousY(row) - y, ScreenWrap.HEIGHT) * (1 - alpha);
+    }
+
+    // Captions and numbers come from HudText's pre-rasterised images, so this builds no strings
+    private void renderHUD(GraphicsContext gc, FrameSnapshot frame) {
+        // Draw scores
+        HudText.drawValue(gc, HudText.SCORE, HudText.WHITE_DIGITS, frame.getScore(), 10, 30);
+
+        // Draw high score, in gold when it is a new one
+        if (frame.isNewHighScore()) {
+            HudText.drawValue(gc, HudText.NEW_HIGH_SCORE, HudText.GOLD_DIGITS, frame.getHighScore(), 10, 60);
+        } else {
+            HudText.drawValue(gc, HudText.HIGH_SCORE, HudText.WHITE_DIGITS, frame.getHighScore(), 10, 60);
+        }
+        // Draw combo if active
+        if (frame.getCombo() > 1) {
+            HudText.drawValue(gc, HudText.COMBO, HudText.YELLOW_DIGITS, frame.getCombo(), 10, 90);
+        }
+        HudText.LIVES.draw(gc, 10, 120);
+
+        // Draw life icons
+        double iconSize = 20;
+        double baseX = 70;
+        double baseY = 105;
+        double spacing = 25;
+        for (int i = 0; lifeIcon != null && i < frame.getLives(); i++) {
+            lifeIcon.draw(gc, baseX + (i * spacing), baseY, iconSize, iconSize);
+        }
+
+        // Draw bomb status
+        long bombTenths = bombTenths(frame);
+        if (bombTenths >= 0) {
+            HudText.drawCooldown(gc, bombTenths, 10, height - 10);
+        } else {
+            HudText.BOMB_READY.draw(gc, 10, height - 10);
+        }
+    }
+
+    private void renderGameOver(LayerStack layers, FrameSnapshot frame) {
+        // The final game state stays in the background: paint it once when the game ends, as nothing moves any more
+        CanvasLayer world = layers.get(Layer.WORLD);
+        if (world.isDirty()) {
+            renderWorld(world.beginRepaint(), frame, 1.0);
+        }
+        CanvasLayer effects = layers.get(Layer.EFFECTS);
+        if (effects.isDirty()) {
+            renderEffects(effects.beginRepaint(), frame);
+            effectsShown = hasEffects(frame);
+        }
+        CanvasLayer hud = layers.get(Layer.HUD);
+        if (hud.isDirty()) {
+            hudChanged(frame);
+            renderHUD(hud.beginRepaint(), frame);
+        }
+
+        double centerX = width / 2;
+        double centerY = height / 2;
+        CanvasLayer overlay = layers.get(Layer.OVERLAY);
+        if (overlay.isDirty()) {
+            GraphicsContext gc = overlay.beginRepaint();
+            // Draw semi-transparent overlay
+            gc.setFill(OVERLAY_COLOR);
+            gc.fillRect(0, 0, width, height);
+
+            // Draw game over text
+            gc.setFill(Color.WHITE);
+            gc.setFont(HudText.TITLE_FONT);
+            gc.setTextAlign(TextAlignment.CENTER);
+            gc.fillText("GAME OVER", centerX, centerY - 40);
+            gc.setFont(HudText.TEXT_FONT);
+            gc.fillText("Final Score: " + frame.getScore(), centerX, centerY + 10);
+        }
+
+        // It blinks through the layer's opacity
+        CanvasLayer prompt = layers.get(Layer.PROMPT);
+        if (prompt.isDirty()) {
+            GraphicsContext gc = prompt.beginRepaint();
+            gc.setFill(Color.WHITE);
+            gc.setFont(HudText.TEXT_FONT);
+            gc.setTextAlign(TextAlignment.CENTER);
+            gc.fillText("Press SPACE to Play Again", centerX, centerY + 50);
+        }
+    }
+}
\ No newline at end of file
@@ -1,18 +1,18 @@
 package se233.astroboy.view;
 
-import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.image.Image;
-import javafx.scene.layout.*;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
 
 import se233.astroboy.controller.GameController;
+import se233.astroboy.model.Assets;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 public class GameStage extends Pane {
     private static final Logger logger = LogManager.getLogger(GameStage.class);
-    private Canvas canvas;
-    private GraphicsContext gc;
+    private final LayerStack layers;
     private GameController gameController;
     private final int stageWidth;
     private final int stageHeight;
@@ -26,35 +26,10 @@ public class GameStage extends Pane {
         setMinSize(stageWidth, stageHeight);
         setMaxSize(stageWidth, stageHeight);
 
-        // Create the canvas
-        canvas = new Canvas(stageWidth, stageHeight);
-        gc = canvas.getGraphicsContext2D();
-
-        try {
-            Image backgroundImage = new Image(getClass().getResourceAsStream("/se233/astroboy/asset/Background_space.png")); // Replace with your image path
-            BackgroundImage background = new BackgroundImage(
-                    backgroundImage,
-                    BackgroundRepeat.NO_REPEAT,  // Don't repeat the image
-                    BackgroundRepeat.NO_REPEAT,
-                    BackgroundPosition.DEFAULT,
-                    new BackgroundSize(
-                            stageWidth,
-                            stageHeight,
-                            false,
-                            false,
-                            false,
-                            true
-                    )
-            );
-            setBackground(new Background(background));
-        } catch (Exception e) {
-            logger.error("Loading background image failed", e);
-            setStyle("-fx-background-color: Darkblue;");
-            e.printStackTrace();
-        }
-
-        // Add canvas to the pane
-        getChildren().add(canvas);
+        // Create the canvases, back to front
+        layers = new LayerStack(stageWidth, stageHeight);
+        paintBackground(layers.get(Layer.BACKGROUND));
+        getChildren().addAll(layers.getCanvases());
 
         // Initialize game controller
         gameController = new GameController(this);
@@ -71,8 +46,23 @@ public class GameStage extends Pane {
         gameController.startGameLoop();
     }
 
-    public GraphicsContext getGraphicsContext() {
-        return gc;
+    // Painted once; nothing draws over it
+    private void paintBackground(CanvasLayer layer) {
+        GraphicsContext gc = layer.beginRepaint();
+        Image backgroundImage = Assets.loadImage("/se233/astroboy/asset/Background_space.png");
+        if (backgroundImage == null) {
+            logger.error("Loading background image failed");
+            gc.setFill(Color.DARKBLUE);
+            gc.fillRect(0, 0, stageWidth, stageHeight);
+            return;
+        }
+        // Scaled to cover the stage, keeping its proportions, anchored at the top left
+        double scale = Math.max(stageWidth / backgroundImage.getWidth(), stageHeight / backgroundImage.getHeight());
+        gc.drawImage(backgroundImage, 0, 0, backgroundImage.getWidth() * scale, backgroundImage.getHeight() * scale);
+    }
+
+    public LayerStack getLayers() {
+        return layers;
     }
 
     public double getStageWidth() {
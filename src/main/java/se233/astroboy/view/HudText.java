@@ -0,0 +1,63 @@
+package se233.astroboy.view;
+
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import se233.astroboy.model.GlyphStrip;
+import se233.astroboy.model.TextLabel;
+
+// Every piece of text the renderer draws, made once. The menu and game over screens are painted once per screen
+// with fillText and shared fonts; the HUD, which is painted whenever a value on it changes, is drawn from
+// pre-rasterised captions and digit strips, so painting it builds no strings and lays out no text.
+public final class HudText {
+    public static final String FAMILY = "Arial";
+
+    // Fonts of the menu and game over screens
+    public static final Font TITLE_FONT = Font.font(FAMILY, FontWeight.BOLD, 40);
+    public static final Font PROMPT_FONT = Font.font(FAMILY, FontWeight.BOLD, 20);
+    public static final Font TEXT_FONT = Font.font(FAMILY, 20);
+    public static final Font INFO_FONT = Font.font(FAMILY, 16);
+
+    private static final int HUD_SIZE = 20;
+    private static final int BOMB_SIZE = 16;
+    // With a sign, since drawInt draws one for negative values
+    private static final String DIGITS = "-0123456789";
+
+    // Bomb ability display
+    public static final Color BOMB_READY_COLOR = Color.LIGHTGREEN;
+    public static final Color BOMB_COOLDOWN_COLOR = Color.RED;
+
+    public static final TextLabel SCORE = label(HUD_SIZE, Color.WHITE, "Score: ");
+    public static final TextLabel HIGH_SCORE = label(HUD_SIZE, Color.WHITE, "High Score: ");
+    public static final TextLabel NEW_HIGH_SCORE = label(HUD_SIZE, Color.GOLD, "High Score: ");
+    public static final TextLabel COMBO = label(HUD_SIZE, Color.YELLOW, "Combo x");
+    public static final TextLabel LIVES = label(HUD_SIZE, Color.WHITE, "Lives: ");
+    public static final TextLabel BOMB_READY = label(BOMB_SIZE, BOMB_READY_COLOR, "Bomb: READY");
+    public static final TextLabel BOMB_COOLDOWN = label(BOMB_SIZE, BOMB_COOLDOWN_COLOR, "Bomb: ");
+
+    public static final GlyphStrip WHITE_DIGITS = new GlyphStrip(FAMILY, false, HUD_SIZE, Color.WHITE, DIGITS);
+    public static final GlyphStrip GOLD_DIGITS = new GlyphStrip(FAMILY, false, HUD_SIZE, Color.GOLD, DIGITS);
+    public static final GlyphStrip YELLOW_DIGITS = new GlyphStrip(FAMILY, false, HUD_SIZE, Color.YELLOW, DIGITS);
+    public static final GlyphStrip COOLDOWN_DIGITS =
+            new GlyphStrip(FAMILY, false, BOMB_SIZE, BOMB_COOLDOWN_COLOR, DIGITS + ".s");
+
+    private HudText() {
+    }
+
+    // "Caption 123" from a label and a strip
+    public static double drawValue(GraphicsContext gc, TextLabel label, GlyphStrip digits, long value,
+                                   double x, double y) {
+        return digits.drawInt(gc, value, label.draw(gc, x, y), y);
+    }
+
+    // "Bomb: 3.5s"
+    public static double drawCooldown(GraphicsContext gc, long tenths, double x, double y) {
+        double end = COOLDOWN_DIGITS.drawTenths(gc, tenths, BOMB_COOLDOWN.draw(gc, x, y), y);
+        return COOLDOWN_DIGITS.drawGlyph(gc, 's', end, y);
+    }
+
+    private static TextLabel label(int size, Color color, String text) {
+        return new TextLabel(FAMILY, false, size, color, text);
+    }
+}
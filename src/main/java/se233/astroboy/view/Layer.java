@@ -0,0 +1,16 @@
+package se233.astroboy.view;
+
+// Canvases of a GameStage, back to front
+public enum Layer {
+    BACKGROUND,
+    // Asteroids, enemies, the boss, shots and the player; repainted every frame of play
+    WORLD,
+    // Explosions; repainted only while there are some on screen
+    EFFECTS,
+    // Score, lives, combo and bomb status; repainted only when one of them changes
+    HUD,
+    // Menu and game over text, painted once per screen
+    OVERLAY,
+    // The blinking "press SPACE" line, painted once per screen and faded through the canvas opacity
+    PROMPT
+}
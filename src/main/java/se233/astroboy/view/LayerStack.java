@@ -0,0 +1,32 @@
+package se233.astroboy.view;
+
+import javafx.scene.canvas.Canvas;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+// The canvases a GameStage is drawn on, one per Layer, all the size of the stage
+public class LayerStack {
+    private final Map<Layer, CanvasLayer> layers = new EnumMap<>(Layer.class);
+
+    public LayerStack(double width, double height) {
+        for (Layer layer : Layer.values()) {
+            layers.put(layer, new CanvasLayer(layer, width, height));
+        }
+    }
+
+    public CanvasLayer get(Layer layer) {
+        return layers.get(layer);
+    }
+
+    // Back to front, in the order they go into the scene graph
+    public List<Canvas> getCanvases() {
+        List<Canvas> canvases = new ArrayList<>(layers.size());
+        for (CanvasLayer layer : layers.values()) {
+            canvases.add(layer.getCanvas());
+        }
+        return canvases;
+    }
+}
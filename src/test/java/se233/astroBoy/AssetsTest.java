@@ -0,0 +1,62 @@
+package se233.astroBoy;
+
+import javafx.scene.image.Image;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import se233.astroboy.model.Asteroid;
+import se233.astroboy.model.Assets;
+import se233.astroboy.model.Explosion;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AssetsTest {
+    private static final String EXPLOSION = "/se233/astroboy/asset/explosion1.png";
+
+    private boolean headless;
+
+    @BeforeEach
+    void setUp() {
+        headless = Assets.isHeadless();
+        Assets.setHeadless(false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        Assets.setHeadless(headless);
+    }
+
+    @Test
+    void testSamePathSharesOneImage() {
+        Image first = Assets.loadImage(EXPLOSION);
+        assertNotNull(first);
+        int cached = Assets.getCachedImageCount();
+        assertSame(first, Assets.loadImage(EXPLOSION));
+        assertEquals(cached, Assets.getCachedImageCount(), "A second load should not decode again");
+    }
+
+    @Test
+    void testEntitiesShareTheirSprites() {
+        assertSame(new Asteroid(100, 100, 1).getImage(), new Asteroid(300, 300, 1).getImage());
+        assertSame(new Explosion(10, 10).getSpriteSheet(), new Explosion(50, 50).getSpriteSheet());
+    }
+
+    @Test
+    void testMissingImageIsNotCached() {
+        int cached = Assets.getCachedImageCount();
+        assertNull(Assets.loadImage("/se233/astroboy/asset/no_such_image.png"));
+        assertNull(Assets.loadImage("/se233/astroboy/asset/no_such_image.png"));
+        assertEquals(cached, Assets.getCachedImageCount());
+    }
+
+    @Test
+    void testHeadlessLoadsNothing() {
+        Assets.setHeadless(true);
+        assertNull(Assets.loadImage(EXPLOSION));
+    }
+
+    @Test
+    void testNullPath() {
+        assertThrows(IllegalArgumentException.class, () -> Assets.loadImage(null));
+    }
+}
@@ -0,0 +1,141 @@
+package se233.astroBoy;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import se233.astroboy.controller.BatchCollector;
+import se233.astroboy.controller.BatchRunner;
+import se233.astroboy.controller.GameResult;
+import se233.astroboy.controller.InputPolicy;
+import se233.astroboy.controller.World;
+import se233.astroboy.model.Assets;
+import se233.astroboy.model.CollisionLayer;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BatchRunnerTest {
+    private static final int GAMES = 6;
+    private static final long SEED = 2024L;
+    private static final long MAX_TICKS = 1200;
+
+    private static boolean headless;
+
+    @BeforeAll
+    static void enableHeadless() {
+        headless = Assets.isHeadless();
+        Assets.setHeadless(true);
+    }
+
+    @AfterAll
+    static void restoreHeadless() {
+        Assets.setHeadless(headless);
+    }
+
+    @Test
+    void testConcurrentGamesMatchSerialPlay() throws InterruptedException {
+        BatchRunner runner = new BatchRunner(GAMES, SEED, MAX_TICKS, InputPolicy::spinAndFire, 3);
+
+        // The same games one after the other on this thread
+        long totalScore = 0;
+        long totalTicks = 0;
+        long asteroidDeaths = 0;
+        for (int game = 0; game < GAMES; game++) {
+            GameResult result = runner.playGame(BatchRunner.gameSeed(SEED, game));
+            totalScore += result.getScore();
+            totalTicks += result.getSurvivalTicks();
+            if (result.getDeathCause() == CollisionLayer.ASTEROID) {
+                asteroidDeaths++;
+            }
+        }
+
+        // Games running side by side don't leak into each other
+        BatchCollector collector = runner.run();
+        assertEquals(GAMES, collector.getGames());
+        assertEquals((double) totalScore / GAMES, collector.getMeanScore(), 1e-9);
+        assertEquals((double) totalTicks / GAMES, collector.getMeanSurvivalTicks(), 1e-9);
+        assertEquals(asteroidDeaths, collector.getDeaths(CollisionLayer.ASTEROID));
+        assertTrue(collector.getMeanScore() > 0, "The bot shoots things");
+
+        long outcomes = collector.getSurvivors() + collector.getUnknownDeaths();
+        for (CollisionLayer layer : CollisionLayer.values()) {
+            outcomes += collector.getDeaths(layer);
+        }
+        assertEquals(GAMES, outcomes);
+    }
+
+    @Test
+    void testRunRestoresHeadlessMode() throws InterruptedException {
+        Assets.setHeadless(false);
+        try {
+            new BatchRunner(1, SEED, 60, InputPolicy::idle).run();
+            assertFalse(Assets.isHeadless(), "Sprites load again after a batch");
+        } finally {
+            Assets.setHeadless(true);
+        }
+    }
+
+    @Test
+    void testRunQuietsGameLogging() throws InterruptedException {
+        Logger worldLogger = LogManager.getLogger(World.class);
+        Level before = worldLogger.getLevel();
+        AtomicBoolean infoDuringBatch = new AtomicBoolean(true);
+        InputPolicy probe = (world, tick, out) -> infoDuringBatch.set(worldLogger.isInfoEnabled());
+
+        new BatchRunner(1, SEED, 60, () -> probe).run();
+        assertFalse(infoDuringBatch.get(), "Per-game events stay off the console while a batch runs");
+        assertEquals(before, worldLogger.getLevel(), "Logging is back to normal after a batch");
+    }
+
+    @Test
+    void testIdlePolicyStillEndsOrTimesOut() {
+        BatchRunner runner = new BatchRunner(1, SEED, 300, InputPolicy::idle);
+        GameResult result = runner.playGame(BatchRunner.gameSeed(SEED, 0));
+        assertTrue(result.getSurvivalTicks() <= 300);
+        assertEquals(result.isSurvived(), result.getSurvivalTicks() == 300);
+        assertEquals(0, result.getScore(), "Nothing is fired");
+    }
+
+    @Test
+    void testCollectorAggregates() {
+        BatchCollector collector = new BatchCollector();
+        assertEquals(0, collector.getMeanScore());
+        assertEquals(0, collector.getBestScore());
+
+        collector.add(new GameResult(1, 100, 600, false, CollisionLayer.ASTEROID));
+        collector.add(new GameResult(2, 300, 1200, false, CollisionLayer.ENEMY_SHOT));
+        collector.add(new GameResult(3, 50, 1800, true, null));
+        collector.add(new GameResult(4, 10, 60, false, null));
+
+        assertEquals(4, collector.getGames());
+        assertEquals(115.0, collector.getMeanScore());
+        assertEquals(300, collector.getBestScore());
+        assertEquals(915.0, collector.getMeanSurvivalTicks());
+        assertEquals(1800, collector.getLongestSurvivalTicks());
+        assertEquals(1, collector.getSurvivors());
+        assertEquals(1, collector.getDeaths(CollisionLayer.ASTEROID));
+        assertEquals(1, collector.getDeaths(CollisionLayer.ENEMY_SHOT));
+        assertEquals(0, collector.getDeaths(CollisionLayer.BOSS_SHOT));
+        assertEquals(1, collector.getUnknownDeaths());
+        assertTrue(collector.report().contains("deaths ENEMY_SHOT=1 ASTEROID=1 UNKNOWN=1"));
+    }
+
+    @Test
+    void testGameSeedsDiffer() {
+        assertEquals(BatchRunner.gameSeed(SEED, 3), BatchRunner.gameSeed(SEED, 3));
+        assertNotEquals(BatchRunner.gameSeed(SEED, 3), BatchRunner.gameSeed(SEED, 4));
+        assertNotEquals(BatchRunner.gameSeed(SEED, 3), BatchRunner.gameSeed(SEED + 1, 3));
+    }
+
+    @Test
+    void testInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> new BatchRunner(-1, SEED, 10, InputPolicy::idle));
+        assertThrows(IllegalArgumentException.class, () -> new BatchRunner(1, SEED, 0, InputPolicy::idle));
+        assertThrows(IllegalArgumentException.class, () -> new BatchRunner(1, SEED, 10, null));
+        assertThrows(IllegalArgumentException.class, () -> new BatchRunner(1, SEED, 10, InputPolicy::idle, 0));
+    }
+}
@@ -0,0 +1,150 @@
+package se233.astroBoy;
+
+import org.junit.jupiter.api.Test;
+import se233.astroboy.controller.Broadphase;
+import se233.astroboy.controller.BroadphaseType;
+import se233.astroboy.controller.CollisionController;
+import se233.astroboy.model.Asteroid;
+import se233.astroboy.model.Boss;
+import se233.astroboy.model.Character;
+import se233.astroboy.model.Player;
+import se233.astroboy.model.Projectile;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BroadphaseTest {
+    private static final double STAGE_WIDTH = 800;
+    private static final double STAGE_HEIGHT = 600;
+
+    @Test
+    void testProjectileStormMatchesBruteForce() {
+        // Every strategy replays the same seeded scene
+        for (BroadphaseType type : BroadphaseType.values()) {
+            Random random = new Random(42);
+            List<Asteroid> asteroids = new ArrayList<>();
+            for (int i = 0; i < 80; i++) {
+                asteroids.add(new Asteroid(randomX(random), randomY(random), 1 + random.nextInt(2)));
+            }
+            List<Projectile> projectiles = randomProjectiles(random, 500);
+
+            Broadphase<Asteroid> broadphase = type.create(STAGE_WIDTH, STAGE_HEIGHT);
+            broadphase.rebuild(asteroids);
+
+            for (Projectile projectile : projectiles) {
+                assertEquals(bruteForceHits(projectile, asteroids), narrowPhase(projectile, broadphase.query(projectile)),
+                        type + " should report the same hits as the brute-force loop");
+            }
+        }
+    }
+
+    @Test
+    void testBossPhaseMatchesBruteForce() {
+        for (BroadphaseType type : BroadphaseType.values()) {
+            Random random = new Random(7);
+            Player player = new Player(STAGE_WIDTH / 2, STAGE_HEIGHT / 2, STAGE_WIDTH, STAGE_HEIGHT);
+            List<Boss> bosses = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                bosses.add(new Boss(randomX(random), randomY(random), 1, player));
+            }
+            List<Projectile> projectiles = randomProjectiles(random, 300);
+
+            Broadphase<Boss> broadphase = type.create(STAGE_WIDTH, STAGE_HEIGHT);
+            broadphase.rebuild(bosses);
+
+            for (Projectile projectile : projectiles) {
+                List<Boss> expected = bruteForceHits(projectile, bosses);
+                assertEquals(expected.isEmpty() ? null : expected.get(0),
+                        CollisionController.findFirstCollision(projectile, broadphase), type.toString());
+            }
+        }
+    }
+
+    @Test
+    void testFindPairsReportsEveryCollidingPair() {
+        for (BroadphaseType type : BroadphaseType.values()) {
+            Random random = new Random(11);
+            List<Asteroid> asteroids = new ArrayList<>();
+            for (int i = 0; i < 40; i++) {
+                asteroids.add(new Asteroid(randomX(random), randomY(random), 1 + random.nextInt(2)));
+            }
+            List<Projectile> projectiles = randomProjectiles(random, 300);
+
+            Broadphase<Asteroid> broadphase = type.create(STAGE_WIDTH, STAGE_HEIGHT);
+            broadphase.rebuild(asteroids);
+            int[] hits = {0};
+            broadphase.findPairs(projectiles, (projectile, asteroid) -> {
+                if (CollisionController.checkCollision(projectile, asteroid)) {
+                    hits[0]++;
+                }
+            });
+
+            int expected = 0;
+            for (Projectile projectile : projectiles) {
+                expected += bruteForceHits(projectile, asteroids).size();
+            }
+            assertEquals(expected, hits[0], type.toString());
+        }
+    }
+
+    @Test
+    void testWrappedObjectsReportedOnce() {
+        for (BroadphaseType type : BroadphaseType.values()) {
+            // Straddles both the right and the bottom edge
+            Asteroid corner = new Asteroid(780, 580, 2);
+            Asteroid inside = new Asteroid(400, 300, 1);
+            Broadphase<Asteroid> broadphase = type.create(STAGE_WIDTH, STAGE_HEIGHT);
+            broadphase.rebuild(List.of(inside, corner));
+
+            // Straddling probe, overlapping the asteroid's copy in the top-left corner
+            Player player = new Player(790, 10, STAGE_WIDTH, STAGE_HEIGHT);
+            List<Asteroid> candidates = broadphase.query(player);
+            assertEquals(1, candidates.stream().filter(a -> a == corner).count(), type.toString());
+            assertSame(corner, CollisionController.findFirstCollision(player, broadphase), type.toString());
+
+            Projectile projectile = new Projectile(5, 5, 0, STAGE_WIDTH, STAGE_HEIGHT);
+            assertSame(corner, CollisionController.findFirstCollision(projectile, broadphase), type.toString());
+        }
+    }
+
+    @Test
+    void testFromName() {
+        assertEquals(BroadphaseType.GRID, BroadphaseType.fromName(null));
+        assertEquals(BroadphaseType.SWEEP_AND_PRUNE, BroadphaseType.fromName("sweep-and-prune"));
+        assertEquals(BroadphaseType.BRUTE_FORCE, BroadphaseType.fromName("brute_force"));
+        assertThrows(IllegalArgumentException.class, () -> BroadphaseType.fromName("octree"));
+    }
+
+    private List<Projectile> randomProjectiles(Random random, int count) {
+        List<Projectile> projectiles = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            projectiles.add(new Projectile(randomX(random), randomY(random), random.nextDouble() * 360, STAGE_WIDTH, STAGE_HEIGHT));
+        }
+        return projectiles;
+    }
+
+    private <T extends Character> List<T> narrowPhase(Character probe, List<T> candidates) {
+        List<T> hits = new ArrayList<>();
+        for (T candidate : candidates) {
+            if (CollisionController.checkCollision(probe, candidate)) {
+                hits.add(candidate);
+            }
+        }
+        return hits;
+    }
+
+    private <T extends Character> List<T> bruteForceHits(Character probe, List<T> targets) {
+        return narrowPhase(probe, targets);
+    }
+
+    private double randomX(Random random) {
+        return -70 + random.nextDouble() * (STAGE_WIDTH + 70);
+    }
+
+    private double randomY(Random random) {
+        return -70 + random.nextDouble() * (STAGE_HEIGHT + 70);
+    }
+}
@@ -0,0 +1,266 @@
+package se233.astroBoy;
+
+import org.junit.jupiter.api.Test;
+import se233.astroboy.controller.Broadphase;
+import se233.astroboy.controller.BroadphaseType;
+import se233.astroboy.controller.CollisionController;
+import se233.astroboy.controller.CollisionCounters;
+import se233.astroboy.controller.CollisionMatrix;
+import se233.astroboy.controller.ProjectileHit;
+import se233.astroboy.model.Asteroid;
+import se233.astroboy.model.Boss;
+import se233.astroboy.model.BossProjectile;
+import se233.astroboy.model.CollisionLayer;
+import se233.astroboy.model.EntityStore;
+import se233.astroboy.model.Enemy;
+import se233.astroboy.model.EnemyProjectile;
+import se233.astroboy.model.Player;
+import se233.astroboy.model.Projectile;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CollisionControllerTest {
+    private static final double STAGE_WIDTH = 800;
+    private static final double STAGE_HEIGHT = 600;
+    private static final double DELTA = 0.001;
+
+    @Test
+    void testHitBoxFollowsPosition() {
+        Asteroid asteroid = new Asteroid(100, 200, 1);
+        assertEquals(100, asteroid.getHitMinX(), DELTA);
+        assertEquals(200, asteroid.getHitMinY(), DELTA);
+        assertEquals(135, asteroid.getHitMaxX(), DELTA);
+        assertEquals(235, asteroid.getHitMaxY(), DELTA);
+
+        asteroid.setX(300);
+        asteroid.setY(50);
+        assertEquals(300, asteroid.getHitMinX(), DELTA);
+        assertEquals(85, asteroid.getHitMaxY(), DELTA);
+
+        asteroid.update();
+        assertEquals(asteroid.getX(), asteroid.getHitMinX(), DELTA);
+        assertEquals(asteroid.getY() + asteroid.getHeight(), asteroid.getHitMaxY(), DELTA);
+    }
+
+    @Test
+    void testHitBoxFollowsBossSize() {
+        Player player = new Player(400, 300, STAGE_WIDTH, STAGE_HEIGHT);
+        Boss boss = new Boss(100, 100, 1, player);
+        assertEquals(220, boss.getHitMaxX(), DELTA);
+        assertEquals(205, boss.getHitMaxY(), DELTA);
+    }
+
+    @Test
+    void testCheckCollision() {
+        Asteroid asteroid = new Asteroid(100, 100, 2);
+        Projectile inside = new Projectile(120, 120, 0, STAGE_WIDTH, STAGE_HEIGHT);
+        Projectile touching = new Projectile(170, 120, 0, STAGE_WIDTH, STAGE_HEIGHT);
+        Projectile outside = new Projectile(300, 300, 0, STAGE_WIDTH, STAGE_HEIGHT);
+
+        assertTrue(CollisionController.checkCollision(inside, asteroid));
+        assertTrue(CollisionController.checkCollision(asteroid, inside));
+        assertFalse(CollisionController.checkCollision(touching, asteroid), "Boxes that only share an edge do not collide");
+        assertFalse(CollisionController.checkCollision(outside, asteroid));
+    }
+
+    @Test
+    void testCheckCollisionWithNull() {
+        Asteroid asteroid = new Asteroid(100, 100, 2);
+        assertThrows(CollisionController.CollisionHandlingException.class,
+                () -> CollisionController.checkCollision(asteroid, null));
+    }
+
+    @Test
+    void testCollisionAcrossRightEdge() {
+        // Large asteroid straddling the right edge: (780, 300) to (850, 370)
+        Asteroid asteroid = new Asteroid(780, 300, 2);
+        Player player = new Player(10, 320, STAGE_WIDTH, STAGE_HEIGHT);
+        assertTrue(CollisionController.checkCollision(asteroid, player));
+        assertTrue(CollisionController.checkCollision(player, asteroid));
+
+        Player farPlayer = new Player(100, 320, STAGE_WIDTH, STAGE_HEIGHT);
+        assertFalse(CollisionController.checkCollision(asteroid, farPlayer));
+    }
+
+    @Test
+    void testCollisionAcrossCorner() {
+        Asteroid asteroid = new Asteroid(780, 580, 2);
+        Projectile projectile = new Projectile(20, 20, 0, STAGE_WIDTH, STAGE_HEIGHT);
+        assertTrue(CollisionController.checkCollision(asteroid, projectile));
+    }
+
+    @Test
+    void testAsteroidWrapsWithoutTeleportingOffScreen() {
+        Asteroid asteroid = new Asteroid(799.0, 599.0, 2);
+        for (int i = 0; i < 200; i++) {
+            asteroid.update();
+            assertTrue(asteroid.getX() >= 0 && asteroid.getX() < STAGE_WIDTH);
+            assertTrue(asteroid.getY() >= 0 && asteroid.getY() < STAGE_HEIGHT);
+        }
+    }
+
+    @Test
+    void testSweptProjectileHitsThinTarget() {
+        // A straight boss shot covers 14 px per tick, more than its 6 px width plus the 6 px target
+        EnemyProjectile target = new EnemyProjectile(107, 100, 0, STAGE_WIDTH, STAGE_HEIGHT);
+        BossProjectile shot = new BossProjectile(100, 100, 0, STAGE_WIDTH, STAGE_HEIGHT,
+                BossProjectile.ProjectilePattern.STRAIGHT);
+        assertFalse(CollisionController.checkCollision(shot, target), "No overlap before moving");
+
+        shot.update();
+        // Neither the start box (100..106) nor the end box (114..120) overlaps the target (107..113)
+        assertEquals(114, shot.getX(), DELTA);
+        assertTrue(CollisionController.checkCollision(shot, target), "The path crosses the target");
+        assertTrue(CollisionController.checkCollision(target, shot));
+    }
+
+    @Test
+    void testSweptProjectileMissesTargetOffPath() {
+        EnemyProjectile target = new EnemyProjectile(107, 120, 0, STAGE_WIDTH, STAGE_HEIGHT);
+        BossProjectile shot = new BossProjectile(100, 100, 0, STAGE_WIDTH, STAGE_HEIGHT,
+                BossProjectile.ProjectilePattern.STRAIGHT);
+        shot.update();
+        assertFalse(CollisionController.checkCollision(shot, target));
+
+        // Target behind the start position is not hit either
+        EnemyProjectile behind = new EnemyProjectile(90, 100, 0, STAGE_WIDTH, STAGE_HEIGHT);
+        assertFalse(CollisionController.checkCollision(shot, behind));
+    }
+
+    @Test
+    void testSweptProjectileAcrossEdge() {
+        Projectile projectile = new Projectile(795, 300, 0, STAGE_WIDTH, STAGE_HEIGHT);
+        projectile.update();
+        // Wrapped from 795 to 7; an enemy shot sitting on the left edge lies on the path
+        assertEquals(7, projectile.getX(), DELTA);
+        EnemyProjectile target = new EnemyProjectile(0, 300, 0, STAGE_WIDTH, STAGE_HEIGHT);
+        assertTrue(CollisionController.checkCollision(projectile, target));
+    }
+
+    @Test
+    void testSweptBroadphaseFindsTarget() {
+        EnemyProjectile thin = new EnemyProjectile(507, 110, 0, STAGE_WIDTH, STAGE_HEIGHT);
+        BossProjectile shot = new BossProjectile(500, 110, 0, STAGE_WIDTH, STAGE_HEIGHT,
+                BossProjectile.ProjectilePattern.STRAIGHT);
+        shot.update();
+
+        // Shots don't meet each other in the game, so allow the pair for this test
+        CollisionMatrix matrix = CollisionController.getCollisionMatrix();
+        CollisionController.setCollisionMatrix(CollisionMatrix.defaults()
+                .enable(CollisionLayer.BOSS_SHOT, CollisionLayer.ENEMY_SHOT));
+        try {
+            for (BroadphaseType type : BroadphaseType.values()) {
+                Broadphase<EnemyProjectile> broadphase = type.create(STAGE_WIDTH, STAGE_HEIGHT);
+                broadphase.rebuild(List.of(thin));
+                assertSame(thin, CollisionController.findFirstCollision(shot, broadphase), type.toString());
+            }
+        } finally {
+            CollisionController.setCollisionMatrix(matrix);
+        }
+    }
+
+    @Test
+    void testCollisionMatrixSkipsImpossiblePairs() {
+        CollisionMatrix matrix = CollisionMatrix.defaults();
+        assertTrue(matrix.canCollide(CollisionLayer.PLAYER, CollisionLayer.ASTEROID));
+        assertTrue(matrix.canCollide(CollisionLayer.ASTEROID, CollisionLayer.PLAYER_SHOT));
+        assertFalse(matrix.canCollide(CollisionLayer.PLAYER, CollisionLayer.PLAYER_SHOT));
+        assertFalse(matrix.canCollide(CollisionLayer.ASTEROID, CollisionLayer.ASTEROID));
+        assertFalse(matrix.canCollide(CollisionLayer.ENEMY, CollisionLayer.ENEMY_SHOT));
+
+        matrix.disable(CollisionLayer.ASTEROID, CollisionLayer.PLAYER);
+        assertFalse(matrix.canCollide(CollisionLayer.PLAYER, CollisionLayer.ASTEROID));
+        assertThrows(IllegalArgumentException.class, () -> CollisionController.setCollisionMatrix(null));
+    }
+
+    @Test
+    void testCollidesCountsTestsPerLayerPair() {
+        Player player = new Player(120, 120, STAGE_WIDTH, STAGE_HEIGHT);
+        Asteroid asteroid = new Asteroid(100, 100, 2);
+        Asteroid other = new Asteroid(110, 110, 2);
+        CollisionCounters counters = new CollisionCounters();
+
+        assertTrue(CollisionController.collides(player, asteroid, counters));
+        assertFalse(CollisionController.collides(asteroid, other, counters), "Asteroids don't collide with each other");
+
+        assertEquals(1, counters.getTests(CollisionLayer.ASTEROID, CollisionLayer.PLAYER));
+        assertEquals(1, counters.getHits(CollisionLayer.PLAYER, CollisionLayer.ASTEROID));
+        assertEquals(0, counters.getTests(CollisionLayer.ASTEROID, CollisionLayer.ASTEROID),
+                "Pairs rejected by the matrix are never tested");
+        assertTrue(CollisionController.collides(player, asteroid));
+        assertEquals(1, counters.getTests(CollisionLayer.ASTEROID, CollisionLayer.PLAYER), "Uncounted check");
+
+        Broadphase<Asteroid> broadphase = BroadphaseType.GRID.create(STAGE_WIDTH, STAGE_HEIGHT);
+        broadphase.rebuild(List.of(asteroid));
+        assertEquals(CollisionLayer.ASTEROID.bit(), broadphase.getLayerMask());
+        assertNull(CollisionController.findFirstCollision(other, broadphase));
+    }
+
+    @Test
+    void testProjectileHitsReportOneTargetPerProjectile() {
+        Player player = new Player(STAGE_WIDTH / 2, STAGE_HEIGHT / 2, STAGE_WIDTH, STAGE_HEIGHT);
+        Asteroid asteroid = new Asteroid(100, 100, 2);
+        Enemy enemy = new Enemy(110, 110, 2, player);
+        Boss boss = new Boss(400, 400, 1, player);
+        EntityStore shots = new EntityStore(STAGE_WIDTH, STAGE_HEIGHT);
+        // Overlaps both the asteroid and the enemy
+        int both = Projectile.spawn(shots, 140, 140, 0);
+        Projectile.spawn(shots, 700, 50, 0);
+        int bossShot = Projectile.spawn(shots, 450, 450, 0);
+
+        List<ProjectileHit> hits = findHits(shots, List.of(asteroid), List.of(enemy), List.of(boss));
+
+        assertEquals(2, hits.size());
+        assertEquals(both, hits.get(0).getRow());
+        assertSame(asteroid, hits.get(0).getTarget());
+        assertEquals(ProjectileHit.Kind.ASTEROID, hits.get(0).getKind());
+        assertEquals(bossShot, hits.get(1).getRow());
+        assertEquals(ProjectileHit.Kind.BOSS, hits.get(1).getKind());
+    }
+
+    @Test
+    void testProjectileHitsSkipDestroyedTargets() {
+        Player player = new Player(STAGE_WIDTH / 2, STAGE_HEIGHT / 2, STAGE_WIDTH, STAGE_HEIGHT);
+        Asteroid asteroid = new Asteroid(100, 100, 2);
+        Enemy enemy = new Enemy(110, 110, 2, player);
+        asteroid.markForDestruction();
+        EntityStore shots = new EntityStore(STAGE_WIDTH, STAGE_HEIGHT);
+        int row = Projectile.spawn(shots, 140, 140, 0);
+
+        List<ProjectileHit> hits = findHits(shots, List.of(asteroid), List.of(enemy), List.of());
+        assertEquals(1, hits.size());
+        assertSame(enemy, hits.get(0).getTarget());
+
+        enemy.markForDestructionEnemy();
+        assertTrue(findHits(shots, List.of(asteroid), List.of(enemy), List.of()).isEmpty());
+
+        // A shot that is already spent hits nothing
+        enemy = new Enemy(110, 110, 2, player);
+        shots.remove(row);
+        assertTrue(findHits(shots, List.of(), List.of(enemy), List.of()).isEmpty());
+    }
+
+    private List<ProjectileHit> findHits(EntityStore shots, List<Asteroid> asteroids,
+                                         List<Enemy> enemies, List<Boss> bosses) {
+        Broadphase<Asteroid> asteroidBroadphase = BroadphaseType.GRID.create(STAGE_WIDTH, STAGE_HEIGHT);
+        Broadphase<Enemy> enemyBroadphase = BroadphaseType.GRID.create(STAGE_WIDTH, STAGE_HEIGHT);
+        Broadphase<Boss> bossBroadphase = BroadphaseType.GRID.create(STAGE_WIDTH, STAGE_HEIGHT);
+        asteroidBroadphase.rebuild(asteroids);
+        enemyBroadphase.rebuild(enemies);
+        bossBroadphase.rebuild(bosses);
+
+        // Box overlap only, so the layout doesn't depend on sprite pixels
+        boolean pixelCollision = CollisionController.isPixelCollision();
+        CollisionController.setPixelCollision(false);
+        try {
+            List<ProjectileHit> hits = new ArrayList<>();
+            CollisionController.findProjectileHits(shots, asteroidBroadphase, enemyBroadphase, bossBroadphase, hits, null);
+            return hits;
+        } finally {
+            CollisionController.setPixelCollision(pixelCollision);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package se233.astroBoy;
+
+import javafx.scene.canvas.GraphicsContext;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import se233.astroboy.controller.CollisionController;
+import se233.astroboy.controller.ScalarCollisionKernel;
+import se233.astroboy.controller.TargetColumns;
+import se233.astroboy.controller.VectorCollisionKernel;
+import se233.astroboy.model.Character;
+import se233.astroboy.model.CollisionLayer;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Projectile-vs-target overlap tests: the CollisionController loop against the scalar and Vector API kernels.
+// Run main() after mvn test-compile, with target/classes, target/test-classes and the test classpath.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class CollisionKernelBenchmark {
+    private static final double STAGE_WIDTH = 800;
+    private static final double STAGE_HEIGHT = 600;
+    private static final int PROBES = 10;
+
+    @Param({"1000", "10000", "100000"})
+    public int pairs;
+
+    private Body[] probes;
+    private Body[] targets;
+    private TargetColumns columns;
+    private int[] hits;
+    private ScalarCollisionKernel scalarKernel;
+    private VectorCollisionKernel vectorKernel;
+
+    // Bare collision body, so setting up 100k targets does not decode sprites
+    private static class Body extends Character {
+        Body(double x, double y, double size) {
+            super(null, x, y, size, size);
+        }
+
+        @Override
+        public void update(double dt) {
+        }
+
+        @Override
+        public void render(GraphicsContext gc) {
+        }
+
+        @Override
+        public CollisionLayer getCollisionLayer() {
+            return CollisionLayer.ASTEROID;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(1);
+        probes = new Body[PROBES];
+        for (int i = 0; i < PROBES; i++) {
+            probes[i] = new Body(random.nextDouble() * STAGE_WIDTH, random.nextDouble() * STAGE_HEIGHT, 6);
+        }
+        targets = new Body[pairs / PROBES];
+        columns = new TargetColumns(STAGE_WIDTH, STAGE_HEIGHT);
+        for (int i = 0; i < targets.length; i++) {
+            targets[i] = new Body(random.nextDouble() * STAGE_WIDTH, random.nextDouble() * STAGE_HEIGHT,
+                    random.nextBoolean() ? 35 : 70);
+            columns.add(targets[i].getHitMinX(), targets[i].getHitMinY(), targets[i].getHitMaxX(), targets[i].getHitMaxY());
+        }
+        hits = new int[targets.length];
+        scalarKernel = new ScalarCollisionKernel();
+        vectorKernel = new VectorCollisionKernel();
+    }
+
+    @Benchmark
+    public void checkCollisionLoop(Blackhole blackhole) {
+        for (Body probe : probes) {
+            int found = 0;
+            for (Body target : targets) {
+                if (CollisionController.checkCollision(probe, target)) {
+                    found++;
+                }
+            }
+            blackhole.consume(found);
+        }
+    }
+
+    @Benchmark
+    public void scalarKernel(Blackhole blackhole) {
+        for (Body probe : probes) {
+            blackhole.consume(scalarKernel.overlaps(probe.getHitMinX(), probe.getHitMinY(),
+                    probe.getHitMaxX(), probe.getHitMaxY(), columns, hits));
+        }
+    }
+
+    @Benchmark
+    public void vectorKernel(Blackhole blackhole) {
+        for (Body probe : probes) {
+            blackhole.consume(vectorKernel.overlaps(probe.getHitMinX(), probe.getHitMinY(),
+                    probe.getHitMaxX(), probe.getHitMaxY(), columns, hits));
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(CollisionKernelBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
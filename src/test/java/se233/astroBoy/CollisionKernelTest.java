@@ -0,0 +1,87 @@
+package se233.astroBoy;
+
+import org.junit.jupiter.api.Test;
+import se233.astroboy.controller.CollisionController;
+import se233.astroboy.controller.CollisionKernel;
+import se233.astroboy.controller.ScalarCollisionKernel;
+import se233.astroboy.controller.TargetColumns;
+import se233.astroboy.controller.VectorCollisionKernel;
+import se233.astroboy.model.Asteroid;
+import se233.astroboy.model.Projectile;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class CollisionKernelTest {
+    private static final double STAGE_WIDTH = 800;
+    private static final double STAGE_HEIGHT = 600;
+
+    @Test
+    void testScalarKernelMatchesCheckCollision() {
+        assertKernelMatchesCheckCollision(new ScalarCollisionKernel());
+    }
+
+    @Test
+    void testVectorKernelMatchesCheckCollision() {
+        assumeTrue(ModuleLayer.boot().findModule(CollisionKernel.VECTOR_MODULE).isPresent(),
+                "Vector API module not resolved");
+        assertKernelMatchesCheckCollision(new VectorCollisionKernel());
+    }
+
+    @Test
+    void testPreferredKernel() {
+        CollisionKernel kernel = CollisionKernel.preferred();
+        if (ModuleLayer.boot().findModule(CollisionKernel.VECTOR_MODULE).isPresent()) {
+            assertInstanceOf(VectorCollisionKernel.class, kernel);
+        } else {
+            assertInstanceOf(ScalarCollisionKernel.class, kernel);
+        }
+    }
+
+    // The kernel is a box test, so it is compared against checkCollision without the pixel narrow phase
+    private void assertKernelMatchesCheckCollision(CollisionKernel kernel) {
+        boolean pixelCollision = CollisionController.isPixelCollision();
+        CollisionController.setPixelCollision(false);
+        try {
+            assertKernelMatchesBoxCollision(kernel);
+        } finally {
+            CollisionController.setPixelCollision(pixelCollision);
+        }
+    }
+
+    private void assertKernelMatchesBoxCollision(CollisionKernel kernel) {
+        Random random = new Random(5);
+        // An odd count leaves a tail that does not fill a whole vector
+        List<Asteroid> asteroids = new ArrayList<>();
+        for (int i = 0; i < 101; i++) {
+            asteroids.add(new Asteroid(random.nextDouble() * STAGE_WIDTH, random.nextDouble() * STAGE_HEIGHT,
+                    1 + random.nextInt(2)));
+        }
+        TargetColumns columns = new TargetColumns(STAGE_WIDTH, STAGE_HEIGHT);
+        columns.fill(asteroids);
+        int[] hits = new int[asteroids.size()];
+
+        int total = 0;
+        for (int p = 0; p < 300; p++) {
+            Projectile projectile = new Projectile(random.nextDouble() * STAGE_WIDTH, random.nextDouble() * STAGE_HEIGHT,
+                    0, STAGE_WIDTH, STAGE_HEIGHT);
+            int found = kernel.overlaps(projectile.getHitMinX(), projectile.getHitMinY(),
+                    projectile.getHitMaxX(), projectile.getHitMaxY(), columns, hits);
+
+            List<Integer> expected = new ArrayList<>();
+            for (int i = 0; i < asteroids.size(); i++) {
+                if (CollisionController.checkCollision(projectile, asteroids.get(i))) {
+                    expected.add(i);
+                }
+            }
+            assertEquals(expected.toString(), Arrays.toString(Arrays.copyOf(hits, found)));
+            total += found;
+        }
+        assertTrue(total > 0, "Random layout should produce some collisions");
+    }
+}
@@ -0,0 +1,129 @@
+package se233.astroBoy;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import se233.astroboy.controller.CollisionController;
+import se233.astroboy.model.Asteroid;
+import se233.astroboy.model.Boss;
+import se233.astroboy.model.CollisionMask;
+import se233.astroboy.model.EnemyProjectile;
+import se233.astroboy.model.Player;
+import se233.astroboy.model.SpriteMask;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CollisionMaskTest {
+    private static final String ASTEROID = "/se233/astroboy/asset/asteroid2.png";
+
+    private boolean pixelCollision;
+
+    @BeforeEach
+    void setUp() {
+        pixelCollision = CollisionController.isPixelCollision();
+        CollisionController.setPixelCollision(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        CollisionController.setPixelCollision(pixelCollision);
+    }
+
+    @Test
+    void testMaskFollowsSpriteAlpha() {
+        CollisionMask mask = SpriteMask.load(ASTEROID, 70, 70).at(0);
+        assertEquals(70, mask.getWidth());
+        assertEquals(70, mask.getHeight());
+        assertTrue(mask.isSet(35, 35), "Asteroid center should be solid");
+        assertFalse(mask.isSet(0, 0), "Transparent corner should not be solid");
+        assertFalse(mask.isSet(69, 69), "Transparent corner should not be solid");
+    }
+
+    @Test
+    void testMasksAreSharedBetweenEntities() {
+        assertSame(SpriteMask.load(ASTEROID, 70, 70), SpriteMask.load(ASTEROID, 70, 70));
+        SpriteMask mask = SpriteMask.load(ASTEROID, 70, 70);
+        assertSame(mask.at(90), mask.at(90 + 360));
+    }
+
+    @Test
+    void testEveryRotationIsBuiltAtLoad() {
+        SpriteMask sprite = SpriteMask.load(ASTEROID, 70, 70);
+        CollisionMask upright = sprite.at(0);
+        double degreesPerStep = 360.0 / SpriteMask.ROTATION_STEPS;
+        for (int step = 1; step < SpriteMask.ROTATION_STEPS; step++) {
+            CollisionMask expected = upright.rotated(step * degreesPerStep);
+            CollisionMask actual = sprite.at(step * degreesPerStep);
+            assertSame(actual, sprite.at(step * degreesPerStep), "step " + step);
+            for (int y = 0; y < expected.getHeight(); y++) {
+                for (int x = 0; x < expected.getWidth(); x++) {
+                    assertEquals(expected.isSet(x, y), actual.isSet(x, y), "step " + step + " at " + x + "," + y);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testWordOverlapMatchesPixelLoop() {
+        SpriteMask sprite = SpriteMask.load(ASTEROID, 70, 70);
+        Random random = new Random(8);
+        for (int i = 0; i < 500; i++) {
+            CollisionMask a = sprite.at(random.nextDouble() * 360);
+            CollisionMask b = sprite.at(random.nextDouble() * 360);
+            int offsetX = random.nextInt(161) - 80;
+            int offsetY = random.nextInt(161) - 80;
+            assertEquals(pixelOverlap(a, b, offsetX, offsetY), a.overlaps(b, offsetX, offsetY),
+                    "offset " + offsetX + "," + offsetY);
+
+            int boxWidth = 1 + random.nextInt(20);
+            int boxHeight = 1 + random.nextInt(20);
+            assertEquals(pixelBoxOverlap(a, offsetX, offsetY, boxWidth, boxHeight),
+                    a.overlapsBox(offsetX, offsetY, boxWidth, boxHeight));
+        }
+    }
+
+    @Test
+    void testTransparentCornerDoesNotHit() {
+        Asteroid asteroid = new Asteroid(100, 100, 2);
+        // A small shot touching only the corner of the 70 px box
+        EnemyProjectile shot = new EnemyProjectile(101, 101, 0, 800, 600);
+
+        assertFalse(CollisionController.checkCollision(shot, asteroid));
+        CollisionController.setPixelCollision(false);
+        assertTrue(CollisionController.checkCollision(shot, asteroid));
+    }
+
+    @Test
+    void testSolidPixelsStillHit() {
+        Asteroid asteroid = new Asteroid(100, 100, 2);
+        Player player = new Player(120, 120, 800, 600);
+        assertTrue(CollisionController.checkCollision(player, asteroid));
+
+        Boss boss = new Boss(300, 300, 1, player);
+        assertTrue(CollisionController.checkCollision(boss, new Asteroid(330, 330, 2)));
+    }
+
+    private static boolean pixelOverlap(CollisionMask a, CollisionMask b, int offsetX, int offsetY) {
+        for (int y = 0; y < a.getHeight(); y++) {
+            for (int x = 0; x < a.getWidth(); x++) {
+                if (a.isSet(x, y) && b.isSet(x - offsetX, y - offsetY)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean pixelBoxOverlap(CollisionMask mask, int boxX, int boxY, int boxWidth, int boxHeight) {
+        for (int y = boxY; y < boxY + boxHeight; y++) {
+            for (int x = boxX; x < boxX + boxWidth; x++) {
+                if (mask.isSet(x, y)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,95 @@
+package se233.astroBoy;
+
+import org.junit.jupiter.api.Test;
+import se233.astroboy.controller.EntityList;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EntityListTest {
+
+    @Test
+    void testRemovalIsDeferredUntilCompact() {
+        EntityList<String> list = new EntityList<>();
+        list.add("a");
+        list.add("b");
+        list.add("c");
+        list.add("d");
+
+        list.removeLater(1);
+        list.removeLater(1);
+        assertEquals(4, list.size(), "Marked entities stay until compact()");
+        assertTrue(list.isRemovalPending(1));
+        assertEquals(1, list.getPendingRemovals());
+
+        List<String> removed = new ArrayList<>();
+        assertEquals(1, list.compact(removed::add));
+        assertEquals(List.of("b"), removed);
+        assertEquals(List.of("a", "d", "c"), list, "The last entity fills the hole");
+    }
+
+    @Test
+    void testCompactMatchesPlainRemoval() {
+        Random random = new Random(233);
+        EntityList<Integer> list = new EntityList<>();
+        Set<Integer> expected = new HashSet<>();
+        int next = 0;
+        for (int round = 0; round < 200; round++) {
+            int adds = random.nextInt(20);
+            for (int i = 0; i < adds; i++) {
+                list.add(next);
+                expected.add(next);
+                next++;
+            }
+            for (int i = 0; i < list.size(); i++) {
+                if (random.nextInt(3) == 0) {
+                    expected.remove(list.get(i));
+                    list.removeLater(i);
+                }
+            }
+            list.compact();
+            assertEquals(expected, new HashSet<>(list));
+            assertEquals(expected.size(), list.size());
+        }
+    }
+
+    @Test
+    void testHandlesSurviveSwapsAndExpire() {
+        EntityList<String> list = new EntityList<>();
+        for (int i = 0; i < 40; i++) {
+            list.add("entity" + i);
+        }
+        long first = list.handleOf(0);
+        long last = list.handleOf(39);
+
+        // Removing the first entity moves the last one into its place
+        list.removeLater(0);
+        assertEquals("entity0", list.resolve(first), "Still resolvable until compact()");
+        list.compact();
+        assertNull(list.resolve(first));
+        assertEquals("entity39", list.resolve(last));
+        assertEquals(last, list.handleOf(0));
+
+        // The freed slot is reused with a new generation, so the old handle stays dead
+        list.add("newcomer");
+        assertNull(list.resolve(first));
+
+        list.clear();
+        assertNull(list.resolve(last));
+        assertTrue(list.isEmpty());
+    }
+
+    @Test
+    void testInvalidArguments() {
+        EntityList<String> list = new EntityList<>();
+        assertThrows(IllegalArgumentException.class, () -> list.add(null));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.removeLater(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(0));
+        assertNull(list.resolve(12345L));
+    }
+}
@@ -0,0 +1,92 @@
+package se233.astroBoy;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import se233.astroboy.model.Assets;
+import se233.astroboy.model.EnemyProjectile;
+import se233.astroboy.model.EntityStore;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// A whole volley of hostile shots, spawned, flown until every one expires and dropped:
+// a list of EnemyProjectile objects against the column store. The object version also pays for the allocation.
+// Run main() after mvn test-compile, with target/classes, target/test-classes and the test classpath.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntityStoreBenchmark {
+    private static final double STAGE_WIDTH = 800;
+    private static final double STAGE_HEIGHT = 600;
+    private static final double DT = 1.0 / 60;
+
+    @Param({"1000", "10000", "50000"})
+    public int bodies;
+
+    private double[] x;
+    private double[] y;
+    private double[] rotation;
+    private List<EnemyProjectile> objects;
+    private EntityStore store;
+
+    @Setup
+    public void setUp() {
+        // Shots never draw their sprite, skip decoding it for every object
+        Assets.setHeadless(true);
+        Random random = new Random(1);
+        x = new double[bodies];
+        y = new double[bodies];
+        rotation = new double[bodies];
+        for (int i = 0; i < bodies; i++) {
+            x[i] = random.nextDouble() * STAGE_WIDTH;
+            y[i] = random.nextDouble() * STAGE_HEIGHT;
+            rotation[i] = random.nextDouble() * 360;
+        }
+        objects = new ArrayList<>();
+        store = new EntityStore(STAGE_WIDTH, STAGE_HEIGHT);
+    }
+
+    @Benchmark
+    public void objectList(Blackhole blackhole) {
+        for (int i = 0; i < bodies; i++) {
+            objects.add(new EnemyProjectile(x[i], y[i], rotation[i], STAGE_WIDTH, STAGE_HEIGHT));
+        }
+        int ticks = 0;
+        while (!objects.isEmpty()) {
+            for (int i = 0; i < objects.size(); i++) {
+                objects.get(i).update(DT);
+            }
+            objects.removeIf(EnemyProjectile::isExpired);
+            ticks++;
+        }
+        blackhole.consume(ticks);
+    }
+
+    @Benchmark
+    public void columnStore(Blackhole blackhole) {
+        for (int i = 0; i < bodies; i++) {
+            EnemyProjectile.spawn(store, x[i], y[i], rotation[i]);
+        }
+        int ticks = 0;
+        while (!store.isEmpty()) {
+            store.integrate(DT);
+            store.compact();
+            ticks++;
+        }
+        blackhole.consume(ticks);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(EntityStoreBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,168 @@
+package se233.astroBoy;
+
+import org.junit.jupiter.api.Test;
+import se233.astroboy.controller.CollisionController;
+import se233.astroboy.model.BossProjectile;
+import se233.astroboy.model.CollisionLayer;
+import se233.astroboy.model.EnemyProjectile;
+import se233.astroboy.model.EntityStore;
+import se233.astroboy.model.Player;
+import se233.astroboy.model.Projectile;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EntityStoreTest {
+    private static final double STAGE_WIDTH = 800;
+    private static final double STAGE_HEIGHT = 600;
+    private static final double DELTA = 0.001;
+
+    @Test
+    void testRowMovesLikeEnemyProjectile() {
+        EntityStore shots = new EntityStore(STAGE_WIDTH, STAGE_HEIGHT);
+        EnemyProjectile projectile = new EnemyProjectile(STAGE_WIDTH - 10, 20, 30, STAGE_WIDTH, STAGE_HEIGHT);
+        int row = EnemyProjectile.spawn(shots, STAGE_WIDTH - 10, 20, 30);
+
+        // Same path, same wrap and same expiry tick as the object version
+        for (int tick = 0; tick < 120 && !projectile.isExpired(); tick++) {
+            projectile.update();
+            shots.integrate(1.0 / 60);
+            assertEquals(projectile.isExpired(), shots.isRemoved(row), "Tick " + tick);
+            assertEquals(projectile.getX(), shots.getX(row), DELTA);
+            assertEquals(projectile.getY(), shots.getY(row), DELTA);
+            assertEquals(projectile.getSweepX(), shots.getSweepX(row), DELTA);
+            assertEquals(projectile.getSweepY(), shots.getSweepY(row), DELTA);
+        }
+        assertTrue(projectile.isExpired());
+        assertTrue(shots.isRemoved(row));
+
+        shots.compact();
+        assertTrue(shots.isEmpty());
+        assertEquals(0, shots.size());
+    }
+
+    @Test
+    void testRowMovesLikeProjectile() {
+        EntityStore shots = new EntityStore(STAGE_WIDTH, STAGE_HEIGHT);
+        Projectile projectile = new Projectile(200, 150, 30, STAGE_WIDTH, STAGE_HEIGHT);
+        int row = Projectile.spawn(shots, 200, 150, 30);
+        assertEquals(CollisionLayer.PLAYER_SHOT, shots.getCollisionLayer(row));
+        assertEquals(projectile.getWidth(), shots.getWidth(row), DELTA);
+
+        for (int tick = 0; tick < 120 && !projectile.isExpired(); tick++) {
+            projectile.update();
+            shots.integrate(1.0 / 60);
+            assertEquals(projectile.isExpired(), shots.isRemoved(row), "Tick " + tick);
+            assertEquals(projectile.getX(), shots.getX(row), DELTA);
+            assertEquals(projectile.getY(), shots.getY(row), DELTA);
+        }
+        assertTrue(shots.isRemoved(row));
+    }
+
+    @Test
+    void testMultiShotMatchesObjectPattern() {
+        EntityStore shots = new EntityStore(STAGE_WIDTH, STAGE_HEIGHT);
+        BossProjectile[] projectiles = BossProjectile.createMultiShotPattern(200, 200, 45,
+                STAGE_WIDTH, STAGE_HEIGHT, 7, 20.0);
+        BossProjectile.spawnMultiShot(shots, 200, 200, 45, 7, 20.0);
+
+        assertEquals(projectiles.length, shots.size());
+        for (int row = 0; row < shots.size(); row++) {
+            projectiles[row].update();
+        }
+        shots.integrate(1.0 / 60);
+        for (int row = 0; row < shots.size(); row++) {
+            assertEquals(projectiles[row].getX(), shots.getX(row), DELTA);
+            assertEquals(projectiles[row].getY(), shots.getY(row), DELTA);
+            assertEquals(CollisionLayer.BOSS_SHOT, shots.getCollisionLayer(row));
+        }
+    }
+
+    @Test
+    void testCompactKeepsRowOrder() {
+        EntityStore store = new EntityStore(STAGE_WIDTH, STAGE_HEIGHT, 2);
+        for (int i = 0; i < 10; i++) {
+            store.add(CollisionLayer.ENEMY_SHOT, i, i, 0, 0, 0, 6, 6, 1, 10);
+        }
+        assertTrue(store.capacity() >= 10, "Store grows past its initial capacity");
+
+        store.remove(0);
+        store.remove(4);
+        store.damage(9, 1);
+        assertEquals(7, store.liveCount());
+        assertEquals(10, store.size(), "Removed rows stay until compact()");
+
+        store.compact();
+        assertEquals(7, store.size());
+        double[] expected = {1, 2, 3, 5, 6, 7, 8};
+        for (int row = 0; row < store.size(); row++) {
+            assertEquals(expected[row], store.getX(row), DELTA);
+            assertFalse(store.isRemoved(row));
+        }
+    }
+
+    @Test
+    void testRowCollidesLikeObject() {
+        Player player = new Player(STAGE_WIDTH / 2, STAGE_HEIGHT / 2, STAGE_WIDTH, STAGE_HEIGHT);
+        Random random = new Random(233);
+        EntityStore shots = new EntityStore(STAGE_WIDTH, STAGE_HEIGHT);
+        EnemyProjectile[] projectiles = new EnemyProjectile[300];
+        for (int i = 0; i < projectiles.length; i++) {
+            double x = player.getX() - 40 + random.nextDouble() * 80;
+            double y = player.getY() - 40 + random.nextDouble() * 80;
+            double rotation = random.nextDouble() * 360;
+            projectiles[i] = new EnemyProjectile(x, y, rotation, STAGE_WIDTH, STAGE_HEIGHT);
+            EnemyProjectile.spawn(shots, x, y, rotation);
+        }
+
+        int hits = 0;
+        for (int tick = 0; tick < 3; tick++) {
+            shots.integrate(1.0 / 60);
+            for (int i = 0; i < projectiles.length; i++) {
+                projectiles[i].update();
+                boolean expected = CollisionController.checkCollision(projectiles[i], player);
+                assertEquals(expected, CollisionController.checkCollision(shots, i, player), "Shot " + i);
+                if (expected) {
+                    hits++;
+                }
+            }
+        }
+        assertTrue(hits > 0, "Shots around the player should produce some hits");
+    }
+
+    @Test
+    void testFiftyThousandBodiesReuseTheirColumns() {
+        EntityStore store = new EntityStore(STAGE_WIDTH, STAGE_HEIGHT);
+        Random random = new Random(1);
+        for (int i = 0; i < 50_000; i++) {
+            EnemyProjectile.spawn(store, random.nextDouble() * STAGE_WIDTH, random.nextDouble() * STAGE_HEIGHT,
+                    random.nextDouble() * 360);
+        }
+        int capacity = store.capacity();
+
+        for (int tick = 0; tick < 30; tick++) {
+            store.integrate(1.0 / 60);
+            store.compact();
+        }
+        assertEquals(50_000, store.size(), "Shots live for more than 30 ticks");
+        for (int row = 0; row < store.size(); row++) {
+            assertTrue(store.getX(row) >= 0 && store.getX(row) < STAGE_WIDTH);
+            assertTrue(store.getY(row) >= 0 && store.getY(row) < STAGE_HEIGHT);
+        }
+
+        // Refilling after clear() reuses the same arrays
+        store.clear();
+        for (int i = 0; i < 50_000; i++) {
+            EnemyProjectile.spawn(store, 100, 100, i);
+        }
+        assertEquals(capacity, store.capacity());
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new EntityStore(STAGE_WIDTH, STAGE_HEIGHT, 0));
+        EntityStore store = new EntityStore(STAGE_WIDTH, STAGE_HEIGHT);
+        assertThrows(IllegalArgumentException.class, () -> store.remove(0));
+    }
+}
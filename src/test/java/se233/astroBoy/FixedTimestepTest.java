@@ -0,0 +1,97 @@
+package se233.astroBoy;
+
+import org.junit.jupiter.api.Test;
+import se233.astroboy.controller.FixedTimestep;
+import se233.astroboy.model.Asteroid;
+import se233.astroboy.model.Character;
+import se233.astroboy.model.Player;
+import se233.astroboy.model.Projectile;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FixedTimestepTest {
+    private static final long MILLIS = 1_000_000L;
+    private static final double DELTA = 1e-9;
+
+    @Test
+    void testOneStepPerFrameAtTickRate() {
+        FixedTimestep timestep = new FixedTimestep(60, 5);
+        assertEquals(0, timestep.advance(0), "First frame only starts the clock");
+        long step = 1_000_000_000L / 60;
+        for (int frame = 1; frame <= 10; frame++) {
+            assertEquals(1, timestep.advance(frame * step));
+        }
+        assertEquals(1.0 / 60, timestep.getStepSeconds(), 1e-6);
+    }
+
+    @Test
+    void testHighRefreshDisplayKeepsSimulationRate() {
+        // A 144 Hz display drawing for one second still runs 60 steps
+        FixedTimestep timestep = new FixedTimestep(60, 5);
+        timestep.advance(0);
+        int steps = 0;
+        for (int frame = 1; frame <= 144; frame++) {
+            steps += timestep.advance(frame * 1_000_000_000L / 144);
+            double alpha = timestep.getAlpha();
+            assertTrue(alpha >= 0 && alpha < 1, "Alpha should stay within a step");
+        }
+        assertEquals(60, steps);
+    }
+
+    @Test
+    void testCatchUpIsCapped() {
+        FixedTimestep timestep = new FixedTimestep(60, 5);
+        timestep.advance(0);
+        // A 500 ms stall is 30 steps behind
+        assertEquals(5, timestep.advance(500 * MILLIS));
+        assertEquals(25, timestep.getDroppedSteps());
+        assertTrue(timestep.getAlpha() < 1);
+        assertEquals(1, timestep.advance(500 * MILLIS + 1_000_000_000L / 60));
+    }
+
+    @Test
+    void testInvalidSettingsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new FixedTimestep(0, 5));
+        assertThrows(IllegalArgumentException.class, () -> new FixedTimestep(60, 0));
+    }
+
+    @Test
+    void testMovementDoesNotDependOnTickRate() {
+        // Two half steps cover the same ground as one full step
+        Asteroid at120 = new Asteroid(100, 100, 1);
+        double startX = at120.getX();
+        double startY = at120.getY();
+        at120.update(Character.REFERENCE_DT);
+        double stepX = at120.getX() - startX;
+        double stepY = at120.getY() - startY;
+        at120.setX(startX);
+        at120.setY(startY);
+        at120.update(Character.REFERENCE_DT / 2);
+        at120.update(Character.REFERENCE_DT / 2);
+        assertEquals(startX + stepX, at120.getX(), DELTA);
+        assertEquals(startY + stepY, at120.getY(), DELTA);
+
+        Projectile projectile = new Projectile(100, 100, 0, 800, 600);
+        for (int i = 0; i < 20; i++) {
+            projectile.update(Character.REFERENCE_DT / 2);
+        }
+        Projectile reference = new Projectile(100, 100, 0, 800, 600);
+        for (int i = 0; i < 10; i++) {
+            reference.update();
+        }
+        assertEquals(reference.getX(), projectile.getX(), DELTA);
+    }
+
+    @Test
+    void testPreviousPositionForInterpolation() {
+        Player player = new Player(400, 300, 800, 600);
+        player.setMovingForward(true);
+        player.update();
+        assertEquals(400, player.getPreviousX(), DELTA);
+        assertEquals(300, player.getPreviousY(), DELTA);
+        assertTrue(player.getX() != 400 || player.getY() != 300, "Thrust should move the ship");
+
+        player.setX(10);
+        assertEquals(10, player.getPreviousX(), DELTA, "Teleports are not interpolated");
+    }
+}
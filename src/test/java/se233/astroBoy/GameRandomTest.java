@@ -0,0 +1,96 @@
+package se233.astroBoy;
+
+import org.junit.jupiter.api.Test;
+import se233.astroboy.controller.RandomService;
+import se233.astroboy.model.GameRandom;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GameRandomTest {
+
+    @Test
+    void testMatchesReferenceXoshiro() {
+        // First outputs of the reference xoshiro256** implementation from state {1, 2, 3, 4}
+        GameRandom random = new GameRandom(0);
+        random.restoreState(new long[]{1, 2, 3, 4});
+        assertEquals(11520L, random.nextLong());
+        assertEquals(0L, random.nextLong());
+        assertEquals(1509978240L, random.nextLong());
+        assertEquals(1215971899390074240L, random.nextLong());
+    }
+
+    @Test
+    void testSameSeedSameSequence() {
+        GameRandom a = new GameRandom(233);
+        GameRandom b = new GameRandom(233);
+        GameRandom other = new GameRandom(234);
+        boolean differs = false;
+        for (int i = 0; i < 1000; i++) {
+            double value = a.nextDouble();
+            assertEquals(value, b.nextDouble());
+            assertTrue(value >= 0 && value < 1);
+            differs |= value != other.nextDouble();
+        }
+        assertTrue(differs, "Another seed gives another sequence");
+    }
+
+    @Test
+    void testSaveAndRestore() {
+        GameRandom random = new GameRandom(42);
+        random.nextLong();
+        long[] state = random.saveState();
+        long first = random.nextLong();
+        long second = random.nextLong();
+
+        random.restoreState(state);
+        assertEquals(first, random.nextLong());
+        assertEquals(second, random.nextLong());
+    }
+
+    @Test
+    void testStreamsAreIndependent() {
+        RandomService service = new RandomService(7);
+        GameRandom spawn = service.stream(RandomService.SPAWN);
+        assertSame(spawn, service.stream(RandomService.SPAWN));
+
+        // Draws from another stream don't shift this one
+        RandomService busy = new RandomService(7);
+        for (int i = 0; i < 100; i++) {
+            busy.stream(RandomService.ENEMIES).nextDouble();
+        }
+        GameRandom busySpawn = busy.stream(RandomService.SPAWN);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(spawn.nextLong(), busySpawn.nextLong());
+        }
+        assertNotEquals(new RandomService(7).stream(RandomService.SPAWN).nextLong(),
+                new RandomService(7).stream(RandomService.BOSS).nextLong());
+    }
+
+    @Test
+    void testServiceRestoresInPlace() {
+        RandomService service = new RandomService(99);
+        GameRandom enemies = service.stream(RandomService.ENEMIES);
+        enemies.nextLong();
+        Map<String, long[]> state = service.saveState();
+        long expected = enemies.nextLong();
+
+        // A stream first used after the save restarts from its seed
+        GameRandom boss = service.stream(RandomService.BOSS);
+        long bossFirst = boss.nextLong();
+
+        service.restoreState(state);
+        assertEquals(expected, enemies.nextLong(), "Holders of the stream see the restored state");
+        assertEquals(bossFirst, boss.nextLong());
+    }
+
+    @Test
+    void testInvalidArguments() {
+        GameRandom random = new GameRandom(1);
+        assertThrows(IllegalArgumentException.class, () -> random.nextInt(0));
+        assertThrows(IllegalArgumentException.class, () -> random.restoreState(new long[3]));
+        assertThrows(IllegalArgumentException.class, () -> random.restoreState(new long[4]));
+        assertThrows(IllegalArgumentException.class, () -> new RandomService(1).restoreState(null));
+    }
+}
@@ -0,0 +1,124 @@
+package se233.astroBoy;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import se233.astroboy.controller.FrameSnapshot;
+import se233.astroboy.controller.ParallelStage;
+import se233.astroboy.controller.World;
+import se233.astroboy.model.Assets;
+import se233.astroboy.model.GameState;
+import se233.astroboy.model.ScreenWrap;
+import se233.astroboy.view.GameRenderer;
+import se233.astroboy.view.Layer;
+import se233.astroboy.view.LayerStack;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GameRendererTest {
+    private static boolean headless;
+
+    private World world;
+    private FrameSnapshot frame;
+    private LayerStack layers;
+    private GameRenderer renderer;
+    private long tick;
+
+    @BeforeAll
+    static void enableHeadless() {
+        headless = Assets.isHeadless();
+        Assets.setHeadless(true);
+    }
+
+    @AfterAll
+    static void restoreHeadless() {
+        Assets.setHeadless(headless);
+    }
+
+    @BeforeEach
+    void setUp() {
+        world = new World(ScreenWrap.WIDTH, ScreenWrap.HEIGHT, 7L, ParallelStage.serial());
+        frame = new FrameSnapshot();
+        layers = new LayerStack(ScreenWrap.WIDTH, ScreenWrap.HEIGHT);
+        renderer = new GameRenderer(ScreenWrap.WIDTH, ScreenWrap.HEIGHT);
+    }
+
+    private void render(double textAlpha) {
+        frame.capture(world, textAlpha, tick++, 0, 1);
+        renderer.render(layers, frame, 1.0);
+    }
+
+    private long repaints(Layer layer) {
+        return layers.get(layer).getRepaintCount();
+    }
+
+    @Test
+    void testMenuIsPaintedOnce() {
+        for (int i = 0; i < 10; i++) {
+            render(i / 10.0);
+        }
+        assertEquals(1, repaints(Layer.OVERLAY));
+        assertEquals(1, repaints(Layer.PROMPT));
+        assertEquals(0.9, layers.get(Layer.PROMPT).getCanvas().getOpacity(), 1e-9, "The prompt fades, not repaints");
+        assertEquals(0, repaints(Layer.BACKGROUND), "The stage paints the background");
+    }
+
+    @Test
+    void testHudRepaintsOnlyWhenItChanges() {
+        render(1.0);
+        world.startNewGame();
+        render(1.0);
+        long worldPaints = repaints(Layer.WORLD);
+        long hudPaints = repaints(Layer.HUD);
+        for (int i = 0; i < 10; i++) {
+            render(1.0);
+        }
+        assertEquals(worldPaints + 10, repaints(Layer.WORLD), "The world is painted every frame of play");
+        assertEquals(hudPaints, repaints(Layer.HUD), "Nothing on the HUD changed");
+        assertEquals(2, repaints(Layer.OVERLAY), "The menu was cleared once");
+
+        world.getScore().addPoints(100);
+        render(1.0);
+        render(1.0);
+        assertEquals(hudPaints + 1, repaints(Layer.HUD));
+
+        world.getPlayer().hit();
+        render(1.0);
+        assertEquals(hudPaints + 2, repaints(Layer.HUD), "Lost a life");
+    }
+
+    @Test
+    void testGameOverKeepsTheFinalFrame() {
+        world.startNewGame();
+        render(1.0);
+        while (world.getGameState() == GameState.PLAYING) {
+            world.getPlayer().hit();
+            world.tick();
+        }
+        render(1.0);
+        long worldPaints = repaints(Layer.WORLD);
+        long hudPaints = repaints(Layer.HUD);
+        long overlay = repaints(Layer.OVERLAY);
+        for (int i = 0; i < 30; i++) {
+            render(i / 30.0);
+        }
+        assertEquals(worldPaints, repaints(Layer.WORLD), "The final frame stays under the overlay");
+        assertEquals(hudPaints, repaints(Layer.HUD));
+        assertEquals(overlay, repaints(Layer.OVERLAY));
+        assertFalse(layers.get(Layer.WORLD).isDirty());
+    }
+
+    @Test
+    void testNewScreenDirtiesTheLayers() {
+        render(1.0);
+        world.startNewGame();
+        render(1.0);
+        // Back from playing to the menu cleans out the world
+        long before = repaints(Layer.WORLD);
+        FrameSnapshot menu = new FrameSnapshot();
+        renderer.render(layers, menu, 1.0);
+        assertEquals(before + 1, repaints(Layer.WORLD));
+        assertEquals(3, repaints(Layer.OVERLAY));
+    }
+}
@@ -0,0 +1,98 @@
+package se233.astroBoy;
+
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.PixelReader;
+import javafx.scene.paint.Color;
+import org.junit.jupiter.api.Test;
+import se233.astroboy.model.GlyphStrip;
+import se233.astroboy.model.TextLabel;
+import se233.astroboy.view.HudText;
+
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GlyphStripTest {
+    private static final String DIGITS = "0123456789-./";
+
+    private final GlyphStrip strip = new GlyphStrip("Arial", false, 20, Color.WHITE, DIGITS);
+    private final GraphicsContext gc = new Canvas(800, 600).getGraphicsContext2D();
+
+    private int width(String text) {
+        int width = 0;
+        for (int i = 0; i < text.length(); i++) {
+            width += strip.advance(text.charAt(i));
+        }
+        return width;
+    }
+
+    @Test
+    void testNumbersAdvanceLikeTheirDigits() {
+        for (long value : new long[]{0, 7, 10, 305, 2024, -41, Integer.MAX_VALUE, Long.MIN_VALUE}) {
+            String text = Long.toString(value);
+            assertEquals(width(text), strip.intWidth(value), text);
+            assertEquals(10 + width(text), strip.drawInt(gc, value, 10, 30), 1e-9, text);
+        }
+        assertEquals(10 + width("3.5"), strip.drawTenths(gc, 35, 10, 30), 1e-9);
+        assertEquals(10 + width("0.4"), strip.drawTenths(gc, 4, 10, 30), 1e-9);
+        assertEquals(10 + width("-1.2"), strip.drawTenths(gc, -12, 10, 30), 1e-9);
+    }
+
+    @Test
+    void testMissingGlyphsAreRejected() {
+        GlyphStrip unsigned = new GlyphStrip("Arial", false, 20, Color.WHITE, "0123456789");
+        assertThrows(IllegalArgumentException.class, () -> strip.drawGlyph(gc, 'x', 10, 30));
+        assertThrows(IllegalArgumentException.class, () -> unsigned.drawInt(gc, -5, 10, 30),
+                "A negative number can't be drawn without its sign");
+        assertThrows(IllegalArgumentException.class, () -> unsigned.intWidth(-5));
+        assertEquals(unsigned.advance('5'), unsigned.intWidth(5));
+
+        for (GlyphStrip hud : new GlyphStrip[]{HudText.WHITE_DIGITS, HudText.GOLD_DIGITS, HudText.YELLOW_DIGITS,
+                HudText.COOLDOWN_DIGITS}) {
+            assertEquals(10 + hud.intWidth(-42), hud.drawInt(gc, -42, 10, 30), 1e-9, "HUD numbers carry their sign");
+        }
+    }
+
+    @Test
+    void testLabelAndDigitsLineUpLikeOneString() {
+        Font font = new Font("Arial", Font.PLAIN, 20);
+        Graphics2D g = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB).createGraphics();
+        FontMetrics metrics = g.getFontMetrics(font);
+        g.dispose();
+
+        TextLabel score = new TextLabel("Arial", false, 20, Color.WHITE, "Score: ");
+        assertEquals(metrics.stringWidth("Score: "), score.getAdvance());
+        assertEquals(metrics.stringWidth("Score: 1250"), score.getAdvance() + strip.intWidth(1250));
+        assertEquals(score.getBaseline(), strip.getBaseline(), "Same font, same baseline");
+    }
+
+    @Test
+    void testEveryGlyphIsOnTheStrip() {
+        PixelReader pixels = strip.getImage().getPixelReader();
+        for (int i = 0; i < DIGITS.length(); i++) {
+            char c = DIGITS.charAt(i);
+            int left = strip.offsetOf(c);
+            int covered = 0;
+            for (int y = 0; y < strip.getHeight(); y++) {
+                for (int x = left; x < left + strip.advance(c); x++) {
+                    if ((pixels.getArgb(x, y) >>> 24) > 0) {
+                        covered++;
+                    }
+                }
+            }
+            assertTrue(covered > 0, c + " is blank");
+        }
+        assertEquals(-1, strip.offsetOf('x'));
+    }
+
+    @Test
+    void testInvalidStrips() {
+        assertThrows(IllegalArgumentException.class, () -> new GlyphStrip("Arial", false, 20, Color.WHITE, ""));
+        assertThrows(IllegalArgumentException.class, () -> new GlyphStrip("Arial", false, 0, Color.WHITE, "0"));
+        assertThrows(IllegalArgumentException.class, () -> new TextLabel("Arial", false, 20, Color.WHITE, null));
+    }
+}
@@ -0,0 +1,79 @@
+package se233.astroBoy;
+
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.TextAlignment;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import se233.astroboy.view.HudText;
+
+import java.util.concurrent.TimeUnit;
+
+// A HUD repaint with fillText of concatenated and formatted strings against HudText's captions and digit strips.
+// Like RotatedSpriteBenchmark it times the drawing thread only. Run with -prof gc to see the allocation per repaint.
+// Run main() after mvn test-compile, with target/classes, target/test-classes and the test classpath.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HudTextBenchmark {
+    private static final double STAGE_WIDTH = 800;
+    private static final double STAGE_HEIGHT = 600;
+
+    @Param({"strings", "glyphs"})
+    public String mode;
+
+    private GraphicsContext gc;
+    private int score;
+    private int combo;
+    private double cooldown;
+
+    @Setup
+    public void setUp() {
+        gc = new Canvas(STAGE_WIDTH, STAGE_HEIGHT).getGraphicsContext2D();
+    }
+
+    @Benchmark
+    public GraphicsContext hud() {
+        // Clearing the whole canvas also drops the queued commands, so they don't pile up between repaints
+        gc.clearRect(0, 0, STAGE_WIDTH, STAGE_HEIGHT);
+        score += 10;
+        combo = (combo + 1) % 9;
+        cooldown = cooldown <= 0 ? 10 : cooldown - 0.1;
+        if (mode.equals("strings")) {
+            // What renderHUD did before HudText
+            gc.setFill(Color.WHITE);
+            gc.setFont(Font.font("Arial", 20));
+            gc.setTextAlign(TextAlignment.LEFT);
+            gc.fillText("Score: " + score, 10, 30);
+            gc.fillText("High Score: " + 25_000, 10, 60);
+            gc.setFill(Color.YELLOW);
+            gc.fillText("Combo x" + combo, 10, 90);
+            gc.setFill(Color.WHITE);
+            gc.fillText("Lives: ", 10, 120);
+            gc.setFill(HudText.BOMB_COOLDOWN_COLOR);
+            gc.setFont(Font.font("Arial", 16));
+            gc.fillText(String.format("Bomb: %.1fs", cooldown), 10, STAGE_HEIGHT - 10);
+        } else {
+            HudText.drawValue(gc, HudText.SCORE, HudText.WHITE_DIGITS, score, 10, 30);
+            HudText.drawValue(gc, HudText.HIGH_SCORE, HudText.WHITE_DIGITS, 25_000, 10, 60);
+            HudText.drawValue(gc, HudText.COMBO, HudText.YELLOW_DIGITS, combo, 10, 90);
+            HudText.LIVES.draw(gc, 10, 120);
+            HudText.drawCooldown(gc, Math.round(cooldown * 10), 10, STAGE_HEIGHT - 10);
+        }
+        return gc;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(HudTextBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build()).run();
+    }
+}
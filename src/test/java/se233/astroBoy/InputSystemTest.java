@@ -0,0 +1,175 @@
+package se233.astroBoy;
+
+import javafx.scene.input.KeyCode;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import se233.astroboy.controller.InputAction;
+import se233.astroboy.controller.InputFrame;
+import se233.astroboy.controller.InputQueue;
+import se233.astroboy.controller.InputRecording;
+import se233.astroboy.controller.InputSystem;
+import se233.astroboy.controller.World;
+import se233.astroboy.model.Assets;
+import se233.astroboy.model.GameState;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class InputSystemTest {
+    private static boolean headless;
+
+    @BeforeAll
+    static void enableHeadless() {
+        headless = Assets.isHeadless();
+        Assets.setHeadless(true);
+    }
+
+    @AfterAll
+    static void restoreHeadless() {
+        Assets.setHeadless(headless);
+    }
+
+    @Test
+    void testQueueKeepsOrderAndDropsWhenFull() {
+        InputQueue queue = new InputQueue(4);
+        for (int event = 1; event <= 4; event++) {
+            assertTrue(queue.offer(event, event * 100L));
+        }
+        assertFalse(queue.offer(5, 500L));
+        assertEquals(1, queue.getDropped());
+        assertEquals(4, queue.size());
+
+        List<Long> drained = new ArrayList<>();
+        assertEquals(4, queue.drain((event, nanos) -> drained.add(event * 1000L + nanos)));
+        assertEquals(List.of(1100L, 2200L, 3300L, 4400L), drained);
+        assertEquals(0, queue.size());
+
+        // Wraps around the ring
+        assertTrue(queue.offer(6, 600L));
+        drained.clear();
+        queue.drain((event, nanos) -> drained.add(event * 1000L + nanos));
+        assertEquals(List.of(6600L), drained);
+    }
+
+    @Test
+    void testQueueRejectsBadCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new InputQueue(0));
+        assertThrows(IllegalArgumentException.class, () -> new InputQueue(100));
+    }
+
+    @Test
+    void testTransitionsFoldIntoFrames() {
+        InputSystem input = new InputSystem();
+        assertTrue(input.keyEvent(KeyCode.W, true, 0));
+        assertTrue(input.keyEvent(KeyCode.SPACE, true, 0));
+        assertTrue(input.keyEvent(KeyCode.SPACE, false, 0));
+        assertFalse(input.keyEvent(KeyCode.Q, true, 0));
+
+        InputFrame frame = input.poll(1, 0);
+        assertEquals(1, frame.getTick());
+        assertTrue(frame.isHeld(InputAction.THRUST));
+        // Tapped between two ticks: not held any more, but the press still counts
+        assertFalse(frame.isHeld(InputAction.FIRE));
+        assertTrue(frame.wasPressed(InputAction.FIRE));
+        assertTrue(frame.isDown(InputAction.FIRE));
+
+        // Held keys carry over, presses don't
+        frame = input.poll(2, 0);
+        assertTrue(frame.isHeld(InputAction.THRUST));
+        assertFalse(frame.wasPressed(InputAction.THRUST));
+        assertFalse(frame.isDown(InputAction.FIRE));
+
+        input.keyEvent(KeyCode.W, false, 0);
+        assertTrue(input.poll(3, 0).isEmpty());
+    }
+
+    @Test
+    void testLatencyIsMeasuredToTheTick() {
+        InputSystem input = new InputSystem();
+        input.keyEvent(KeyCode.LEFT, true, 1_000_000L);
+        input.keyEvent(KeyCode.RIGHT, true, 4_000_000L);
+        input.poll(1, 5_000_000L);
+
+        assertEquals(2, input.getEventCount());
+        assertEquals(1_000_000L, input.getMinLatencyNanos());
+        assertEquals(4_000_000L, input.getMaxLatencyNanos());
+        assertEquals(2_500_000.0, input.getMeanLatencyNanos());
+        assertEquals(1_000_000L, input.getLastLatencyNanos());
+        assertTrue(input.report().startsWith("input events=2"));
+
+        input.resetStatistics();
+        assertEquals(0, input.getEventCount());
+        assertEquals(0, input.getMinLatencyNanos());
+    }
+
+    @Test
+    void testFrameEncodingRoundTrips() {
+        InputFrame frame = new InputFrame(7, InputAction.THRUST.bit() | InputAction.ROTATE_LEFT.bit(),
+                InputAction.FIRE.bit());
+        InputFrame decoded = new InputFrame();
+        decoded.decode(7, frame.encode());
+        assertEquals(frame.getHeld(), decoded.getHeld());
+        assertEquals(frame.getPressed(), decoded.getPressed());
+        assertThrows(IllegalArgumentException.class, () -> new InputFrame(0, 1 << 16, 0));
+    }
+
+    @Test
+    void testRecordingStoresOnlyChanges() {
+        InputSystem input = new InputSystem();
+        InputRecording recording = new InputRecording();
+        input.setRecording(recording);
+
+        input.keyEvent(KeyCode.W, true, 0);
+        for (long tick = 0; tick < 100; tick++) {
+            if (tick == 50) {
+                input.keyEvent(KeyCode.SPACE, true, 0);
+            }
+            if (tick == 80) {
+                input.keyEvent(KeyCode.W, false, 0);
+            }
+            input.poll(tick, 0);
+        }
+        // W pressed, W held, SPACE pressed, SPACE held, W released
+        assertEquals(5, recording.getChangeCount());
+
+        InputFrame frame = new InputFrame();
+        assertTrue(recording.frameAt(10, frame).isHeld(InputAction.THRUST));
+        assertTrue(recording.frameAt(50, frame).wasPressed(InputAction.FIRE));
+        assertFalse(recording.frameAt(51, frame).wasPressed(InputAction.FIRE));
+        assertTrue(recording.frameAt(51, frame).isHeld(InputAction.FIRE));
+        assertFalse(recording.frameAt(90, frame).isHeld(InputAction.THRUST));
+        assertTrue(recording.frameAt(500, frame).isEmpty());
+
+        assertThrows(IllegalArgumentException.class, () -> recording.record(new InputFrame(99, 0, 0)));
+    }
+
+    @Test
+    void testWorldAppliesFrames() {
+        World world = new World(800, 600, 42L);
+        InputFrame frame = new InputFrame();
+
+        frame.set(0, 0, InputAction.FIRE.bit());
+        world.applyInput(frame);
+        assertEquals(GameState.PLAYING, world.getGameState());
+        assertTrue(world.getProjectiles().isEmpty());
+
+        // The same press again fires, now that a game is on
+        world.applyInput(frame);
+        assertEquals(1, world.getProjectiles().size());
+
+        frame.set(1, InputAction.ROTATE_RIGHT.bit(), 0);
+        double rotation = world.getPlayer().getRotation();
+        world.applyInput(frame);
+        world.getPlayer().update();
+        assertTrue(world.getPlayer().getRotation() > rotation);
+
+        frame.set(2, 0, 0);
+        rotation = world.getPlayer().getRotation();
+        world.applyInput(frame);
+        world.getPlayer().update();
+        assertEquals(rotation, world.getPlayer().getRotation());
+    }
+}
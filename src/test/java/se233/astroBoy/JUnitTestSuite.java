@@ -7,7 +7,14 @@ import org.junit.platform.suite.api.SelectClasses;
 import org.junit.platform.suite.api.Suite;
 @Suite
 @SelectClasses({AsteroidsMovementTest.class, BossMovementTest.class, BossShootingTest.class,EnemyMovementTest.class
-        , EnemyShootingTest.class, PlayerMovementsTest.class, PlayerShootingTest.class, ScoreTest.class})
+        , EnemyShootingTest.class, PlayerMovementsTest.class, PlayerShootingTest.class, ScoreTest.class,
+        SpatialHashGridTest.class, CollisionControllerTest.class,
+        BroadphaseTest.class, CollisionKernelTest.class, TargetIndexTest.class,
+        CollisionMaskTest.class, WorldTest.class, FixedTimestepTest.class, EntityStoreTest.class,
+        ObjectPoolTest.class, EntityListTest.class, GameRandomTest.class,
+        ParallelStageTest.class, SimulationLoopTest.class, InputSystemTest.class, BatchRunnerTest.class,
+        AssetsTest.class, SpriteAtlasTest.class, RotatedSpriteCacheTest.class,
+        GameRendererTest.class, GlyphStripTest.class})
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 public class JUnitTestSuite {
 
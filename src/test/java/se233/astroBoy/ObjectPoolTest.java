@@ -0,0 +1,66 @@
+package se233.astroBoy;
+
+import org.junit.jupiter.api.Test;
+import se233.astroboy.model.Explosion;
+import se233.astroboy.model.ObjectPool;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ObjectPoolTest {
+    @Test
+    void testReleasedObjectIsReused() {
+        ObjectPool<StringBuilder> pool = new ObjectPool<>("builders", 4, StringBuilder::new);
+        StringBuilder first = pool.acquire();
+        assertEquals(1, pool.getMisses());
+        assertEquals(0, pool.getHits());
+
+        pool.release(first);
+        assertSame(first, pool.acquire(), "A released object is handed out again");
+        assertEquals(1, pool.getHits());
+        assertEquals(1, pool.getMisses());
+    }
+
+    @Test
+    void testPoolIsBounded() {
+        ObjectPool<StringBuilder> pool = new ObjectPool<>("builders", 2, StringBuilder::new);
+        pool.releaseAll(List.of(new StringBuilder(), new StringBuilder(), new StringBuilder()));
+        assertEquals(2, pool.getFreeCount());
+        assertEquals(1, pool.getDiscarded());
+    }
+
+    @Test
+    void testPrewarmIsNotAMiss() {
+        ObjectPool<StringBuilder> pool = new ObjectPool<>("builders", 8, StringBuilder::new);
+        pool.prewarm(20);
+        assertEquals(8, pool.getFreeCount(), "Prewarming stops at the pool size");
+        for (int i = 0; i < 8; i++) {
+            pool.acquire();
+        }
+        assertEquals(8, pool.getHits());
+        assertEquals(0, pool.getMisses());
+        assertTrue(pool.report().contains("hits=8"));
+
+        pool.resetStatistics();
+        assertEquals(0, pool.getHits());
+    }
+
+    @Test
+    void testResetExplosionRestarts() {
+        Explosion explosion = new Explosion(100, 100);
+        while (!explosion.isFinished()) {
+            explosion.update(1.0 / 60);
+        }
+        explosion.reset(300, 200);
+        assertFalse(explosion.isFinished());
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new ObjectPool<>("bad", -1, StringBuilder::new));
+        assertThrows(IllegalArgumentException.class, () -> new ObjectPool<StringBuilder>("bad", 1, null));
+        ObjectPool<StringBuilder> pool = new ObjectPool<>("builders", 1, StringBuilder::new);
+        assertThrows(IllegalArgumentException.class, () -> pool.release(null));
+    }
+}
@@ -0,0 +1,77 @@
+package se233.astroBoy;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import se233.astroboy.controller.ParallelStage;
+import se233.astroboy.model.Assets;
+import se233.astroboy.model.Asteroid;
+import se233.astroboy.model.GameRandom;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+// Scaling report for the parallel update stage: one asteroid movement tick at 1, 2, 4 and 8 worker threads.
+// Threads beyond the machine's core count only add overhead, so read the results against nproc.
+// Run main() after mvn test-compile, with target/classes, target/test-classes and the test classpath.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParallelStageBenchmark {
+    private static final double DT = 1.0 / 60;
+
+    @Param({"1", "2", "4", "8"})
+    public int threads;
+
+    @Param({"10000", "100000"})
+    public int entities;
+
+    private ForkJoinPool pool;
+    private ParallelStage stage;
+    private List<Asteroid> asteroids;
+
+    @Setup
+    public void setUp() {
+        Assets.setHeadless(true);
+        GameRandom random = new GameRandom(1);
+        asteroids = new ArrayList<>();
+        for (int i = 0; i < entities; i++) {
+            asteroids.add(new Asteroid(random.nextDouble() * 800, random.nextDouble() * 600, 1 + random.nextInt(2),
+                    random));
+        }
+        if (threads == 1) {
+            stage = ParallelStage.serial();
+        } else {
+            pool = new ForkJoinPool(threads);
+            stage = new ParallelStage(pool, 0, ParallelStage.DEFAULT_CHUNK_SIZE);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+
+    @Benchmark
+    public void updateAsteroids(Blackhole blackhole) {
+        blackhole.consume(stage.run(asteroids, asteroid -> {
+            asteroid.update(DT);
+            return asteroid.isMarkedForDestruction();
+        }));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ParallelStageBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,105 @@
+package se233.astroBoy;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import se233.astroboy.controller.ParallelStage;
+import se233.astroboy.controller.World;
+import se233.astroboy.model.Assets;
+import se233.astroboy.model.GameState;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ParallelStageTest {
+    private static ForkJoinPool pool;
+    private static boolean headless;
+
+    @BeforeAll
+    static void setUp() {
+        pool = new ForkJoinPool(4);
+        headless = Assets.isHeadless();
+        Assets.setHeadless(true);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        pool.shutdown();
+        Assets.setHeadless(headless);
+    }
+
+    @Test
+    void testFlagsComeBackInListOrder() {
+        List<int[]> entities = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            entities.add(new int[]{i});
+        }
+        ParallelStage stage = new ParallelStage(pool, 0, 64);
+        assertTrue(stage.isParallel());
+
+        int flagged = stage.run(entities, entity -> {
+            entity[0] += 3;
+            return entity[0] % 7 == 0;
+        });
+
+        int expected = 0;
+        for (int i = 0; i < entities.size(); i++) {
+            assertEquals(i + 3, entities.get(i)[0], "Every entity is updated once");
+            if ((i + 3) % 7 == 0) {
+                assertEquals(i, stage.getFlagged()[expected++]);
+            }
+        }
+        assertEquals(expected, flagged);
+    }
+
+    @Test
+    void testSmallListsRunOnCallingThread() {
+        Thread caller = Thread.currentThread();
+        List<int[]> entities = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            entities.add(new int[1]);
+        }
+        ParallelStage stage = new ParallelStage(pool, 1000, 8);
+        stage.run(entities, entity -> {
+            assertSame(caller, Thread.currentThread());
+            return false;
+        });
+    }
+
+    @Test
+    void testParallelWorldMatchesSerialWorld() {
+        // Chunks of one entity force every list through the fork/join path
+        World serial = new World(800, 600, 17, ParallelStage.serial());
+        World parallel = new World(800, 600, 17, new ParallelStage(pool, 0, 1));
+        serial.startNewGame();
+        parallel.startNewGame();
+        for (int tick = 0; tick < 900; tick++) {
+            for (World world : new World[]{serial, parallel}) {
+                if (world.getGameState() == GameState.GAME_OVER) {
+                    world.startNewGame();
+                }
+                world.getPlayer().setMovingForward(tick % 200 < 60);
+                world.tick();
+            }
+        }
+        assertEquals(serial.getAsteroids().size(), parallel.getAsteroids().size());
+        for (int i = 0; i < serial.getAsteroids().size(); i++) {
+            assertEquals(serial.getAsteroids().get(i).getX(), parallel.getAsteroids().get(i).getX());
+        }
+        assertEquals(serial.getEnemies().size(), parallel.getEnemies().size());
+        for (int i = 0; i < serial.getEnemies().size(); i++) {
+            assertEquals(serial.getEnemies().get(i).getRotation(), parallel.getEnemies().get(i).getRotation());
+        }
+        assertEquals(serial.getEnemyShots().size(), parallel.getEnemyShots().size());
+        assertEquals(serial.getPlayer().getLives(), parallel.getPlayer().getLives());
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new ParallelStage(pool, -1, 8));
+        assertThrows(IllegalArgumentException.class, () -> new ParallelStage(pool, 0, 0));
+    }
+}
@@ -0,0 +1,98 @@
+package se233.astroBoy;
+
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import se233.astroboy.model.Assets;
+import se233.astroboy.model.Asteroid;
+import se233.astroboy.model.AtlasSprite;
+import se233.astroboy.model.RotatedSpriteCache;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// A frame of spinning asteroids drawn with a transform per sprite against one drawImage of a pre-rotated frame.
+// Times the work on the drawing thread, which is where the save/rotate/restore churn lands: the canvas commands
+// are rasterised later on the render thread, which a benchmark without a window never runs.
+// Run main() after mvn test-compile, with target/classes, target/test-classes and the test classpath.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RotatedSpriteBenchmark {
+    private static final double STAGE_WIDTH = 800;
+    private static final double STAGE_HEIGHT = 600;
+    private static final String[] SHEETS = {
+            "/se233/astroboy/asset/asteroid1.png", "/se233/astroboy/asset/asteroid2.png"};
+    private static final double[] SIZES = {35, 70};
+
+    @Param({"transform", "cached"})
+    public String mode;
+
+    @Param({"100", "1000"})
+    public int asteroids;
+
+    private GraphicsContext gc;
+    private AtlasSprite[] sprites;
+    private double[] x;
+    private double[] y;
+    private double[] size;
+    private double[] rotation;
+    private double[] rotationSpeed;
+    private RotatedSpriteCache previous;
+
+    @Setup
+    public void setUp() {
+        Assets.setHeadless(false);
+        previous = RotatedSpriteCache.getShared();
+        RotatedSpriteCache.setShared(mode.equals("cached")
+                ? new RotatedSpriteCache(RotatedSpriteCache.DEFAULT_BUCKETS,
+                        (long) RotatedSpriteCache.DEFAULT_MAX_MEGABYTES << 20)
+                : null);
+
+        gc = new Canvas(STAGE_WIDTH, STAGE_HEIGHT).getGraphicsContext2D();
+        Random random = new Random(42);
+        sprites = new AtlasSprite[asteroids];
+        x = new double[asteroids];
+        y = new double[asteroids];
+        size = new double[asteroids];
+        rotation = new double[asteroids];
+        rotationSpeed = new double[asteroids];
+        for (int i = 0; i < asteroids; i++) {
+            int kind = random.nextInt(SHEETS.length);
+            sprites[i] = AtlasSprite.of(SHEETS[kind]);
+            size[i] = SIZES[kind];
+            x[i] = random.nextDouble() * (STAGE_WIDTH - size[i]);
+            y[i] = random.nextDouble() * (STAGE_HEIGHT - size[i]);
+            rotation[i] = random.nextDouble() * 360;
+            rotationSpeed[i] = (random.nextDouble() - 0.5) * 4;
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        RotatedSpriteCache.setShared(previous);
+    }
+
+    @Benchmark
+    public GraphicsContext frame() {
+        // Clearing the whole canvas also drops the queued commands, so they don't pile up between frames
+        gc.clearRect(0, 0, STAGE_WIDTH, STAGE_HEIGHT);
+        for (int i = 0; i < asteroids; i++) {
+            rotation[i] += rotationSpeed[i];
+            Asteroid.draw(gc, sprites[i], x[i], y[i], size[i], size[i], rotation[i], 2, 3);
+        }
+        return gc;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(RotatedSpriteBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,149 @@
+package se233.astroBoy;
+
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.PixelReader;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import se233.astroboy.model.AtlasSprite;
+import se233.astroboy.model.RotatedSpriteCache;
+import se233.astroboy.model.SpriteAtlas;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RotatedSpriteCacheTest {
+    private static final String BOSS = "/se233/astroboy/asset/boss.png";
+    private static final String ENEMY = "/se233/astroboy/asset/enemy.png";
+    private static final String EXPLOSION = "/se233/astroboy/asset/explosion1.png";
+    private static final long PLENTY = 64L << 20;
+
+    private static SpriteAtlas atlas;
+
+    @BeforeAll
+    static void packSprites() {
+        // Built directly, so it doesn't matter whether another test left headless mode on
+        atlas = SpriteAtlas.build(List.of(BOSS, ENEMY, EXPLOSION), SpriteAtlas.PAGE_SIZE);
+    }
+
+    @Test
+    void testBuckets() {
+        RotatedSpriteCache cache = new RotatedSpriteCache(64, PLENTY);
+        assertEquals(0, cache.bucketOf(0));
+        assertEquals(0, cache.bucketOf(2.8));
+        assertEquals(1, cache.bucketOf(2.9));
+        assertEquals(0, cache.bucketOf(359));
+        assertEquals(63, cache.bucketOf(-5.625));
+        assertEquals(16, cache.bucketOf(90 + 360 * 3));
+    }
+
+    @Test
+    void testSameBucketReusesTheImage() {
+        RotatedSpriteCache cache = new RotatedSpriteCache(64, PLENTY);
+        AtlasSprite enemy = atlas.find(ENEMY);
+        Image first = cache.get(enemy, 0, 0, 32, 32, 32, 32, 45);
+        assertSame(first, cache.get(enemy, 0, 0, 32, 32, 32, 32, 46));
+        assertNotSame(first, cache.get(enemy, 0, 0, 32, 32, 32, 32, 60));
+        assertNotSame(first, cache.get(enemy, 0, 0, 32, 32, 64, 64, 45), "Another size is another frame");
+        assertEquals(1, cache.getHits());
+        assertEquals(3, cache.getMisses());
+        assertEquals(2, cache.getFrameCount());
+    }
+
+    @Test
+    void testRotatedBounds() {
+        RotatedSpriteCache cache = new RotatedSpriteCache(8, PLENTY);
+        AtlasSprite boss = atlas.find(BOSS);
+        Image upright = cache.get(boss, 0, 0, 60, 50, 60, 50, 0);
+        assertEquals(60, upright.getWidth());
+        assertEquals(50, upright.getHeight());
+
+        Image sideways = cache.get(boss, 0, 0, 60, 50, 60, 50, 90);
+        assertEquals(50, sideways.getWidth());
+        assertEquals(60, sideways.getHeight());
+
+        // Room for the corners, keeping the frame's parity so the centre stays put
+        Image diagonal = cache.get(boss, 0, 0, 60, 50, 60, 50, 45);
+        assertTrue(diagonal.getWidth() >= 60 * Math.sqrt(0.5) + 50 * Math.sqrt(0.5));
+        assertEquals(0, ((int) diagonal.getWidth() - 60) % 2);
+        assertEquals(0, ((int) diagonal.getHeight() - 50) % 2);
+    }
+
+    @Test
+    void testHalfTurnFlipsTheFrame() {
+        RotatedSpriteCache cache = new RotatedSpriteCache(64, PLENTY);
+        AtlasSprite boss = atlas.find(BOSS);
+        int[] upright = pixels(cache.get(boss, 60, 0, 60, 50, 60, 50, 0));
+        int[] turned = pixels(cache.get(boss, 60, 0, 60, 50, 60, 50, 180));
+        int[] source = new int[60 * 50];
+        boss.getPage().getPixelReader().getPixels(boss.getX() + 60, boss.getY(), 60, 50,
+                PixelFormat.getIntArgbPreInstance(), source, 0, 60);
+
+        assertArrayEquals(source, upright, "At its own size and angle the frame is copied as is");
+        for (int y = 0; y < 50; y++) {
+            for (int x = 0; x < 60; x++) {
+                assertEquals(upright[y * 60 + x], turned[(49 - y) * 60 + (59 - x)], "Pixel " + x + "," + y);
+            }
+        }
+    }
+
+    @Test
+    void testScalingDownAveragesCoverage() {
+        RotatedSpriteCache cache = new RotatedSpriteCache(64, PLENTY);
+        AtlasSprite explosion = atlas.find(EXPLOSION);
+        int[] full = pixels(cache.get(explosion, 96, 0, 48, 48, 48, 48, 0));
+        int[] quarter = pixels(cache.get(explosion, 96, 0, 48, 48, 12, 12, 0));
+        long fullAlpha = 0;
+        for (int p : full) {
+            fullAlpha += p >>> 24;
+        }
+        long quarterAlpha = 0;
+        for (int p : quarter) {
+            quarterAlpha += p >>> 24;
+        }
+        // Every small pixel is the mean of 16 large ones, so total coverage shrinks 16 times
+        assertEquals(fullAlpha / 16.0, quarterAlpha, fullAlpha / 16.0 * 0.02 + 144);
+    }
+
+    @Test
+    void testLeastRecentlyDrawnFrameIsEvicted() {
+        AtlasSprite enemy = atlas.find(ENEMY);
+        // Room for about two 32 x 32 frames with one rotation each
+        RotatedSpriteCache cache = new RotatedSpriteCache(64, 2 * 2 * 4 * 32 * 32 + 100);
+        Image first = cache.get(enemy, 0, 0, 32, 32, 32, 32, 0);
+        cache.get(enemy, 0, 0, 32, 32, 31, 31, 0);
+        // Touch the first frame, so the second is the oldest
+        assertSame(first, cache.get(enemy, 0, 0, 32, 32, 32, 32, 0));
+        cache.get(enemy, 0, 0, 32, 32, 30, 30, 0);
+
+        assertEquals(1, cache.getEvictions());
+        assertEquals(2, cache.getFrameCount());
+        assertTrue(cache.getBytes() <= cache.getMaxBytes());
+        assertSame(first, cache.get(enemy, 0, 0, 32, 32, 32, 32, 0), "The recently drawn frame is kept");
+    }
+
+    @Test
+    void testOversizedFrameIsStillDrawn() {
+        RotatedSpriteCache cache = new RotatedSpriteCache(64, 16);
+        AtlasSprite enemy = atlas.find(ENEMY);
+        Image image = cache.get(enemy, 0, 0, 32, 32, 32, 32, 0);
+        assertEquals(32, image.getWidth());
+        assertEquals(1, cache.getFrameCount());
+    }
+
+    @Test
+    void testInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> new RotatedSpriteCache(0, PLENTY));
+        assertThrows(IllegalArgumentException.class, () -> new RotatedSpriteCache(64, 0));
+    }
+
+    private static int[] pixels(Image image) {
+        int width = (int) image.getWidth();
+        int height = (int) image.getHeight();
+        int[] pixels = new int[width * height];
+        PixelReader reader = image.getPixelReader();
+        reader.getPixels(0, 0, width, height, PixelFormat.getIntArgbPreInstance(), pixels, 0, width);
+        return pixels;
+    }
+}
@@ -7,19 +7,20 @@ import static org.junit.jupiter.api.Assertions.*;
 
 
 public class ScoreTest {
+    private Score score;
 
     @BeforeEach
     void setUp() {
-        Score.resetScore();
+        score = new Score();
 
     }
 
     @Test
     void testZeroPoints() {
-        Score.addPoints(0);
-        assertEquals(0, Score.getCurrentScore());
-        assertEquals(0, Score.getHighScore());
-        assertEquals(1, Score.getCombo());
+        score.addPoints(0);
+        assertEquals(0, score.getCurrentScore());
+        assertEquals(0, score.getHighScore());
+        assertEquals(1, score.getCombo());
     }
 
 
@@ -27,31 +28,57 @@ public class ScoreTest {
     void testMaxComboMultiplier() {
         // Test very high combo to ensure multiplier doesn't grow indefinitely
         for (int i = 0; i < 10; i++) {
-            Score.addPoints(100);
+            score.addPoints(100);
         }
 
-        int finalScore = Score.getCurrentScore();
+        int finalScore = score.getCurrentScore();
         assertTrue(finalScore > 0, "Score should be positive with high combo");
-        assertTrue(Score.getCombo() == 10, "Combo should reach 10");
+        assertTrue(score.getCombo() == 10, "Combo should reach 10");
     }
 
 
         @Test
         void testAddPoints() {
-            Score.addPoints(100);
-            assertEquals(100, Score.getCurrentScore());
+            score.addPoints(100);
+            assertEquals(100, score.getCurrentScore());
         }
 
         @Test
         void testMaxComboLimit() {
             // Assuming there might be a reasonable max combo limit, let's test a high number of consecutive hits
             for (int i = 0; i < 20; i++) {
-                Score.addPoints(100);
+                score.addPoints(100);
             }
             // The score should still be calculated correctly even with a very high combo
-            assertTrue(Score.getCombo() > 0);
-            assertTrue(Score.getCurrentScore() > 0);
+            assertTrue(score.getCombo() > 0);
+            assertTrue(score.getCurrentScore() > 0);
         }
 
 
+    @Test
+    void testComboEndsAfterWindow() {
+        score.addPoints(100);
+        score.update(1.0);
+        score.addPoints(100);
+        assertEquals(2, score.getCombo());
+
+        // More than two seconds of game time without a hit
+        score.update(2.5);
+        score.addPoints(100);
+        assertEquals(1, score.getCombo());
+    }
+
+    @Test
+    void testScoresAreIndependent() {
+        Score other = new Score();
+        score.addPoints(100);
+        assertEquals(100, score.getHighScore());
+        assertEquals(0, other.getCurrentScore());
+        assertEquals(0, other.getHighScore());
+
+        // A new game keeps the high score
+        score.resetScore();
+        assertEquals(0, score.getCurrentScore());
+        assertEquals(100, score.getHighScore());
+    }
 }
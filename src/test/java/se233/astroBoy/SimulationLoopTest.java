@@ -0,0 +1,197 @@
+package se233.astroBoy;
+
+import javafx.scene.input.KeyCode;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import se233.astroboy.controller.FixedTimestep;
+import se233.astroboy.controller.FrameSnapshot;
+import se233.astroboy.controller.SimulationLoop;
+import se233.astroboy.controller.TripleBuffer;
+import se233.astroboy.controller.World;
+import se233.astroboy.model.Assets;
+import se233.astroboy.model.GameState;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SimulationLoopTest {
+    private static final double STAGE_WIDTH = 800;
+    private static final double STAGE_HEIGHT = 600;
+
+    private static boolean headless;
+
+    @BeforeAll
+    static void enableHeadless() {
+        headless = Assets.isHeadless();
+        Assets.setHeadless(true);
+    }
+
+    @AfterAll
+    static void restoreHeadless() {
+        Assets.setHeadless(headless);
+    }
+
+    @Test
+    void testTripleBufferHandsOverTheNewestFrame() {
+        TripleBuffer<int[]> buffer = new TripleBuffer<>(() -> new int[1]);
+        int[] before = buffer.acquire();
+        assertFalse(buffer.hasFresh());
+
+        buffer.getWriteBuffer()[0] = 1;
+        buffer.publish();
+        buffer.getWriteBuffer()[0] = 2;
+        buffer.publish();
+        assertTrue(buffer.hasFresh());
+
+        // Frame 1 was never read and got replaced by frame 2
+        int[] read = buffer.acquire();
+        assertEquals(2, read[0]);
+        assertNotSame(before, read);
+        assertFalse(buffer.hasFresh());
+
+        // Nothing new: the reader keeps its frame
+        assertSame(read, buffer.acquire());
+    }
+
+    @Test
+    void testTripleBufferNeverSharesABuffer() {
+        TripleBuffer<int[]> buffer = new TripleBuffer<>(() -> new int[1]);
+        for (int frame = 0; frame < 20; frame++) {
+            buffer.getWriteBuffer()[0] = frame;
+            buffer.publish();
+            if (frame % 3 == 0) {
+                int[] read = buffer.acquire();
+                assertEquals(frame, read[0]);
+                assertNotSame(read, buffer.getWriteBuffer());
+            }
+        }
+
+        Set<int[]> seen = new HashSet<>();
+        for (int frame = 0; frame < 6; frame++) {
+            seen.add(buffer.getWriteBuffer());
+            buffer.publish();
+            seen.add(buffer.acquire());
+        }
+        assertEquals(3, seen.size());
+    }
+
+    @Test
+    void testQueuedKeysApplyOnTheNextStep() {
+        World world = new World(STAGE_WIDTH, STAGE_HEIGHT, 42L);
+        SimulationLoop simulation = new SimulationLoop(world, new FixedTimestep(60, 5));
+
+        simulation.submitKey(KeyCode.SPACE, true);
+        assertEquals(GameState.MENU, world.getGameState());
+        simulation.step();
+        assertEquals(GameState.PLAYING, world.getGameState());
+
+        simulation.submitKey(KeyCode.W, true);
+        double startY = world.getPlayer().getY();
+        for (int i = 0; i < 10; i++) {
+            simulation.step();
+        }
+        // The ship starts facing up, so thrust moves it up
+        assertTrue(world.getPlayer().getY() < startY);
+        assertEquals(11, simulation.getTick());
+    }
+
+    @Test
+    void testSnapshotMirrorsTheWorld() {
+        World world = new World(STAGE_WIDTH, STAGE_HEIGHT, 42L);
+        SimulationLoop simulation = new SimulationLoop(world, new FixedTimestep(60, 5));
+        simulation.submitKey(KeyCode.SPACE, true);
+        simulation.step();
+        simulation.publish(1_000L);
+
+        FrameSnapshot frame = simulation.acquireSnapshot();
+        assertEquals(GameState.PLAYING, frame.getGameState());
+        assertEquals(1, frame.getTick());
+        assertEquals(world.getPlayer().getLives(), frame.getLives());
+        assertTrue(frame.isPlayerVisible());
+        assertEquals(world.getPlayer().getX(), frame.getPlayerX());
+
+        int asteroidRows = 0;
+        for (int row = 0; row < frame.size(); row++) {
+            if (frame.getKind(row) == FrameSnapshot.Kind.ASTEROID) {
+                assertEquals(world.getAsteroids().get(asteroidRows).getX(), frame.getX(row));
+                asteroidRows++;
+            }
+        }
+        assertEquals(world.getAsteroids().size(), asteroidRows);
+
+        // Interpolation factor runs from 0 at capture to 1 a step later
+        long step = 1_000_000_000L / 60;
+        assertEquals(0.0, frame.alphaAt(1_000L));
+        assertEquals(0.5, frame.alphaAt(1_000L + step / 2), 1e-6);
+        assertEquals(1.0, frame.alphaAt(1_000L + 3 * step));
+
+        // Ticking the world on doesn't touch the published snapshot
+        double snapshotPlayerX = frame.getPlayerX();
+        simulation.submitKey(KeyCode.D, true);
+        for (int i = 0; i < 30; i++) {
+            simulation.step();
+        }
+        assertEquals(snapshotPlayerX, frame.getPlayerX());
+        assertSame(frame, simulation.acquireSnapshot());
+    }
+
+    @Test
+    void testFailingTickStopsTheLoopVisibly() throws InterruptedException {
+        for (Throwable thrown : new Throwable[]{new IllegalStateException("broken tick"), new Error("broken tick")}) {
+            World world = new World(STAGE_WIDTH, STAGE_HEIGHT, 42L) {
+                @Override
+                public void tick(double dt) {
+                    if (getGameState() == GameState.PLAYING) {
+                        throw sneaky(thrown);
+                    }
+                    super.tick(dt);
+                }
+            };
+            SimulationLoop simulation = new SimulationLoop(world, new FixedTimestep(240, 5));
+            simulation.start();
+            try {
+                simulation.submitKey(KeyCode.SPACE, true);
+                long deadline = System.nanoTime() + 5_000_000_000L;
+                while (simulation.isRunning() && System.nanoTime() < deadline) {
+                    Thread.sleep(5);
+                }
+                assertFalse(simulation.isRunning(), "The loop ends on a failed tick");
+                assertSame(thrown, simulation.getFailure(), "The failure is kept for the FX thread");
+            } finally {
+                simulation.stop();
+            }
+        }
+    }
+
+    // Lets tick, which declares no checked exceptions, throw an Error or a RuntimeException alike
+    private static RuntimeException sneaky(Throwable thrown) {
+        if (thrown instanceof Error error) {
+            throw error;
+        }
+        return (RuntimeException) thrown;
+    }
+
+    @Test
+    void testSimulationThreadPublishesSnapshots() throws InterruptedException {
+        World world = new World(STAGE_WIDTH, STAGE_HEIGHT, 42L);
+        SimulationLoop simulation = new SimulationLoop(world, new FixedTimestep(240, 5));
+        simulation.start();
+        try {
+            simulation.submitKey(KeyCode.SPACE, true);
+            long deadline = System.nanoTime() + 5_000_000_000L;
+            FrameSnapshot frame = simulation.acquireSnapshot();
+            while (frame.getGameState() != GameState.PLAYING && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+                frame = simulation.acquireSnapshot();
+            }
+            assertEquals(GameState.PLAYING, frame.getGameState());
+            assertTrue(frame.getTick() > 0);
+        } finally {
+            simulation.stop();
+        }
+        assertFalse(simulation.isRunning());
+    }
+}
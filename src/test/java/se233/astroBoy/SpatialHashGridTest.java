@@ -0,0 +1,124 @@
+package se233.astroBoy;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import se233.astroboy.controller.CollisionController;
+import se233.astroboy.controller.SpatialHashGrid;
+import se233.astroboy.model.Asteroid;
+import se233.astroboy.model.Character;
+import se233.astroboy.model.Enemy;
+import se233.astroboy.model.Player;
+import se233.astroboy.model.Projectile;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SpatialHashGridTest {
+    private static final double STAGE_WIDTH = 800;
+    private static final double STAGE_HEIGHT = 600;
+
+    private Random random;
+    private Player player;
+
+    @BeforeEach
+    void setUp() {
+        random = new Random(233);
+        player = new Player(STAGE_WIDTH / 2, STAGE_HEIGHT / 2, STAGE_WIDTH, STAGE_HEIGHT);
+    }
+
+    @Test
+    void testQueryMatchesBruteForceForAsteroids() {
+        List<Asteroid> asteroids = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            asteroids.add(new Asteroid(randomX(), randomY(), 1 + random.nextInt(2)));
+        }
+        List<Projectile> projectiles = randomProjectiles(400);
+
+        SpatialHashGrid<Asteroid> grid = new SpatialHashGrid<>(STAGE_WIDTH, STAGE_HEIGHT);
+        grid.rebuild(asteroids);
+
+        int hits = 0;
+        for (Projectile projectile : projectiles) {
+            List<Asteroid> expected = bruteForceHits(projectile, asteroids);
+            List<Asteroid> actual = new ArrayList<>();
+            for (Asteroid candidate : grid.query(projectile)) {
+                if (CollisionController.checkCollision(projectile, candidate)) {
+                    actual.add(candidate);
+                }
+            }
+            assertEquals(expected, actual, "Grid should report the same hits, in the same order, as the brute-force loop");
+            hits += expected.size();
+        }
+        assertTrue(hits > 0, "Random layout should produce some collisions");
+    }
+
+    @Test
+    void testFirstCollisionMatchesBruteForceForEnemies() {
+        List<Enemy> enemies = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            enemies.add(new Enemy(randomX(), randomY(), 1 + random.nextInt(2), player));
+        }
+        SpatialHashGrid<Enemy> grid = new SpatialHashGrid<>(STAGE_WIDTH, STAGE_HEIGHT);
+        grid.rebuild(enemies);
+
+        for (Projectile projectile : randomProjectiles(400)) {
+            List<Enemy> expected = bruteForceHits(projectile, enemies);
+            Enemy first = CollisionController.findFirstCollision(projectile, grid);
+            assertEquals(expected.isEmpty() ? null : expected.get(0), first);
+        }
+    }
+
+    @Test
+    void testObjectsOutsideStageStillCollide() {
+        // Asteroids are allowed to drift up to their width past the left and top edges
+        Asteroid asteroid = new Asteroid(-60, -60, 2);
+        Projectile projectile = new Projectile(-20, -20, 0, STAGE_WIDTH, STAGE_HEIGHT);
+
+        SpatialHashGrid<Asteroid> grid = new SpatialHashGrid<>(STAGE_WIDTH, STAGE_HEIGHT);
+        grid.rebuild(List.of(asteroid));
+
+        assertTrue(CollisionController.checkCollision(projectile, asteroid));
+        assertSame(asteroid, CollisionController.findFirstCollision(projectile, grid));
+    }
+
+    @Test
+    void testLargeObjectReportedOnce() {
+        Asteroid asteroid = new Asteroid(100, 100, 2);
+        Player probe = new Player(90, 90, STAGE_WIDTH, STAGE_HEIGHT);
+
+        // Small cells force the asteroid into many cells
+        SpatialHashGrid<Asteroid> grid = new SpatialHashGrid<>(STAGE_WIDTH, STAGE_HEIGHT, 8);
+        grid.rebuild(List.of(asteroid));
+
+        assertEquals(1, grid.query(probe).size());
+    }
+
+    private List<Projectile> randomProjectiles(int count) {
+        List<Projectile> projectiles = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            projectiles.add(new Projectile(randomX(), randomY(), random.nextDouble() * 360, STAGE_WIDTH, STAGE_HEIGHT));
+        }
+        return projectiles;
+    }
+
+    private <T extends Character> List<T> bruteForceHits(Character probe, List<T> targets) {
+        List<T> hits = new ArrayList<>();
+        for (T target : targets) {
+            if (CollisionController.checkCollision(probe, target)) {
+                hits.add(target);
+            }
+        }
+        return hits;
+    }
+
+    private double randomX() {
+        return -70 + random.nextDouble() * (STAGE_WIDTH + 70);
+    }
+
+    private double randomY() {
+        return -70 + random.nextDouble() * (STAGE_HEIGHT + 70);
+    }
+}
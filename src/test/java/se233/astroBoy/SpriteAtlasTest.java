@@ -0,0 +1,146 @@
+package se233.astroBoy;
+
+import javafx.scene.image.PixelReader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import se233.astroboy.model.Assets;
+import se233.astroboy.model.AtlasSprite;
+import se233.astroboy.model.SpriteAtlas;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SpriteAtlasTest {
+    private static final String BOSS = "/se233/astroboy/asset/boss.png";
+    private static final String EXPLOSION = "/se233/astroboy/asset/explosion1.png";
+
+    private boolean headless;
+
+    @BeforeEach
+    void setUp() {
+        headless = Assets.isHeadless();
+        Assets.setHeadless(false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        Assets.setHeadless(headless);
+    }
+
+    @Test
+    void testPackedRectanglesDontOverlap() {
+        int[] widths = {100, 40, 300, 40, 250, 90, 10};
+        int[] heights = {50, 120, 30, 40, 250, 60, 10};
+        int pageSize = 320;
+        int[] placements = SpriteAtlas.pack(widths, heights, pageSize);
+
+        for (int i = 0; i < widths.length; i++) {
+            assertTrue(placements[3 * i + 1] + widths[i] <= pageSize, "Rectangle " + i + " is off the page");
+            assertTrue(placements[3 * i + 2] + heights[i] <= pageSize, "Rectangle " + i + " is off the page");
+            for (int j = i + 1; j < widths.length; j++) {
+                if (placements[3 * i] != placements[3 * j]) {
+                    continue;
+                }
+                boolean apart = placements[3 * i + 1] + widths[i] <= placements[3 * j + 1]
+                        || placements[3 * j + 1] + widths[j] <= placements[3 * i + 1]
+                        || placements[3 * i + 2] + heights[i] <= placements[3 * j + 2]
+                        || placements[3 * j + 2] + heights[j] <= placements[3 * i + 2];
+                assertTrue(apart, "Rectangles " + i + " and " + j + " overlap");
+            }
+        }
+        assertTrue(placements[3 * 4] == 0, "The tallest rectangle opens the first page");
+    }
+
+    @Test
+    void testOversizedSpriteIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> SpriteAtlas.pack(new int[]{300}, new int[]{20}, 256));
+        assertThrows(IllegalArgumentException.class, () -> SpriteAtlas.pack(new int[]{1, 2}, new int[]{1}, 256));
+    }
+
+    @Test
+    void testSharedAtlasHoldsEverySheetOnOnePage() {
+        SpriteAtlas atlas = SpriteAtlas.getShared();
+        assertEquals(1, atlas.getPageCount());
+        for (String sheet : SpriteAtlas.SHEETS) {
+            assertTrue(atlas.contains(sheet), sheet + " is not packed");
+            assertSame(atlas.getPage(0), atlas.find(sheet).getPage());
+        }
+        assertEquals(SpriteAtlas.SHEETS.size(), atlas.index().lines().count());
+        assertSame(atlas.find(BOSS), AtlasSprite.of(BOSS));
+    }
+
+    @Test
+    void testBuildPacksTheSharedAtlas() {
+        SpriteAtlas packed = SpriteAtlas.loadPacked();
+        assertNotNull(packed, "process-classes writes the atlas to " + SpriteAtlas.PACKED_DIR);
+        SpriteAtlas fresh = SpriteAtlas.build(SpriteAtlas.SHEETS, SpriteAtlas.PAGE_SIZE);
+        assertEquals(fresh.index(), packed.index(), "The packed atlas is stale");
+        assertEquals(packed.index(), SpriteAtlas.getShared().index());
+
+        PixelReader expected = fresh.getPage(0).getPixelReader();
+        PixelReader actual = packed.getPage(0).getPixelReader();
+        assertEquals(fresh.getPage(0).getWidth(), packed.getPage(0).getWidth());
+        assertEquals(fresh.getPage(0).getHeight(), packed.getPage(0).getHeight());
+        for (int y = 0; y < fresh.getPage(0).getHeight(); y += 3) {
+            for (int x = 0; x < fresh.getPage(0).getWidth(); x += 3) {
+                assertEquals(expected.getArgb(x, y), actual.getArgb(x, y), "Page differs at " + x + "," + y);
+            }
+        }
+    }
+
+    @Test
+    void testPagePixelsMatchTheSheet() throws IOException {
+        SpriteAtlas atlas = SpriteAtlas.build(List.of(BOSS, EXPLOSION), SpriteAtlas.PAGE_SIZE);
+        for (String path : List.of(BOSS, EXPLOSION)) {
+            AtlasSprite sprite = atlas.find(path);
+            BufferedImage source;
+            try (InputStream stream = getClass().getResourceAsStream(path)) {
+                source = ImageIO.read(stream);
+            }
+            assertEquals(source.getWidth(), sprite.getWidth());
+            assertEquals(source.getHeight(), sprite.getHeight());
+
+            PixelReader page = sprite.getPage().getPixelReader();
+            for (int y = 0; y < source.getHeight(); y += 7) {
+                for (int x = 0; x < source.getWidth(); x += 5) {
+                    assertSameColor(source.getRGB(x, y), page.getArgb(sprite.getX() + x, sprite.getY() + y),
+                            path + " differs at " + x + "," + y);
+                }
+            }
+        }
+    }
+
+    // Pages are stored premultiplied, so colours only match after multiplying by alpha; fully transparent pixels
+    // lose their colour altogether
+    private static void assertSameColor(int expected, int actual, String message) {
+        int alpha = expected >>> 24;
+        assertEquals(alpha, actual >>> 24, message);
+        for (int shift = 0; shift < 24; shift += 8) {
+            assertEquals(((expected >> shift) & 0xFF) * alpha / 255.0, ((actual >> shift) & 0xFF) * alpha / 255.0,
+                    1.0, message);
+        }
+    }
+
+    @Test
+    void testUnlistedAssetUsesItsOwnImage() {
+        String background = "/se233/astroboy/asset/Background_space.png";
+        AtlasSprite sprite = SpriteAtlas.getShared().find(background);
+        assertNotNull(sprite);
+        assertEquals(-1, sprite.getPageIndex());
+        assertSame(Assets.loadImage(background), sprite.getPage());
+        assertSame(sprite, SpriteAtlas.getShared().find(background));
+        assertNull(SpriteAtlas.getShared().find("/se233/astroboy/asset/no_such_sheet.png"));
+    }
+
+    @Test
+    void testHeadlessHasNoSprites() {
+        Assets.setHeadless(true);
+        assertNull(AtlasSprite.of(BOSS));
+    }
+}
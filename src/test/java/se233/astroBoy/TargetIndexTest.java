@@ -0,0 +1,97 @@
+package se233.astroBoy;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import se233.astroboy.controller.TargetIndex;
+import se233.astroboy.model.Asteroid;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TargetIndexTest {
+    private static final double STAGE_WIDTH = 800;
+    private static final double STAGE_HEIGHT = 600;
+
+    private Random random;
+    private List<Asteroid> asteroids;
+    private TargetIndex<Asteroid> index;
+
+    @BeforeEach
+    void setUp() {
+        random = new Random(233);
+        asteroids = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            // Include spawn positions just outside the stage
+            double x = -30 + random.nextDouble() * (STAGE_WIDTH + 60);
+            double y = -30 + random.nextDouble() * (STAGE_HEIGHT + 60);
+            asteroids.add(new Asteroid(x, y, 1 + random.nextInt(2)));
+        }
+        index = new TargetIndex<>(STAGE_WIDTH, STAGE_HEIGHT);
+        index.rebuild(asteroids);
+    }
+
+    @Test
+    void testNearestMatchesLinearScan() {
+        Predicate<Asteroid> large = asteroid -> asteroid.getSize() == 2;
+        for (int i = 0; i < 300; i++) {
+            double x = random.nextDouble() * STAGE_WIDTH;
+            double y = random.nextDouble() * STAGE_HEIGHT;
+            assertSame(linearNearest(x, y, asteroid -> true), index.nearest(x, y, asteroid -> true));
+            assertSame(linearNearest(x, y, large), index.nearest(x, y, large));
+        }
+    }
+
+    @Test
+    void testNearestReturnsNullWhenNothingMatches() {
+        assertNull(index.nearest(400, 300, asteroid -> false));
+        index.rebuild(List.of());
+        assertNull(index.nearest(400, 300, asteroid -> true));
+    }
+
+    @Test
+    void testWithinRadiusMatchesLinearScan() {
+        for (int i = 0; i < 100; i++) {
+            double x = random.nextDouble() * STAGE_WIDTH;
+            double y = random.nextDouble() * STAGE_HEIGHT;
+            double radius = 20 + random.nextDouble() * 250;
+
+            List<Asteroid> expected = new ArrayList<>();
+            for (Asteroid asteroid : asteroids) {
+                if (distanceSq(asteroid, x, y) <= radius * radius) {
+                    expected.add(asteroid);
+                }
+            }
+            List<Asteroid> actual = new ArrayList<>();
+            index.withinRadius(x, y, radius, actual);
+            assertEquals(expected, actual, "Radius query should keep list order");
+        }
+    }
+
+    @Test
+    void testInvalidCellSizeRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new TargetIndex<Asteroid>(STAGE_WIDTH, STAGE_HEIGHT, 0));
+    }
+
+    private Asteroid linearNearest(double x, double y, Predicate<Asteroid> filter) {
+        Asteroid nearest = null;
+        double best = Double.MAX_VALUE;
+        for (Asteroid asteroid : asteroids) {
+            double distance = distanceSq(asteroid, x, y);
+            if (distance < best && filter.test(asteroid)) {
+                best = distance;
+                nearest = asteroid;
+            }
+        }
+        return nearest;
+    }
+
+    private static double distanceSq(Asteroid asteroid, double x, double y) {
+        double dx = asteroid.getX() - x;
+        double dy = asteroid.getY() - y;
+        return dx * dx + dy * dy;
+    }
+}
@@ -0,0 +1,193 @@
+package se233.astroBoy;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import se233.astroboy.controller.CollisionController;
+import se233.astroboy.controller.CollisionMatrix;
+import se233.astroboy.controller.World;
+import se233.astroboy.model.Asteroid;
+import se233.astroboy.model.Assets;
+import se233.astroboy.model.GameState;
+import se233.astroboy.model.EntityStore;
+import se233.astroboy.model.Player;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WorldTest {
+    private static final double STAGE_WIDTH = 800;
+    private static final double STAGE_HEIGHT = 600;
+
+    private static boolean headless;
+
+    @BeforeAll
+    static void enableHeadless() {
+        headless = Assets.isHeadless();
+        Assets.setHeadless(true);
+    }
+
+    @AfterAll
+    static void restoreHeadless() {
+        Assets.setHeadless(headless);
+    }
+
+    @Test
+    void testWorldStartsInMenuWithBackgroundObjects() {
+        World world = new World(STAGE_WIDTH, STAGE_HEIGHT);
+        assertEquals(GameState.MENU, world.getGameState());
+        assertEquals(3, world.getAsteroids().size());
+        assertEquals(1, world.getEnemies().size());
+
+        world.tick();
+        assertEquals(GameState.MENU, world.getGameState());
+    }
+
+    @Test
+    void testStartNewGame() {
+        World world = new World(STAGE_WIDTH, STAGE_HEIGHT);
+        world.startNewGame();
+
+        assertEquals(GameState.PLAYING, world.getGameState());
+        assertEquals(0, world.getScore().getCurrentScore());
+        assertEquals(2, world.getAsteroids().size());
+        assertEquals(STAGE_WIDTH / 2, world.getPlayer().getX(), 0.001);
+        assertTrue(world.getProjectiles().isEmpty());
+    }
+
+    @Test
+    void testHeadlessSoak() {
+        World world = new World(STAGE_WIDTH, STAGE_HEIGHT, 2024L);
+        world.startNewGame();
+        for (Asteroid asteroid : world.getAsteroids()) {
+            assertNotNull(asteroid.getCollisionMask(), "Collision masks don't need the JavaFX toolkit");
+        }
+
+        // A minute of play at 60 ticks per second with the player drifting, spinning and firing
+        int games = 1;
+        int bestScore = 0;
+        boolean lateAsteroids = false;
+        boolean lateEnemies = false;
+        for (int tick = 0; tick < 3600; tick++) {
+            if (world.getGameState() == GameState.GAME_OVER) {
+                world.startNewGame();
+                games++;
+            }
+            world.getPlayer().setRotatingLeft(true);
+            world.getPlayer().setMovingForward(tick % 240 < 120);
+            world.fireProjectile();
+            world.tick();
+            bestScore = Math.max(bestScore, world.getScore().getCurrentScore());
+            // The field can be shot empty for a moment, so look over the last ten seconds
+            if (tick >= 3000) {
+                lateAsteroids |= !world.getAsteroids().isEmpty();
+                lateEnemies |= !world.getEnemies().isEmpty();
+            }
+        }
+        assertTrue(games >= 1);
+        assertTrue(bestScore > 0, "A minute of steady fire hits something");
+        assertEquals(bestScore, world.getScore().getHighScore());
+        assertTrue(lateAsteroids, "Spawning keeps running");
+        assertTrue(lateEnemies, "Spawning keeps running");
+    }
+
+    @Test
+    void testSameSeedReplaysTheSameGame() {
+        World first = new World(STAGE_WIDTH, STAGE_HEIGHT, 233);
+        World second = new World(STAGE_WIDTH, STAGE_HEIGHT, 233);
+        first.startNewGame();
+        second.startNewGame();
+        for (int tick = 0; tick < 900; tick++) {
+            for (World world : new World[]{first, second}) {
+                if (world.getGameState() == GameState.GAME_OVER) {
+                    world.startNewGame();
+                }
+                world.getPlayer().setRotatingLeft(tick % 300 < 150);
+                world.getPlayer().setMovingForward(tick % 240 < 120);
+                world.tick();
+            }
+        }
+        assertEquals(first.getAsteroids().size(), second.getAsteroids().size());
+        for (int i = 0; i < first.getAsteroids().size(); i++) {
+            assertEquals(first.getAsteroids().get(i).getX(), second.getAsteroids().get(i).getX());
+            assertEquals(first.getAsteroids().get(i).getY(), second.getAsteroids().get(i).getY());
+        }
+        assertEquals(first.getEnemies().size(), second.getEnemies().size());
+        assertEquals(first.getEnemyShots().size(), second.getEnemyShots().size());
+        assertEquals(first.getPlayer().getLives(), second.getPlayer().getLives());
+    }
+
+    @Test
+    void testWorldsOnOneThreadKeepTheirOwnCollisionCounts() {
+        World first = new World(STAGE_WIDTH, STAGE_HEIGHT, 233);
+        World second = new World(STAGE_WIDTH, STAGE_HEIGHT, 233);
+        first.startNewGame();
+        second.startNewGame();
+        for (int tick = 0; tick < 600 && first.getGameState() == GameState.PLAYING; tick++) {
+            first.tick();
+        }
+        String counts = first.getCollisionCounters().report();
+        assertFalse(counts.isEmpty(), "The game ran collision tests");
+        assertTrue(second.getCollisionCounters().report().isEmpty(), "The idle world counted nothing");
+
+        second.startNewGame();
+        assertEquals(counts, first.getCollisionCounters().report(), "Another game's restart doesn't reset these");
+    }
+
+    @Test
+    void testNewGameReleasesBombBlasts() {
+        World world = new World(STAGE_WIDTH, STAGE_HEIGHT, 233);
+        world.startNewGame();
+        int free = world.getBombExplosionPool().getFreeCount();
+        assertFalse(world.getAsteroids().isEmpty());
+        world.activateBomb();
+        assertFalse(world.getBombExplosions().isEmpty(), "The bomb went off");
+
+        world.startNewGame();
+        assertTrue(world.getBombExplosions().isEmpty(), "The blast doesn't carry into the new game");
+        assertEquals(free, world.getBombExplosionPool().getFreeCount());
+    }
+
+    @Test
+    void testSteadyFireReusesShotRows() {
+        // Shots pass through everything, so nothing scores and the player can't die
+        CollisionMatrix matrix = CollisionController.getCollisionMatrix();
+        CollisionController.setCollisionMatrix(new CollisionMatrix());
+        try {
+            World world = new World(STAGE_WIDTH, STAGE_HEIGHT);
+            world.startNewGame();
+            EntityStore shots = world.getProjectiles();
+            int capacity = 0;
+            for (int tick = 0; tick < 600; tick++) {
+                if (tick == 120) {
+                    capacity = shots.capacity();
+                }
+                world.getPlayer().setRotatingLeft(true);
+                world.fireProjectile();
+                world.tick();
+            }
+            assertFalse(shots.isEmpty());
+            assertEquals(capacity, shots.capacity(), "Once warm, firing reuses the store's rows");
+        } finally {
+            CollisionController.setCollisionMatrix(matrix);
+        }
+    }
+
+    @Test
+    void testPlayerDeathEndsGame() {
+        World world = new World(STAGE_WIDTH, STAGE_HEIGHT);
+        world.startNewGame();
+        Player player = world.getPlayer();
+        while (player.isAlive()) {
+            player.hit();
+            // Let the invulnerability window run out
+            for (int i = 0; i < 150; i++) {
+                player.update();
+            }
+        }
+        world.tick();
+        assertEquals(GameState.GAME_OVER, world.getGameState());
+
+        world.tick();
+        assertEquals(GameState.GAME_OVER, world.getGameState(), "Nothing moves after game over");
+    }
+}